@@ -0,0 +1,82 @@
+package org.phenopackets.phenopackettools.benchmark;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.converter.converters.V1ToV2Converter;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.PhenopacketSchemaVersion;
+import org.phenopackets.phenopackettools.io.PhenopacketPrinter;
+import org.phenopackets.phenopackettools.io.PhenopacketPrinterFactory;
+import org.phenopackets.phenopackettools.test.TestData;
+import org.phenopackets.phenopackettools.test.synthetic.SyntheticDataGenerator;
+import org.phenopackets.schema.v2.Cohort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Inputs for the benchmarks.
+ * <p>
+ * The input is described by a {@link String}: {@code phenopacket} and {@code family} denote the comprehensive
+ * phenopacket and family, and {@code cohort-N} denotes a synthetic cohort with {@code N} members.
+ * The v2 phenopacket and family are converted from the comprehensive {@link TestData.V1} elements,
+ * the cohort members are made by {@link SyntheticDataGenerator}.
+ */
+class BenchmarkData {
+
+    private static final String COHORT_PREFIX = "cohort-";
+    private static final V1ToV2Converter CONVERTER = V1ToV2Converter.of(true);
+    private static final SyntheticDataGenerator GENERATOR = SyntheticDataGenerator.builder()
+            .seed(42)
+            .biosamples(1)
+            .build();
+
+    private BenchmarkData() {
+        // static utility class
+    }
+
+    static PhenopacketElement element(String input) {
+        if (input.equals("phenopacket"))
+            return PhenopacketElement.PHENOPACKET;
+        else if (input.equals("family"))
+            return PhenopacketElement.FAMILY;
+        else if (input.startsWith(COHORT_PREFIX))
+            return PhenopacketElement.COHORT;
+        throw new IllegalArgumentException("Unknown input " + input);
+    }
+
+    static Message message(String input) {
+        return switch (element(input)) {
+            case PHENOPACKET -> CONVERTER.convertPhenopacket(TestData.V1.comprehensivePhenopacket());
+            case FAMILY -> CONVERTER.convertFamily(TestData.V1.comprehensiveFamily());
+            case COHORT -> cohort(Integer.parseInt(input.substring(COHORT_PREFIX.length())));
+        };
+    }
+
+    static Message v1Message(PhenopacketElement element) {
+        return switch (element) {
+            case PHENOPACKET -> TestData.V1.comprehensivePhenopacket();
+            case FAMILY -> TestData.V1.comprehensiveFamily();
+            case COHORT -> TestData.V1.comprehensiveCohort();
+        };
+    }
+
+    /**
+     * @return a synthetic cohort with {@code size} members.
+     */
+    static Cohort cohort(int size) {
+        return GENERATOR.cohort(COHORT_PREFIX + size, size);
+    }
+
+    static byte[] serialize(Message message, PhenopacketFormat format) {
+        PhenopacketPrinter printer = PhenopacketPrinterFactory.getInstance().forFormat(PhenopacketSchemaVersion.V2, format);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            printer.print(message, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return os.toByteArray();
+    }
+}
@@ -0,0 +1,32 @@
+package org.phenopackets.phenopackettools.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Run the benchmarks selected by the JMH command line {@code args} with the GC profiler
+ * to report the allocation rate along with the timings.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList()) {
+            // Let JMH handle the informational options.
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        new Runner(new OptionsBuilder()
+                .parent(cmdOptions)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
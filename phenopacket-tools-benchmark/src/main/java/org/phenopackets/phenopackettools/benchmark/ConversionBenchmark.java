@@ -0,0 +1,44 @@
+package org.phenopackets.phenopackettools.benchmark;
+
+import com.google.protobuf.Message;
+import org.openjdk.jmh.annotations.*;
+import org.phenopackets.phenopackettools.converter.converters.V1ToV2Converter;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the comprehensive v1 top-level elements to v2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({"PHENOPACKET", "FAMILY", "COHORT"})
+    public PhenopacketElement element;
+
+    @Param({"false", "true"})
+    public boolean convertVariants;
+
+    private V1ToV2Converter converter;
+    private Message v1;
+
+    @Setup
+    public void setUp() {
+        converter = V1ToV2Converter.of(convertVariants);
+        v1 = BenchmarkData.v1Message(element);
+    }
+
+    @Benchmark
+    public Message convert() {
+        return switch (element) {
+            case PHENOPACKET -> converter.convertPhenopacket((org.phenopackets.schema.v1.Phenopacket) v1);
+            case FAMILY -> converter.convertFamily((org.phenopackets.schema.v1.Family) v1);
+            case COHORT -> converter.convertCohort((org.phenopackets.schema.v1.Cohort) v1);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package org.phenopackets.phenopackettools.benchmark;
+
+import com.google.protobuf.Message;
+import org.openjdk.jmh.annotations.*;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.PhenopacketSchemaVersion;
+import org.phenopackets.phenopackettools.io.PhenopacketParser;
+import org.phenopackets.phenopackettools.io.PhenopacketParserFactory;
+import org.phenopackets.phenopackettools.io.PhenopacketPrinter;
+import org.phenopackets.phenopackettools.io.PhenopacketPrinterFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and printing of v2 top-level elements in all {@link PhenopacketFormat}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IoBenchmark {
+
+    @Param({"PROTOBUF", "JSON", "YAML"})
+    public PhenopacketFormat format;
+
+    @Param({"phenopacket", "family", "cohort-10", "cohort-100"})
+    public String input;
+
+    private PhenopacketElement element;
+    private Message message;
+    private byte[] payload;
+    private PhenopacketParser parser;
+    private PhenopacketPrinter printer;
+    private ByteArrayOutputStream os;
+
+    @Setup
+    public void setUp() {
+        element = BenchmarkData.element(input);
+        message = BenchmarkData.message(input);
+        payload = BenchmarkData.serialize(message, format);
+        parser = PhenopacketParserFactory.getInstance().forFormat(PhenopacketSchemaVersion.V2);
+        printer = PhenopacketPrinterFactory.getInstance().forFormat(PhenopacketSchemaVersion.V2, format);
+        os = new ByteArrayOutputStream(payload.length);
+    }
+
+    @Benchmark
+    public Message parse() throws IOException {
+        return parser.parse(format, element, new ByteArrayInputStream(payload));
+    }
+
+    @Benchmark
+    public int print() throws IOException {
+        os.reset();
+        printer.print(message, os);
+        return os.size();
+    }
+}
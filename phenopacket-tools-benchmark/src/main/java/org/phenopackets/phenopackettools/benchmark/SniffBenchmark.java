@@ -0,0 +1,54 @@
+package org.phenopackets.phenopackettools.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.util.format.ElementSniffException;
+import org.phenopackets.phenopackettools.util.format.ElementSniffer;
+import org.phenopackets.phenopackettools.util.format.FormatSniffer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sniffing of the format and of the top-level element from the bytes the sniffers read from the front of the input.
+ * The element sniffing is not implemented for protobuf.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SniffBenchmark {
+
+    // The number of bytes read by `FormatSniffer` and `ElementSniffer` from an input stream.
+    private static final int FORMAT_BUFFER_SIZE = 32;
+    private static final int ELEMENT_BUFFER_SIZE = 1024;
+
+    @Param({"JSON", "YAML"})
+    public PhenopacketFormat format;
+
+    @Param({"phenopacket", "family", "cohort-10"})
+    public String input;
+
+    private byte[] formatPayload;
+    private byte[] elementPayload;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = BenchmarkData.serialize(BenchmarkData.message(input), format);
+        formatPayload = Arrays.copyOf(payload, Math.min(payload.length, FORMAT_BUFFER_SIZE));
+        elementPayload = Arrays.copyOf(payload, Math.min(payload.length, ELEMENT_BUFFER_SIZE));
+    }
+
+    @Benchmark
+    public PhenopacketFormat sniffFormat() {
+        return FormatSniffer.sniff(formatPayload);
+    }
+
+    @Benchmark
+    public PhenopacketElement sniffElement() throws ElementSniffException {
+        return ElementSniffer.sniff(elementPayload, format);
+    }
+}
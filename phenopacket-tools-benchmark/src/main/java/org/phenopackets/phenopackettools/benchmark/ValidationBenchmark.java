@@ -0,0 +1,84 @@
+package org.phenopackets.phenopackettools.benchmark;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.metadata.MetaDataValidators;
+import org.phenopackets.phenopackettools.validator.jsonschema.JsonSchemaValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.jsonschema.structural.StructuralValidators;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of v2 top-level elements by {@link org.phenopackets.phenopackettools.validator.core.metadata.MetaDataValidator},
+ * by the structural validator of {@link StructuralValidators},
+ * and by the complete {@link JsonSchemaValidationWorkflowRunner}, starting either from a message or from JSON bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"phenopacket", "family", "cohort-10", "cohort-100"})
+    public String input;
+
+    private Message message;
+    private byte[] json;
+    private PhenopacketValidator<MessageOrBuilder> metaDataValidator;
+    private PhenopacketValidator<MessageOrBuilder> structuralValidator;
+    private ValidationWorkflowRunner<MessageOrBuilder> runner;
+
+    @Setup
+    public void setUp() {
+        message = BenchmarkData.message(input);
+        json = BenchmarkData.serialize(message, PhenopacketFormat.JSON);
+        // The runners and validators match the element of the `input`.
+        //noinspection unchecked
+        switch (BenchmarkData.element(input)) {
+            case PHENOPACKET -> {
+                metaDataValidator = (PhenopacketValidator<MessageOrBuilder>) (PhenopacketValidator<?>) MetaDataValidators.phenopacketValidator();
+                structuralValidator = (PhenopacketValidator<MessageOrBuilder>) (PhenopacketValidator<?>) StructuralValidators.phenopacketValidator();
+                runner = (ValidationWorkflowRunner<MessageOrBuilder>) (ValidationWorkflowRunner<?>) JsonSchemaValidationWorkflowRunner.phenopacketBuilder().build();
+            }
+            case FAMILY -> {
+                metaDataValidator = (PhenopacketValidator<MessageOrBuilder>) (PhenopacketValidator<?>) MetaDataValidators.familyValidator();
+                structuralValidator = (PhenopacketValidator<MessageOrBuilder>) (PhenopacketValidator<?>) StructuralValidators.familyValidator();
+                runner = (ValidationWorkflowRunner<MessageOrBuilder>) (ValidationWorkflowRunner<?>) JsonSchemaValidationWorkflowRunner.familyBuilder().build();
+            }
+            case COHORT -> {
+                metaDataValidator = (PhenopacketValidator<MessageOrBuilder>) (PhenopacketValidator<?>) MetaDataValidators.cohortValidator();
+                structuralValidator = (PhenopacketValidator<MessageOrBuilder>) (PhenopacketValidator<?>) StructuralValidators.cohortValidator();
+                runner = (ValidationWorkflowRunner<MessageOrBuilder>) (ValidationWorkflowRunner<?>) JsonSchemaValidationWorkflowRunner.cohortBuilder().build();
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ValidationResult> metaDataValidator() {
+        return metaDataValidator.validate(message);
+    }
+
+    @Benchmark
+    public List<ValidationResult> structuralValidator() {
+        return structuralValidator.validate(message);
+    }
+
+    @Benchmark
+    public ValidationResults workflowFromMessage() {
+        return runner.validate(message);
+    }
+
+    @Benchmark
+    public ValidationResults workflowFromJson() {
+        return runner.validate(json);
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * JMH benchmarks of the hot paths of <em>phenopacket-tools</em>: parsing and printing, format and element sniffing,
+ * conversion of v1 elements to v2, and validation.
+ * <p>
+ * Build the benchmarks with {@code ./mvnw -pl phenopacket-tools-benchmark -am package} and run them with
+ * {@code java -jar phenopacket-tools-benchmark/target/benchmarks.jar}. The runner accepts the standard JMH options,
+ * e.g. {@code -p input=cohort-10000} to benchmark a larger synthetic cohort, and reports the allocation rate
+ * via the JMH GC profiler.
+ */
+package org.phenopackets.phenopackettools.benchmark;
@@ -9,6 +9,8 @@ module org.phenopackets.phenopackettools.cli {
     requires org.monarchinitiative.phenol.io;
 
     requires info.picocli;
+    requires jdk.httpserver;
+    requires com.fasterxml.jackson.core;
     requires org.apache.commons.csv;
     requires org.slf4j;
     requires ch.qos.logback.classic;
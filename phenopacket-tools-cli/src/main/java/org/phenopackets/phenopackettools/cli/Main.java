@@ -3,6 +3,8 @@ package org.phenopackets.phenopackettools.cli;
 import org.phenopackets.phenopackettools.cli.command.ValidateCommand;
 import org.phenopackets.phenopackettools.cli.command.ConvertCommand;
 import org.phenopackets.phenopackettools.cli.command.ExamplesCommand;
+import org.phenopackets.phenopackettools.cli.command.MergeCommand;
+import org.phenopackets.phenopackettools.cli.command.ServeCommand;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
@@ -22,7 +24,9 @@ import static picocli.CommandLine.Help.Ansi.Style.*;
                 AutoComplete.GenerateCompletion.class,
                 ConvertCommand.class,
                 ValidateCommand.class,
+                MergeCommand.class,
                 ExamplesCommand.class,
+                ServeCommand.class,
         },
         usageHelpWidth = Main.USAGE_WIDTH,
         footer = Main.FOOTER)
@@ -1,6 +1,8 @@
 package org.phenopackets.phenopackettools.cli.command;
 
 import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.io.FilePayload;
+import org.phenopackets.phenopackettools.io.ParsedFile;
 import org.phenopackets.phenopackettools.io.PhenopacketParser;
 import org.phenopackets.phenopackettools.io.PhenopacketParserFactory;
 import org.phenopackets.phenopackettools.core.PhenopacketElement;
@@ -16,8 +18,10 @@ import picocli.CommandLine;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A command that provides routines for reading as well as {@link PhenopacketFormat}s and {@link PhenopacketElement}s
@@ -26,6 +30,8 @@ import java.util.List;
 public abstract class BaseIOCommand extends BaseCommand {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BaseIOCommand.class);
+    // The number of the input files to read and decode ahead of the processing.
+    private static final int READ_AHEAD = 2 * Runtime.getRuntime().availableProcessors();
 
     private final PhenopacketParserFactory parserFactory;
 
@@ -45,12 +51,28 @@ public abstract class BaseIOCommand extends BaseCommand {
                         "Default: an educated guess from the input"})
         public PhenopacketElement element = null;
 
+        @CommandLine.Option(names = {"--input-dir"},
+                description = {"Path to directory with the inputs.",
+                        "The directory is searched recursively"})
+        public Path inputDirectory = null;
+
+        @CommandLine.Option(names = {"--glob"},
+                description = {"Glob pattern to select the inputs, relative to the input directory.",
+                        "Default: " + PhenopacketParser.DEFAULT_GLOB})
+        public String glob = null;
+
+        @CommandLine.Option(names = {"--shard"},
+                converter = Shard.Converter.class,
+                description = {"Process only the i-th of n shards of the inputs, e.g. 2/8.",
+                        "The inputs are assigned to the shards by their paths"})
+        public Shard shard = null;
+
     }
 
     @CommandLine.Parameters(
             paramLabel = "phenopacket file(s)",
             description = {
-                    "Input phenopacket(s).",
+                    "Input phenopacket(s) or ZIP archive(s) with phenopackets.",
                     "Leave empty for STDIN"
             }
     )
@@ -61,47 +83,307 @@ public abstract class BaseIOCommand extends BaseCommand {
     }
 
     /**
-     * Attempt to read the input in the provided {@code schemaVersion} and exit upon any failure. As a side effect,
-     * {@link org.phenopackets.phenopackettools.cli.command.BaseIOCommand.InputSection#format}
-     * and {@link org.phenopackets.phenopackettools.cli.command.BaseIOCommand.InputSection#element}
-     * fields are set after the function returns.
+     * Attempt to read the input in the provided {@code schemaVersion} and exit upon any failure.
+     * <p>
+     * The inputs are read from STDIN, unless the positional parameters, {@code --input-dir}, or {@code --glob}
+     * are provided. The files are read lazily, as the stream is consumed, while a bounded number of files
+     * are read and decoded ahead in parallel. The format and the element of each file are sniffed
+     * unless provided by the user. Close the stream after use.
      * <p>
-     * Note that the function does <em>not</em> return if reading fails.
+     * The inputs with {@code .zip} suffix are read as ZIP archives, without extracting the archives to disk.
+     * The entries are decoded in parallel with a bounded read-ahead, like the files. The path of an entry
+     * is the archive path followed by the entry name, e.g. {@code release.zip/cohort/pp-1.json}.
+     * The archives are read after the other inputs.
+     * <p>
+     * If {@code --shard} is provided, only the files and the archive entries assigned to the shard are read.
+     * The files of the input directory are assigned by the path relative to the directory, and the archive entries
+     * by the entry name.
+     * <p>
+     * Note that the function does <em>not</em> return if reading STDIN fails, and the application exits
+     * when the stream reaches an input that cannot be read.
      */
-    protected List<MessageAndPath> readMessagesOrExit(PhenopacketSchemaVersion schemaVersion) {
+    protected Stream<MessageAndPath> readMessagesOrExit(PhenopacketSchemaVersion schemaVersion) {
         PhenopacketParser parser = parserFactory.forFormat(schemaVersion);
-        if (inputs == null) {
-            // The user did not provide positional parameters, assuming a single input is coming from STDIN.
+        ForkJoinPool executor = ForkJoinPool.commonPool();
+        return readOrExit(new InputReader<>() {
+            @Override
+            public MessageAndPath readStdin(InputStream is) throws IOException {
+                Message message = parser.parse(inputSection.format, inputSection.element, is);
+                return new MessageAndPath(message, inputSection.format, inputSection.element, null, null);
+            }
+
+            @Override
+            public Stream<MessageAndPath> readFiles(Stream<Path> paths) {
+                return parser.parseAll(paths, inputSection.format, inputSection.element, READ_AHEAD, executor)
+                        .map(pf -> new MessageAndPath(pf.message(), pf.format(), pf.element(), pf.path(), pf.path().getFileName().toString()));
+            }
+
+            @Override
+            public Stream<MessageAndPath> readDirectory(Path directory) throws IOException {
+                // The files of the input directory are named by the path relative to the directory.
+                return parser.parseDirectory(directory, inputSection.glob, BaseIOCommand.this::isInShard,
+                                inputSection.format, inputSection.element, READ_AHEAD, executor)
+                        .map(pf -> new MessageAndPath(pf.message(), pf.format(), pf.element(), pf.path(), toName(directory.relativize(pf.path()))));
+            }
+
+            @Override
+            public Stream<MessageAndPath> readZip(Path zip) throws IOException {
+                return parser.parseZip(zip, BaseIOCommand.this::isInShard, inputSection.format, inputSection.element, READ_AHEAD, executor)
+                        .map(entry -> new MessageAndPath(entry.message(), entry.format(), entry.element(), zip.resolve(entry.name()), entry.name()));
+            }
+        });
+    }
+
+    /**
+     * Read the inputs like {@link #readMessagesOrExit(PhenopacketSchemaVersion)} but without parsing the inputs.
+     * The format and the element of each input are sniffed unless provided by the user.
+     */
+    protected Stream<PayloadAndPath> readPayloadsOrExit() {
+        ForkJoinPool executor = ForkJoinPool.commonPool();
+        return readOrExit(new InputReader<>() {
+            @Override
+            public PayloadAndPath readStdin(InputStream is) throws IOException {
+                return new PayloadAndPath(is.readAllBytes(), inputSection.format, inputSection.element, null, null);
+            }
+
+            @Override
+            public Stream<PayloadAndPath> readFiles(Stream<Path> paths) {
+                return PhenopacketParser.readAll(paths, inputSection.format, inputSection.element, READ_AHEAD, executor)
+                        .map(fp -> new PayloadAndPath(fp.payload(), fp.format(), fp.element(), fp.path(), fp.path().getFileName().toString()));
+            }
+
+            @Override
+            public Stream<PayloadAndPath> readDirectory(Path directory) throws IOException {
+                return PhenopacketParser.readDirectory(directory, inputSection.glob, BaseIOCommand.this::isInShard,
+                                inputSection.format, inputSection.element, READ_AHEAD, executor)
+                        .map(fp -> new PayloadAndPath(fp.payload(), fp.format(), fp.element(), fp.path(), toName(directory.relativize(fp.path()))));
+            }
+
+            @Override
+            public Stream<PayloadAndPath> readZip(Path zip) throws IOException {
+                return PhenopacketParser.readZip(zip, BaseIOCommand.this::isInShard, inputSection.format, inputSection.element, READ_AHEAD, executor)
+                        .map(entry -> new PayloadAndPath(entry.payload(), entry.format(), entry.element(), zip.resolve(entry.name()), entry.name()));
+            }
+        });
+    }
+
+    private <T> Stream<T> readOrExit(InputReader<T> reader) {
+        if (!hasFileInputs()) {
+            // The user did not provide any file inputs, assuming a single input is coming from STDIN.
+            if (inputSection.shard != null)
+                LOGGER.warn("Ignoring the shard {} since the input is coming from STDIN", inputSection.shard);
             InputStream is = System.in;
             try {
                 setFormatAndElement(is);
-                Message message = parser.parse(inputSection.format, inputSection.element, is);
-                return List.of(new MessageAndPath(message, null));
+                return Stream.of(reader.readStdin(is));
             } catch (IOException e) {
                 System.err.println("Unable to read STDIN: " + e.getMessage() + "\nPlease check the input format.");
             }
             System.exit(1);
-        } else {
-            // Assuming a one or more inputs are provided via positional parameters.
-            //
-            // Picocli should ensure that `input` is never an empty list.
-            // The `input` is `null` if no positional parameters were supplied.
-            assert !inputs.isEmpty();
-
-            List<MessageAndPath> messages = new ArrayList<>();
-            for (Path input : inputs) {
-                try (InputStream is = new BufferedInputStream(Files.newInputStream(input))) {
-                    setFormatAndElement(is);
-                    Message message = parser.parse(inputSection.format, inputSection.element, is);
-                    messages.add(new MessageAndPath(message, input));
-                } catch (IOException e) {
-                    System.err.printf("Unable to read input file %s: %s\nPlease check the input format.%n", input.toAbsolutePath(), e.getMessage());
-                    System.exit(1);
-                }
+            return null; // Cannot happen since System.exit() never returns, but to make the compiler happy...
+        }
+
+        // Picocli should ensure that `inputs` is never an empty list.
+        // The `inputs` is `null` if no positional parameters were supplied.
+        List<Path> positional = inputs == null ? List.of() : inputs;
+        assert inputs == null || !inputs.isEmpty();
+
+        Stream<T> files = reader.readFiles(positional.stream().filter(p -> !isZipArchive(p)).filter(this::isInShard));
+        if (inputSection.inputDirectory != null || inputSection.glob != null) {
+            Path directory = inputSection.inputDirectory == null ? Path.of("") : inputSection.inputDirectory;
+            try {
+                files = Stream.concat(files, reader.readDirectory(directory));
+            } catch (IOException e) {
+                System.err.printf("Unable to read input directory %s: %s%n", directory.toAbsolutePath(), e.getMessage());
+                System.exit(1);
             }
-            return messages;
         }
-        return null; // Cannot happen since System.exit() never returns, but to make the compiler happy...
+
+        Stream<T> entries = readZipArchivesOrExit(reader, positional.stream()
+                .filter(BaseIOCommand::isZipArchive)
+                .toList());
+
+        return exitOnError(Stream.concat(files, entries));
+    }
+
+    /**
+     * Read a single input {@code path} in the provided {@code schemaVersion}. Unlike
+     * {@link #readMessagesOrExit(PhenopacketSchemaVersion)}, the failure is reported to the caller.
+     */
+    protected MessageAndPath readMessage(PhenopacketSchemaVersion schemaVersion, Path path) throws IOException {
+        PhenopacketParser parser = parserFactory.forFormat(schemaVersion);
+        try (Stream<ParsedFile> files = parser.parseAll(Stream.of(path), inputSection.format, inputSection.element, 1, Runnable::run)) {
+            ParsedFile pf = files.findFirst().orElseThrow();
+            return new MessageAndPath(pf.message(), pf.format(), pf.element(), pf.path(), pf.path().getFileName().toString());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Read a single input {@code path} without parsing the input. Unlike {@link #readPayloadsOrExit()},
+     * the failure is reported to the caller.
+     */
+    protected PayloadAndPath readPayload(Path path) throws IOException {
+        try (Stream<FilePayload> files = PhenopacketParser.readAll(Stream.of(path), inputSection.format, inputSection.element, 1, Runnable::run)) {
+            FilePayload fp = files.findFirst().orElseThrow();
+            return new PayloadAndPath(fp.payload(), fp.format(), fp.element(), fp.path(), fp.path().getFileName().toString());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Parse the {@code payload} read by {@link #readPayloadsOrExit()} or {@link #readPayload(Path)}
+     * in the provided {@code schemaVersion}.
+     */
+    protected Message parsePayload(PhenopacketSchemaVersion schemaVersion, PayloadAndPath payload) throws IOException {
+        PhenopacketParser parser = parserFactory.forFormat(schemaVersion);
+        return parser.parse(payload.format(), payload.element(), new ByteArrayInputStream(payload.payload()));
+    }
+
+    /**
+     * @return {@code true} if the input at the {@code relative} path should be processed by this process
+     * or if no shard was requested
+     */
+    protected boolean isInShard(Path relative) {
+        return inputSection.shard == null || inputSection.shard.contains(relative);
+    }
+
+    private boolean isInShard(String entryName) {
+        return inputSection.shard == null || inputSection.shard.contains(entryName);
+    }
+
+    /**
+     * Join the elements of the {@code relative} path with {@code /}, the separator of the ZIP entry names.
+     */
+    private static String toName(Path relative) {
+        StringBuilder name = new StringBuilder();
+        for (Path element : relative) {
+            if (!name.isEmpty())
+                name.append('/');
+            name.append(element);
+        }
+        return name.toString();
+    }
+
+    /**
+     * @return {@code true} if the user provided the inputs as positional parameters, {@code --input-dir}, or {@code --glob}
+     */
+    protected boolean hasFileInputs() {
+        return inputs != null || inputSection.inputDirectory != null || inputSection.glob != null;
+    }
+
+    /**
+     * Read the entries of the {@code zips} lazily. An archive is opened once the consumer reaches its entries,
+     * and closed once the entries are consumed.
+     */
+    private <T> Stream<T> readZipArchivesOrExit(InputReader<T> reader, List<Path> zips) {
+        ZipEntries<T> entries = new ZipEntries<>(reader, zips.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(entries, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(entries::close);
+    }
+
+    private static <T> Stream<T> openZipArchiveOrExit(InputReader<T> reader, Path zip) {
+        try {
+            LOGGER.info("Reading entries from {}", zip.toAbsolutePath());
+            return reader.readZip(zip);
+        } catch (IOException e) {
+            System.err.printf("Unable to read ZIP archive %s: %s\nPlease check the input format.%n", zip.toAbsolutePath(), e.getMessage());
+            System.exit(1);
+            return null; // Cannot happen since System.exit() never returns, but to make the compiler happy...
+        }
+    }
+
+    /**
+     * Reads the inputs either as parsed messages or as payloads. The format and the element
+     * of the STDIN are set before reading the STDIN.
+     */
+    private interface InputReader<T> {
+
+        T readStdin(InputStream is) throws IOException;
+
+        Stream<T> readFiles(Stream<Path> paths);
+
+        Stream<T> readDirectory(Path directory) throws IOException;
+
+        Stream<T> readZip(Path zip) throws IOException;
+    }
+
+    private static class ZipEntries<T> implements Iterator<T> {
+
+        private final InputReader<T> reader;
+        private final Iterator<Path> zips;
+        private Stream<T> current = Stream.empty();
+        private Iterator<T> entries = Collections.emptyIterator();
+
+        private ZipEntries(InputReader<T> reader, Iterator<Path> zips) {
+            this.reader = reader;
+            this.zips = zips;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!entries.hasNext()) {
+                current.close();
+                if (!zips.hasNext())
+                    return false;
+                current = openZipArchiveOrExit(reader, zips.next());
+                entries = current.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return entries.next();
+        }
+
+        private void close() {
+            current.close();
+        }
+    }
+
+    /**
+     * Exit the application if the {@code stream} reaches an input that cannot be read.
+     */
+    private static <T> Stream<T> exitOnError(Stream<T> stream) {
+        Iterator<T> iterator = stream.iterator();
+        Iterator<T> guarded = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNext();
+                } catch (UncheckedIOException e) {
+                    return exit(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return iterator.next();
+                } catch (UncheckedIOException e) {
+                    exit(e);
+                    return null; // Cannot happen since System.exit() never returns, but to make the compiler happy...
+                }
+            }
+
+            private boolean exit(UncheckedIOException e) {
+                System.err.printf("%s\nPlease check the input format.%n", e.getCause().getMessage());
+                System.exit(1);
+                return false;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(guarded, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(stream::close);
+    }
+
+    protected static boolean isZipArchive(Path path) {
+        Path fileName = path.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(".zip");
     }
 
     /**
@@ -156,6 +438,17 @@ public abstract class BaseIOCommand extends BaseCommand {
         }
     }
 
-    protected record MessageAndPath(Message message, Path path) {}
+    /**
+     * @param path the path of the input or {@code null} if the input came from STDIN
+     * @param name the path of the input relative to where the input was found, using {@code /} as the separator,
+     *             e.g. the entry name of a ZIP archive entry, or {@code null} if the input came from STDIN
+     */
+    protected record MessageAndPath(Message message, PhenopacketFormat format, PhenopacketElement element, Path path, String name) {}
+
+    /**
+     * The bytes of an input read by {@link #readPayloadsOrExit()}, with the same {@code path} and {@code name}
+     * as in {@link MessageAndPath}.
+     */
+    protected record PayloadAndPath(byte[] payload, PhenopacketFormat format, PhenopacketElement element, Path path, String name) {}
 
 }
@@ -15,10 +15,16 @@ import picocli.CommandLine.Command;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static picocli.CommandLine.Option;
 
@@ -47,58 +53,70 @@ public class ConvertCommand extends BaseIOCommand {
                 description = "Path to output directory")
         public Path outputDirectory = null;
 
+        @Option(names = {"--output-zip"},
+                description = "Path to ZIP archive to write the outputs into, instead of the output directory")
+        public Path outputZip = null;
+
         @Option(names = {"--convert-variants"},
                 description = "Convert variant data.%nDefault: ${DEFAULT-VALUE}")
         public boolean convertVariants = false;
     }
 
+    // The printers are created lazily since the inputs can come in different formats.
+    private final Map<PhenopacketFormat, PhenopacketPrinter> printers = new EnumMap<>(PhenopacketFormat.class);
+
     @Override
     protected Integer execute() {
         if (!checkInputArgumentsAreOk())
             return 1;
 
-        // (1) Read the input v1 message(s).
-        List<MessageAndPath> messages = readMessagesOrExit(PhenopacketSchemaVersion.V1);
-
-        // (2) Convert into v2 format.
+        // (1) Configure the conversion into v2 format.
         if (convertSection.convertVariants)
             LOGGER.info("Converting variants");
         else
             LOGGER.info("Ignoring variants since the `--convert-variants` option is unset");
-
         V1ToV2Converter converter = V1ToV2Converter.of(convertSection.convertVariants);
-        List<MessageAndPath> converted = new ArrayList<>(messages.size());
-        for (MessageAndPath mp : messages) {
-            Message message = mp.message();
-            Message v2 = switch (inputSection.element) {
-                case PHENOPACKET -> converter.convertPhenopacket((Phenopacket) message);
-                case FAMILY -> converter.convertFamily((Family) message);
-                case COHORT -> converter.convertCohort((Cohort) message);
-            };
-            converted.add(new MessageAndPath(v2, mp.path()));
-        }
 
-        // (3) Configure the output format.
-        PhenopacketPrinter printer = configurePhenopacketPrinter();
-
-        // (4) Write out the output(s).
-        return writeOutConverted(converted, printer);
+        if (convertSection.outputFormat == null)
+            LOGGER.info("Output format (--output-format) not provided, writing data in the input format");
+
+        // (2) Read the input v1 message(s) and convert them as the outputs are being written out.
+        try (Stream<MessageAndPath> messages = readMessagesOrExit(PhenopacketSchemaVersion.V1)) {
+            Stream<MessageAndPath> converted = messages.map(mp -> {
+                Message message = mp.message();
+                Message v2 = switch (mp.element()) {
+                    case PHENOPACKET -> converter.convertPhenopacket((Phenopacket) message);
+                    case FAMILY -> converter.convertFamily((Family) message);
+                    case COHORT -> converter.convertCohort((Cohort) message);
+                };
+                return new MessageAndPath(v2, mp.format(), mp.element(), mp.path(), mp.name());
+            });
+
+            // (3) Write out the output(s).
+            return writeOutConverted(converted);
+        }
     }
 
     /**
      * Return {@code true} if CLI argument combination makes sense or {@code false} if the app should abort.
      */
     private boolean checkInputArgumentsAreOk() {
-        if (inputs == null) {
-            if (convertSection.outputDirectory != null)
-                LOGGER.warn("Output directory was provided but the input is coming from STDIN. The output will be written to STDOUT");
+        if (convertSection.outputDirectory != null && convertSection.outputZip != null) {
+            LOGGER.error("Provide either the output directory (-O | --output-directory) or the output ZIP (--output-zip), not both");
+            return false;
+        }
+        if (!hasFileInputs()) {
+            if (convertSection.outputDirectory != null || convertSection.outputZip != null)
+                LOGGER.warn("Output was provided but the input is coming from STDIN. The output will be written to STDOUT");
         } else {
-            if (inputs.isEmpty()) {
+            if (inputs != null && inputs.isEmpty()) {
                 throw new RuntimeException("Input list should never be empty!"); // A bug guard.
             } else {
-                if (inputs.size() > 1) {
+                // A ZIP archive or an input directory can contain >1 inputs.
+                if (hasMultipleInputs()
+                        && convertSection.outputZip == null) {
                     if (convertSection.outputDirectory == null) {
-                        LOGGER.error("Output directory (-O | --output-directory) must be provided when processing >1 inputs");
+                        LOGGER.error("Output directory (-O | --output-directory) or output ZIP (--output-zip) must be provided when processing >1 inputs");
                         return false;
                     } else if (!Files.isDirectory(convertSection.outputDirectory)) {
                         LOGGER.error("The `-O | --output-directory` argument {} is not a directory", convertSection.outputDirectory.toAbsolutePath());
@@ -110,47 +128,50 @@ public class ConvertCommand extends BaseIOCommand {
         return true;
     }
 
-    private PhenopacketPrinter configurePhenopacketPrinter() {
-        PhenopacketFormat format;
-        if (convertSection.outputFormat == null) {
-            LOGGER.info("Output format (--output-format) not provided, writing data in the input format `{}`", inputSection.format);
-            format = inputSection.format;
-        } else
-            format = convertSection.outputFormat;
+    private boolean hasMultipleInputs() {
+        return inputSection.inputDirectory != null
+                || inputSection.glob != null
+                || inputs.size() > 1
+                || inputs.stream().anyMatch(BaseIOCommand::isZipArchive);
+    }
 
-        PhenopacketPrinterFactory factory = PhenopacketPrinterFactory.getInstance();
-        return factory.forFormat(PhenopacketSchemaVersion.V2, format);
+    private PhenopacketPrinter printerFor(PhenopacketFormat format) {
+        return printers.computeIfAbsent(format,
+                f -> PhenopacketPrinterFactory.getInstance().forFormat(PhenopacketSchemaVersion.V2, f));
     }
 
-    private int writeOutConverted(List<MessageAndPath> converted, PhenopacketPrinter printer) {
-        if (converted.size() == 1) {
-            // Writing out item, either from STDIN or from one `-i` options.
-            MessageAndPath mp = converted.get(0);
-            OutputStream os = null;
-            try {
-                // the input must have come from STDIN
-                if (mp.path() == null || convertSection.outputDirectory == null) {
-                    os = System.out;
-                } else {
-                    os = openOutputStream(mp.path());
+    private PhenopacketFormat outputFormat(MessageAndPath mp) {
+        return convertSection.outputFormat == null
+                ? mp.format()
+                : convertSection.outputFormat;
+    }
+
+    private int writeOutConverted(Stream<MessageAndPath> converted) {
+        if (convertSection.outputZip != null && hasFileInputs())
+            return writeOutZip(converted);
+
+        Set<Path> written = new HashSet<>();
+        for (Iterator<MessageAndPath> iterator = converted.iterator(); iterator.hasNext(); ) {
+            MessageAndPath mp = iterator.next();
+            PhenopacketPrinter printer = printerFor(outputFormat(mp));
+            // The input either came from STDIN or from a single input file.
+            // Otherwise, the output directory was checked in `checkInputArgumentsAreOk()`.
+            if (mp.path() == null || convertSection.outputDirectory == null) {
+                try {
+                    printer.print(mp.message(), System.out);
+                } catch (IOException e) {
+                    LOGGER.error("Error while writing out a phenopacket: {}", e.getMessage(), e);
+                    return 1;
                 }
-                printer.print(mp.message(), os);
-            } catch (IOException e) {
-                LOGGER.error("Error while writing out a phenopacket: {}", e.getMessage(), e);
-                return 1;
-            } finally {
-                if (os != null && os != System.out) {
-                    try {
-                        os.close();
-                    } catch (IOException e) {
-                        LOGGER.warn("Error occurred while closing the output");
-                    }
+            } else {
+                // Keep the directories of the input, e.g. of the files of the input directory.
+                Path output = convertSection.outputDirectory.resolve(outputName(mp.name(), outputFormat(mp)));
+                // Fail rather than silently overwrite an output of an input with the same name.
+                if (!written.add(output.toAbsolutePath().normalize())) {
+                    LOGGER.error("Unable to write {} into {}: {} was already written", mp.path().toAbsolutePath(), convertSection.outputDirectory.toAbsolutePath(), output);
+                    return 1;
                 }
-            }
-        } else {
-            // Writing out >1 items provided by `-i` options.
-            for (MessageAndPath mp : converted) {
-                try (OutputStream os = openOutputStream(mp.path())) {
+                try (OutputStream os = openOutputStream(mp, output)) {
                     printer.print(mp.message(), os);
                 } catch (IOException e) {
                     LOGGER.error("Error while writing out a phenopacket: {}", e.getMessage(), e);
@@ -161,24 +182,66 @@ public class ConvertCommand extends BaseIOCommand {
         return 0;
     }
 
-    private BufferedOutputStream openOutputStream(Path inputPath) throws IOException {
-        // remove suffix, add `v2` and add
-        String fileName = inputPath.toFile().getName();
-        Matcher matcher = PATTERN.matcher(fileName);
+    /**
+     * Write the outputs into a new ZIP archive, one entry per output. The entries are streamed into the archive
+     * as they are converted, an existing archive is overwritten.
+     */
+    private int writeOutZip(Stream<MessageAndPath> converted) {
+        Path zip = convertSection.outputZip;
+        try {
+            if (Files.exists(zip))
+                LOGGER.info("Overwriting the existing ZIP archive {}", zip.toAbsolutePath());
+            Set<String> written = new HashSet<>();
+            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zip)))) {
+                for (Iterator<MessageAndPath> iterator = converted.iterator(); iterator.hasNext(); ) {
+                    MessageAndPath mp = iterator.next();
+                    PhenopacketFormat format = outputFormat(mp);
+                    // Keep the directories of the input, e.g. of the entries of an input ZIP archive.
+                    String entry = outputName(mp.name(), format);
+                    LOGGER.debug("Input path: {}, output entry: {}", mp.path().toAbsolutePath(), entry);
+                    // Fail rather than silently overwrite an output of an input with the same name.
+                    if (!written.add(entry)) {
+                        LOGGER.error("Unable to write {} into {}: {} was already written", mp.path().toAbsolutePath(), zip.toAbsolutePath(), entry);
+                        return 1;
+                    }
+                    zos.putNextEntry(new ZipEntry(entry));
+                    printerFor(format).print(mp.message(), zos);
+                    zos.closeEntry();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error while writing out the phenopackets into {}: {}", zip.toAbsolutePath(), e.getMessage(), e);
+            return 1;
+        }
+        return 0;
+    }
 
-        String suffix = convertSection.outputFormat.suffix();
-        Path output;
+    private static BufferedOutputStream openOutputStream(MessageAndPath mp, Path output) throws IOException {
+        LOGGER.debug("Input path: {}, output path: {}", mp.path().toAbsolutePath(), output.toAbsolutePath());
+        if (output.getParent() != null)
+            Files.createDirectories(output.getParent());
+
+        return new BufferedOutputStream(Files.newOutputStream(output));
+    }
+
+    /**
+     * Replace the format suffix of the input {@code name} with the suffix of the output format.
+     * The directories of the {@code name}, if any, are kept.
+     */
+    private static String outputName(String name, PhenopacketFormat outputFormat) {
+        int slash = name.lastIndexOf('/');
+        String directories = name.substring(0, slash + 1);
+        String fileName = name.substring(slash + 1);
+        Matcher matcher = PATTERN.matcher(fileName);
+        String suffix = outputFormat.suffix();
         if (matcher.matches()) {
             // Remove the prefix from the input file and create a new file
             String prefix = matcher.group("prefix");
-            output = convertSection.outputDirectory.resolve(prefix + suffix);
+            return directories + prefix + suffix;
         } else {
             // Just append the suffix.
-            output = convertSection.outputDirectory.resolve(fileName + suffix);
+            return directories + fileName + suffix;
         }
-        LOGGER.debug("Input path: {}, output path: {}", inputPath.toAbsolutePath(), output.toAbsolutePath());
-
-        return new BufferedOutputStream(Files.newOutputStream(output));
     }
 
 }
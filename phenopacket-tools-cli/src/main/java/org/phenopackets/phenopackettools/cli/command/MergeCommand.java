@@ -0,0 +1,77 @@
+package org.phenopackets.phenopackettools.cli.command;
+
+import org.phenopackets.phenopackettools.cli.writer.ValidationResultsMerger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Command(name = "merge",
+        description = "Merge the validation results of the shards into a single CSV or JSON file.",
+        sortOptions = false,
+        mixinStandardHelpOptions = true)
+public class MergeCommand extends BaseCommand {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MergeCommand.class);
+
+    @CommandLine.Option(names = {"-o", "--output"},
+            description = {"Path to the merged results.", "Default: STDOUT"})
+    public Path output = null;
+
+    @CommandLine.Parameters(
+            paramLabel = "result file(s)",
+            arity = "1..*",
+            description = "Validation results in CSV or JSON format, e.g. the outputs of `validate --shard i/n`")
+    public List<Path> inputs = List.of();
+
+    @Override
+    protected Integer execute() {
+        // (1) Check that all inputs have the same format.
+        boolean json;
+        try {
+            json = ValidationResultsMerger.isJson(inputs.get(0));
+            for (Path input : inputs) {
+                if (ValidationResultsMerger.isJson(input) != json) {
+                    LOGGER.error("All results must be either in CSV or in JSON format but {} is not", input.toAbsolutePath());
+                    return 1;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to read the results: {}", e.getMessage(), e);
+            return 1;
+        }
+
+        // (2) Merge.
+        OutputStream os = null;
+        try {
+            os = output == null
+                    ? System.out
+                    : new BufferedOutputStream(Files.newOutputStream(output));
+            if (json)
+                ValidationResultsMerger.mergeJson(inputs, os);
+            else
+                ValidationResultsMerger.mergeCsv(inputs, os);
+            os.flush();
+            return 0;
+        } catch (IOException e) {
+            LOGGER.error("Error while merging the results: {}", e.getMessage(), e);
+            return 1;
+        } finally {
+            if (os != null && os != System.out) {
+                try {
+                    os.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Error occurred while closing the output");
+                }
+            }
+        }
+    }
+
+}
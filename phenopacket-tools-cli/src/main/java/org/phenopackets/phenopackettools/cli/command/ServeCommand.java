@@ -0,0 +1,147 @@
+package org.phenopackets.phenopackettools.cli.command;
+
+import com.google.protobuf.MessageOrBuilder;
+import org.monarchinitiative.phenol.ontology.data.Ontology;
+import org.phenopackets.phenopackettools.cli.serve.PhenopacketToolsServer;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.validator.core.ReloadableValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Command(name = "serve",
+        description = "Run a local HTTP service for validation and conversion of top-level elements.",
+        sortOptions = false,
+        mixinStandardHelpOptions = true)
+public class ServeCommand extends BaseCommand {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServeCommand.class);
+
+    @CommandLine.ArgGroup(validate = false, heading = "Server section:%n")
+    public ServerSection serverSection = new ServerSection();
+
+    public static class ServerSection {
+        @CommandLine.Option(names = {"--host"},
+                description = {"Host name or address to bind to", "Default: ${DEFAULT-VALUE}"})
+        public String host = "localhost";
+
+        @CommandLine.Option(names = {"-p", "--port"},
+                description = {"Port to listen on", "Default: ${DEFAULT-VALUE}"})
+        public int port = 8080;
+
+        @CommandLine.Option(names = {"--threads"},
+                description = {"Number of threads for handling the requests", "Default: ${DEFAULT-VALUE}"})
+        public int threads = Runtime.getRuntime().availableProcessors();
+    }
+
+    @CommandLine.ArgGroup(validate = false, heading = "Validate section:%n")
+    public ValidateSection validateSection = new ValidateSection();
+
+    public static class ValidateSection {
+        @CommandLine.Option(names = {"--require"},
+                description = "Path to JSON schema with additional requirements to enforce.")
+        public List<Path> requirements = List.of();
+
+        @CommandLine.Option(names = "--hpo",
+                description = "Path to hp.json file")
+        public Path hpJson;
+
+        @CommandLine.Option(names = {"-s", "--organ-system"},
+                description = {"Organ system HPO term IDs",
+                        "Default: empty"})
+        public List<String> organSystems = List.of();
+    }
+
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "runner-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private CompletableFuture<Void> pendingReload = CompletableFuture.completedFuture(null);
+
+    @Override
+    protected Integer execute() {
+        // (1) Set up the runners. HPO and the JSON schemas are loaded once and kept until a reload is requested.
+        Map<PhenopacketElement, ReloadableValidationWorkflowRunner<MessageOrBuilder>> reloadable = new EnumMap<>(PhenopacketElement.class);
+        prepareWorkflowRunners().forEach((element, runner) -> reloadable.put(element, ReloadableValidationWorkflowRunner.of(runner)));
+        Map<PhenopacketElement, ValidationWorkflowRunner<?>> runners = Map.copyOf(reloadable);
+
+        // (2) Start the server and serve until the JVM is shut down (e.g. Ctrl+C).
+        PhenopacketToolsServer server;
+        try {
+            server = new PhenopacketToolsServer(new InetSocketAddress(serverSection.host, serverSection.port),
+                    serverSection.threads,
+                    runners,
+                    PHENOPACKET_TOOLS_VERSION,
+                    () -> reload(reloadable));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.error("Unable to start the server: {}", e.getMessage(), e);
+            return 1;
+        }
+
+        CountDownLatch shutdown = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            LOGGER.info("Shutting down the server");
+            server.stop(1);
+            shutdown.countDown();
+        }));
+        server.start();
+        System.err.printf("Serving on http://%s:%d%n", server.address().getHostString(), server.address().getPort());
+
+        try {
+            shutdown.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.stop(0);
+        }
+        return 0;
+    }
+
+    /**
+     * Re-read HPO and the custom JSON schemas in the background and swap the runners once all runners are ready.
+     * The in-flight validations finish with the old runners. A reload request that arrives while a reload
+     * is in progress joins the ongoing reload.
+     */
+    private synchronized CompletableFuture<Void> reload(Map<PhenopacketElement, ReloadableValidationWorkflowRunner<MessageOrBuilder>> runners) {
+        if (!pendingReload.isDone())
+            return pendingReload;
+
+        LOGGER.info("Reloading HPO and the custom JSON schemas");
+        pendingReload = CompletableFuture.runAsync(() -> {
+            Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> fresh = prepareWorkflowRunners();
+            fresh.forEach((element, runner) -> runners.get(element).swap(runner));
+            LOGGER.info("Reload finished");
+        }, reloadExecutor).whenComplete((ignored, e) -> {
+            if (e != null)
+                LOGGER.warn("Reload failed, keeping the current runners: {}", e.getMessage(), e);
+        });
+        return pendingReload;
+    }
+
+    private Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> prepareWorkflowRunners() {
+        List<URL> customJsonSchemas = WorkflowRunners.prepareCustomSchemaUrls(validateSection.requirements);
+        Ontology hpo = WorkflowRunners.loadHpo(validateSection.hpJson);
+
+        Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> runners = new EnumMap<>(PhenopacketElement.class);
+        for (PhenopacketElement element : PhenopacketElement.values()) {
+            runners.put(element, WorkflowRunners.prepareWorkflowRunner(element, customJsonSchemas, hpo, validateSection.organSystems, false));
+        }
+        return runners;
+    }
+
+}
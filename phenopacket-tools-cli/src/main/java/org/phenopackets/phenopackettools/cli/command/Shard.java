@@ -0,0 +1,77 @@
+package org.phenopackets.phenopackettools.cli.command;
+
+import picocli.CommandLine;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+/**
+ * The {@code index}-th of {@code count} disjoint shards of the inputs, such as {@code 2/8}. The index is one-based.
+ * <p>
+ * An input is assigned to a shard by a CRC32 checksum of its key, e.g. the relative path of a file, hence the assignment
+ * does not depend on the JVM, the platform, or the other inputs. The shards of {@code 1/n} to {@code n/n} cover all inputs.
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1)
+            throw new IllegalArgumentException("Shard count must be positive but was " + count);
+        if (index < 1 || index > count)
+            throw new IllegalArgumentException("Shard index must be in [1, %d] but was %d".formatted(count, index));
+    }
+
+    /**
+     * Parse the shard from a {@code i/n} string, e.g. {@code 2/8}.
+     */
+    public static Shard parse(String value) {
+        int slash = value.indexOf('/');
+        if (slash < 0)
+            throw new IllegalArgumentException("Shard must be in `i/n` format but was `%s`".formatted(value));
+        try {
+            return new Shard(Integer.parseInt(value.substring(0, slash).strip()),
+                    Integer.parseInt(value.substring(slash + 1).strip()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Shard must be in `i/n` format but was `%s`".formatted(value));
+        }
+    }
+
+    /**
+     * @return {@code true} if the input with the {@code key} belongs to this shard
+     */
+    public boolean contains(String key) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue() % count == index - 1;
+    }
+
+    /**
+     * @return {@code true} if the file at the {@code relative} path belongs to this shard. The path elements
+     * are joined with {@code /} to get the same assignment on all platforms.
+     */
+    public boolean contains(Path relative) {
+        StringBuilder key = new StringBuilder();
+        for (Path name : relative.normalize()) {
+            if (!key.isEmpty())
+                key.append('/');
+            key.append(name);
+        }
+        return contains(key.toString());
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+
+    public static class Converter implements CommandLine.ITypeConverter<Shard> {
+        @Override
+        public Shard convert(String value) {
+            try {
+                return parse(value);
+            } catch (IllegalArgumentException e) {
+                throw new CommandLine.TypeConversionException(e.getMessage());
+            }
+        }
+    }
+}
@@ -1,36 +1,39 @@
 package org.phenopackets.phenopackettools.cli.command;
 
 
+import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
-import org.monarchinitiative.phenol.base.PhenolRuntimeException;
-import org.monarchinitiative.phenol.io.OntologyLoader;
 import org.monarchinitiative.phenol.ontology.data.Ontology;
-import org.monarchinitiative.phenol.ontology.data.TermId;
 import org.phenopackets.phenopackettools.core.PhenopacketElement;
 import org.phenopackets.phenopackettools.core.PhenopacketSchemaVersion;
 import org.phenopackets.phenopackettools.validator.core.*;
-import org.phenopackets.phenopackettools.validator.core.phenotype.HpoPhenotypeValidators;
+import org.phenopackets.phenopackettools.validator.core.cache.CachingValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.cache.ValidationResultsCache;
 import org.phenopackets.phenopackettools.validator.core.writer.ValidationResultsAndPath;
-import org.phenopackets.phenopackettools.validator.jsonschema.JsonSchemaValidationWorkflowRunner;
 import org.phenopackets.phenopackettools.cli.writer.CSVValidationResultsWriter;
-import org.phenopackets.schema.v2.CohortOrBuilder;
-import org.phenopackets.schema.v2.FamilyOrBuilder;
-import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+import org.phenopackets.phenopackettools.cli.writer.TimingsHistogramWriter;
+import org.phenopackets.phenopackettools.cli.watch.DirectoryWatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 
 import java.io.*;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Command(name = "validate",
         description = "Validate top-level elements of the Phenopacket Schema.",
@@ -39,6 +42,8 @@ import java.util.stream.Collectors;
 public class ValidateCommand extends BaseIOCommand {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ValidateCommand.class);
+    // The number of validation results to keep in memory when `--cache-dir` is set.
+    private static final int CACHE_SIZE = 1024;
 
     @CommandLine.ArgGroup(validate = false, heading = "Validate section:%n")
     public ValidateSection validateSection = new ValidateSection();
@@ -60,29 +65,60 @@ public class ValidateCommand extends BaseIOCommand {
                 description = {"Organ system HPO term IDs",
                         "Default: empty"})
         public List<String> organSystems = List.of();
+
+        @CommandLine.Option(names = {"--cache-dir"},
+                description = "Path to directory for caching validation results of unchanged inputs.")
+        public Path cacheDir = null;
+
+        @CommandLine.Option(names = {"--timings"},
+                description = {"Print per-validator latency histogram into STDERR", "Default: ${DEFAULT-VALUE}"})
+        public boolean timings = false;
+
+        @CommandLine.Option(names = {"--watch"},
+                description = {"Path to directory to watch.",
+                        "Validate the files of the directory and re-validate the files as they are created or modified"})
+        public Path watchDirectory = null;
+
+        @CommandLine.Option(names = {"--debounce"},
+                description = {"Milliseconds without a file change before re-validating the changed files in the --watch mode",
+                        "Default: ${DEFAULT-VALUE}"})
+        public long debounce = 500;
     }
 
     @Override
     protected Integer execute() {
-        // (1) Read the input v2 message(s).
-        List<MessageAndPath> messages = readMessagesOrExit(PhenopacketSchemaVersion.V2);
+        if (validateSection.watchDirectory != null && (inputs != null || inputSection.inputDirectory != null)) {
+            LOGGER.error("Provide either the inputs or the directory to watch (--watch), not both");
+            return 1;
+        }
+
+        // (1) Set up the validator(s). The inputs can be of different elements.
+        Ontology hpo = WorkflowRunners.loadHpo(validateSection.hpJson);
+        Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> runners = new EnumMap<>(PhenopacketElement.class);
 
-        // (2) Set up the validator.
-        ValidationWorkflowRunner<MessageOrBuilder> runner = prepareWorkflowRunner();
+        if (validateSection.watchDirectory != null)
+            return watch(hpo, runners);
 
-        // (3) Validate the message(s).
-        List<ValidationResultsAndPath> results = new ArrayList<>(messages.size());
-        for (MessageAndPath mp : messages) {
-            results.add(new ValidationResultsAndPath(runner.validate(mp.message()), mp.path()));
+        // (2) Read and validate the input v2 message(s). Only the results are kept in memory.
+        List<ValidationResultsAndPath> results = new ArrayList<>();
+        if (validateSection.cacheDir == null) {
+            try (Stream<MessageAndPath> messages = readMessagesOrExit(PhenopacketSchemaVersion.V2)) {
+                messages.forEachOrdered(mp -> results.add(validate(mp, hpo, runners)));
+            }
+        } else {
+            // The cache is keyed by the input bytes, hence the inputs are parsed only if the results are not cached.
+            try (Stream<PayloadAndPath> payloads = readPayloadsOrExit()) {
+                for (Iterator<PayloadAndPath> iterator = payloads.iterator(); iterator.hasNext(); )
+                    results.add(validate(iterator.next(), hpo, runners));
+            } catch (IOException e) {
+                System.err.printf("%s\nPlease check the input format.%n", e.getMessage());
+                return 1;
+            }
         }
 
-        // (4) Write out the validation results into STDOUT.
+        // (3) Write out the validation results into STDOUT.
         try {
-            CSVValidationResultsWriter writer = new CSVValidationResultsWriter(System.out,
-                    PHENOPACKET_TOOLS_VERSION,
-                    LocalDateTime.now(),
-                    validateSection.includeHeader);
-            writer.writeValidationResults(runner.validators(), results);
+            writeResults(runners, results, validateSection.includeHeader);
             return 0;
         } catch (IOException e) {
             LOGGER.error("Error while writing out results: {}", e.getMessage(), e);
@@ -90,161 +126,121 @@ public class ValidateCommand extends BaseIOCommand {
         }
     }
 
-    private ValidationWorkflowRunner<MessageOrBuilder> prepareWorkflowRunner() {
-        List<URL> customJsonSchemas = prepareCustomSchemaUrls();
-        Object runner = switch (inputSection.element) {
-            case PHENOPACKET -> {
-                List<PhenopacketValidator<PhenopacketOrBuilder>> validators = configureSemanticValidators();
-                yield JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
-                        .addAllJsonSchemaUrls(customJsonSchemas)
-                        .addValidators(validators)
-                        .build();
-            }
-            case FAMILY -> {
-                List<PhenopacketValidator<FamilyOrBuilder>> validators = configureSemanticValidators();
-                yield JsonSchemaValidationWorkflowRunner.familyBuilder()
-                        .addAllJsonSchemaUrls(customJsonSchemas)
-                        .addValidators(validators)
-                        .build();
-            }
-            case COHORT -> {
-                List<PhenopacketValidator<CohortOrBuilder>> validators = configureSemanticValidators();
-                yield JsonSchemaValidationWorkflowRunner.cohortBuilder()
-                        .addAllJsonSchemaUrls(customJsonSchemas)
-                        .addValidators(validators)
-                        .build();
-            }
-        };
-
-        // Same as in `configureSemanticValidators`, we rely on the correct pairing of `element` and `message`s
-        // to be validated. The code will explode if this assumption is invalid.
-        //noinspection unchecked
-        return (ValidationWorkflowRunner<MessageOrBuilder>) runner;
-    }
-
-    private List<URL> prepareCustomSchemaUrls() {
-        LOGGER.debug("Preparing schemas for custom requirement validation");
-        List<URL> urls = new ArrayList<>();
-        for (Path requirement : validateSection.requirements) {
-            try {
-                urls.add(requirement.toUri().toURL());
-            } catch (MalformedURLException e) {
-                System.err.printf("Skipping JSON schema at '%s', the path is invalid: %s%n", requirement.toAbsolutePath(), e.getMessage());
-            }
-        }
-        LOGGER.debug("Prepared {} custom schema(s)", urls.size());
-        return urls;
-    }
-
     /**
-     * Prepare semantic validators for given {@link T}.
-     * <p>
-     * <b>Warning</b> - it is important to request the {@link T} that is appropriate
-     * for the current {@link org.phenopackets.phenopackettools.cli.command.BaseIOCommand.InputSection#element}.
-     * The app will crash and burn if e.g. {@link T} is {@link PhenopacketOrBuilder}
-     * while {@link org.phenopackets.phenopackettools.cli.command.BaseIOCommand.InputSection#element}
-     * is {@link PhenopacketElement#FAMILY}.
+     * Validate the files of the watched directory and then re-validate the files as they are created or modified,
+     * until the application is terminated. HPO and the validation workflow runners are reused between the checks.
      */
-    private <T extends MessageOrBuilder> List<PhenopacketValidator<T>> configureSemanticValidators() {
-        // Right now we only have one semantic validator, but we'll extend this in the future.
-        LOGGER.debug("Configuring semantic validators");
-        List<PhenopacketValidator<T>> validators = new ArrayList<>();
-        Ontology hpo = null;
-        if (validateSection.hpJson != null) {
-            LOGGER.debug("Reading HPO from {}", validateSection.hpJson.toAbsolutePath());
-            hpo = OntologyLoader.loadOntology(validateSection.hpJson.toFile());
-
-            // The entire logic of this command stands and falls on correct state of `element` and the read message(s).
-            // This method requires an appropriate combination of `T` and `element`, as described in Javadoc.
-            // We suppress warning and perform an unchecked cast here, assuming `T` and `element` are appropriate.
-            // The app will crash and burn if this is not the case.
-            switch (inputSection.element) {
-                case PHENOPACKET -> {
-                    //noinspection unchecked
-                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Primary.phenopacketHpoPhenotypeValidator(hpo));
-                    //noinspection unchecked
-                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Ancestry.phenopacketHpoAncestryValidator(hpo));
-                }
-                case FAMILY -> {
-                    //noinspection unchecked
-                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Primary.familyHpoPhenotypeValidator(hpo));
-                    //noinspection unchecked
-                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Ancestry.familyHpoAncestryValidator(hpo));
+    private int watch(Ontology hpo, Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> runners) {
+        Path directory = validateSection.watchDirectory;
+        try (DirectoryWatcher watcher = new DirectoryWatcher(directory, inputSection.glob, Duration.ofMillis(validateSection.debounce))) {
+            // The header is written only once, before the results of the first check.
+            boolean[] includeHeader = {validateSection.includeHeader};
+            Consumer<List<Path>> check = paths -> {
+                List<ValidationResultsAndPath> results = new ArrayList<>(paths.size());
+                for (Path path : paths) {
+                    if (!isInShard(directory.relativize(path)))
+                        continue;
+                    try {
+                        results.add(validateSection.cacheDir == null
+                                ? validate(readMessage(PhenopacketSchemaVersion.V2, path), hpo, runners)
+                                : validate(readPayload(path), hpo, runners));
+                    } catch (IOException e) {
+                        // The file may be incomplete or invalid. The next change of the file triggers a new check.
+                        System.err.println(e.getMessage());
+                    }
                 }
-                case COHORT -> {
-                    //noinspection unchecked
-                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Primary.cohortHpoPhenotypeValidator(hpo));
-                    //noinspection unchecked
-                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Ancestry.cohortHpoAncestryValidator(hpo));
+                try {
+                    writeResults(runners, results, includeHeader[0]);
+                    includeHeader[0] = false;
+                } catch (IOException e) {
+                    LOGGER.error("Error while writing out results: {}", e.getMessage(), e);
                 }
-            }
-        }
-
-        if (!validateSection.organSystems.isEmpty()) {
-            PhenopacketValidator<T> validator = prepareOrganSystemValidator(hpo, validateSection.organSystems, inputSection.element);
-            if (validator != null)
-                validators.add(validator);
-
-        }
-
-        LOGGER.debug("Configured {} semantic validator(s)", validators.size());
-        return validators;
-    }
-
-    private static <T extends MessageOrBuilder> PhenopacketValidator<T> prepareOrganSystemValidator(Ontology hpo,
-                                                                                                    List<String> organSystems,
-                                                                                                    PhenopacketElement element) {
-        // Organ system validation can only be done when HPO is provided.
-        if (hpo == null) {
-            LOGGER.warn("Terms for organ system validation were provided but the path to HPO is unset. Use --hpo option to enable organ system validation.");
-            return null;
-        }
-
-        // Prepare organ system IDs.
-        List<TermId> organSystemIds = prepareOrganSystemIds(organSystems);
-
-        // Create the validator.
-        if (!organSystemIds.isEmpty()) {
-            return switch (element) {
-                case PHENOPACKET -> //noinspection unchecked
-                        (PhenopacketValidator<T>) HpoPhenotypeValidators.OrganSystem.phenopacketHpoOrganSystemValidator(hpo, organSystemIds);
-                case FAMILY -> //noinspection unchecked
-                        (PhenopacketValidator<T>) HpoPhenotypeValidators.OrganSystem.familyHpoOrganSystemValidator(hpo, organSystemIds);
-                case COHORT -> //noinspection unchecked
-                        (PhenopacketValidator<T>) HpoPhenotypeValidators.OrganSystem.cohortHpoOrganSystemValidator(hpo, organSystemIds);
+                long issues = results.stream().mapToLong(r -> r.results().validationResults().size()).sum();
+                System.err.printf("%s Validated %d file(s), found %d issue(s)%n",
+                        LocalTime.now().truncatedTo(ChronoUnit.SECONDS), results.size(), issues);
             };
-        }
 
-        return null;
+            check.accept(watcher.listFiles());
+            System.err.printf("Watching %s for changes%n", directory.toAbsolutePath());
+            watcher.watch(check);
+            return 0;
+        } catch (IOException e) {
+            LOGGER.error("Unable to watch {}: {}", directory.toAbsolutePath(), e.getMessage(), e);
+            return 1;
+        }
     }
 
-    private static List<TermId> prepareOrganSystemIds(List<String> organSystems) {
-        LOGGER.trace("Found {} organ system IDs: {}", organSystems.size(), organSystems.stream()
-                .collect(Collectors.joining(", ", "{", "}")));
-        List<TermId> organSystemIds = organSystems.stream()
-                .map(toTermId())
-                .flatMap(Optional::stream)
-                .toList();
-        LOGGER.trace("{} organ system IDs are valid term IDs: {}", organSystemIds.size(),
-                organSystemIds.stream()
-                        .map(TermId::getValue)
-                        .collect(Collectors.joining(", ", "{", "}")));
-        return organSystemIds;
+    private ValidationResultsAndPath validate(MessageAndPath mp,
+                                              Ontology hpo,
+                                              Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> runners) {
+        ValidationWorkflowRunner<MessageOrBuilder> runner = runners.computeIfAbsent(mp.element(), element -> prepareWorkflowRunner(element, hpo));
+        return new ValidationResultsAndPath(runner.validate(mp.message()), mp.path());
     }
 
     /**
-     * @return a function that maps a {@link String} into a {@link TermId} or emits a warning if the value
-     * cannot be mapped.
+     * Validate the {@code pp} payload, parsing the payload only if the results are not cached.
      */
-    private static Function<String, Optional<TermId>> toTermId() {
-        return value -> {
+    private ValidationResultsAndPath validate(PayloadAndPath pp,
+                                              Ontology hpo,
+                                              Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> runners) throws IOException {
+        ValidationWorkflowRunner<MessageOrBuilder> runner = runners.computeIfAbsent(pp.element(), element -> prepareWorkflowRunner(element, hpo));
+        Supplier<Message> parser = () -> {
             try {
-                return Optional.of(TermId.of(value));
-            } catch (PhenolRuntimeException e) {
-                LOGGER.warn("Invalid term ID {}", value);
-                return Optional.empty();
+                return parsePayload(PhenopacketSchemaVersion.V2, pp);
+            } catch (IOException e) {
+                throw new UncheckedIOException(new IOException("Unable to read %s: %s".formatted(pp.path(), e.getMessage()), e));
             }
         };
+        try {
+            // The runner is not caching if the configuration cannot be fingerprinted.
+            ValidationResults results = runner instanceof CachingValidationWorkflowRunner<MessageOrBuilder> caching
+                    ? caching.validate(pp.payload(), parser)
+                    : runner.validate(parser.get());
+            return new ValidationResultsAndPath(results, pp.path());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Write out the validation {@code results} into STDOUT and the timings into STDERR, if requested.
+     */
+    private void writeResults(Map<PhenopacketElement, ValidationWorkflowRunner<MessageOrBuilder>> runners,
+                              List<ValidationResultsAndPath> results,
+                              boolean includeHeader) throws IOException {
+        List<ValidatorInfo> validators = runners.values().stream()
+                .flatMap(runner -> runner.validators().stream())
+                .distinct()
+                .toList();
+        CSVValidationResultsWriter writer = new CSVValidationResultsWriter(System.out,
+                PHENOPACKET_TOOLS_VERSION,
+                LocalDateTime.now(),
+                includeHeader);
+        writer.writeValidationResults(validators, results);
+        if (validateSection.timings)
+            new TimingsHistogramWriter(System.err).writeTimings(results);
+    }
+
+    private ValidationWorkflowRunner<MessageOrBuilder> prepareWorkflowRunner(PhenopacketElement element, Ontology hpo) {
+        List<URL> customJsonSchemas = WorkflowRunners.prepareCustomSchemaUrls(validateSection.requirements);
+        ValidationWorkflowRunner<MessageOrBuilder> runner = WorkflowRunners.prepareWorkflowRunner(element, customJsonSchemas, hpo, validateSection.organSystems, validateSection.timings);
+        if (validateSection.cacheDir == null)
+            return runner;
+
+        Optional<List<String>> fingerprint = WorkflowRunners.fingerprintConfiguration(validateSection.requirements, validateSection.hpJson, validateSection.organSystems);
+        if (fingerprint.isEmpty()) {
+            LOGGER.warn("Not caching the validation results since the configuration cannot be fingerprinted");
+            return runner;
+        }
+
+        LOGGER.debug("Caching validation results in {}", validateSection.cacheDir.toAbsolutePath());
+        List<String> configuration = new ArrayList<>();
+        configuration.add(PHENOPACKET_TOOLS_VERSION);
+        configuration.addAll(fingerprint.get());
+        ValidationResultsCache cache = ValidationResultsCache.tiered(
+                ValidationResultsCache.inMemory(CACHE_SIZE),
+                ValidationResultsCache.onDisk(validateSection.cacheDir));
+        return CachingValidationWorkflowRunner.of(runner, cache, configuration);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package org.phenopackets.phenopackettools.cli.command;
+
+import com.google.protobuf.MessageOrBuilder;
+import org.monarchinitiative.phenol.base.PhenolRuntimeException;
+import org.monarchinitiative.phenol.io.OntologyLoader;
+import org.monarchinitiative.phenol.ontology.data.Ontology;
+import org.monarchinitiative.phenol.ontology.data.TermId;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.cache.CachingValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.phenotype.HpoPhenotypeValidators;
+import org.phenopackets.phenopackettools.validator.jsonschema.JsonSchemaValidationWorkflowRunner;
+import org.phenopackets.schema.v2.CohortOrBuilder;
+import org.phenopackets.schema.v2.FamilyOrBuilder;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Routines for setting up {@link ValidationWorkflowRunner}s shared by the commands that validate
+ * the top-level elements of the Phenopacket schema.
+ */
+class WorkflowRunners {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowRunners.class);
+
+    private WorkflowRunners() {
+        // static utility class
+    }
+
+    /**
+     * Load HPO from the provided {@code hpJson} or return {@code null} if the path is {@code null}.
+     */
+    static Ontology loadHpo(Path hpJson) {
+        if (hpJson == null)
+            return null;
+
+        LOGGER.debug("Reading HPO from {}", hpJson.toAbsolutePath());
+        return OntologyLoader.loadOntology(hpJson.toFile());
+    }
+
+    static List<URL> prepareCustomSchemaUrls(List<Path> requirements) {
+        LOGGER.debug("Preparing schemas for custom requirement validation");
+        List<URL> urls = new ArrayList<>();
+        for (Path requirement : requirements) {
+            try {
+                urls.add(requirement.toUri().toURL());
+            } catch (MalformedURLException e) {
+                System.err.printf("Skipping JSON schema at '%s', the path is invalid: %s%n", requirement.toAbsolutePath(), e.getMessage());
+            }
+        }
+        LOGGER.debug("Prepared {} custom schema(s)", urls.size());
+        return urls;
+    }
+
+    /**
+     * Summarize the parts of the validation configuration that are not reflected in the validator infos,
+     * such as the content of the HPO file and of the custom JSON schemas.
+     *
+     * @return a list of configuration items for {@link CachingValidationWorkflowRunner} or an empty optional
+     * if a file of the configuration cannot be read.
+     */
+    static Optional<List<String>> fingerprintConfiguration(List<Path> requirements, Path hpJson, List<String> organSystems) {
+        List<String> items = new ArrayList<>();
+        for (Path requirement : requirements) {
+            Optional<String> digest = digest(requirement);
+            if (digest.isEmpty())
+                return Optional.empty();
+            items.add("require=" + digest.get());
+        }
+        if (hpJson != null) {
+            Optional<String> digest = digest(hpJson);
+            if (digest.isEmpty())
+                return Optional.empty();
+            items.add("hpo=" + digest.get());
+        }
+        for (String organSystem : organSystems)
+            items.add("organ-system=" + organSystem);
+        return Optional.of(items);
+    }
+
+    private static Optional<String> digest(Path path) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream is = new DigestInputStream(new BufferedInputStream(Files.newInputStream(path)), digest)) {
+                is.transferTo(OutputStream.nullOutputStream());
+            }
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            // The path will be reported by the validation code later.
+            LOGGER.warn("Unable to compute digest of {}: {}", path.toAbsolutePath(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Prepare a runner for validating the top-level {@code element}s. The runner includes the base validation,
+     * the validation against the {@code customJsonSchemas}, and the HPO validators if {@code hpo} is not {@code null}.
+     *
+     * @param element           the top-level element to validate
+     * @param customJsonSchemas URLs of the JSON schemas with additional requirements
+     * @param hpo               HPO or {@code null} if the phenotype validation should be skipped
+     * @param organSystems      organ system term IDs, the IDs are ignored if {@code hpo} is {@code null}
+     * @param recordTimings     {@code true} if the runner should record the timings of the validators
+     */
+    static ValidationWorkflowRunner<MessageOrBuilder> prepareWorkflowRunner(PhenopacketElement element,
+                                                                            List<URL> customJsonSchemas,
+                                                                            Ontology hpo,
+                                                                            List<String> organSystems,
+                                                                            boolean recordTimings) {
+        Object runner = switch (element) {
+            case PHENOPACKET -> {
+                List<PhenopacketValidator<PhenopacketOrBuilder>> validators = configureSemanticValidators(element, hpo, organSystems);
+                yield JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                        .recordTimings(recordTimings)
+                        .addAllJsonSchemaUrls(customJsonSchemas)
+                        .addValidators(validators)
+                        .build();
+            }
+            case FAMILY -> {
+                List<PhenopacketValidator<FamilyOrBuilder>> validators = configureSemanticValidators(element, hpo, organSystems);
+                yield JsonSchemaValidationWorkflowRunner.familyBuilder()
+                        .recordTimings(recordTimings)
+                        .addAllJsonSchemaUrls(customJsonSchemas)
+                        .addValidators(validators)
+                        .build();
+            }
+            case COHORT -> {
+                List<PhenopacketValidator<CohortOrBuilder>> validators = configureSemanticValidators(element, hpo, organSystems);
+                yield JsonSchemaValidationWorkflowRunner.cohortBuilder()
+                        .recordTimings(recordTimings)
+                        .addAllJsonSchemaUrls(customJsonSchemas)
+                        .addValidators(validators)
+                        .build();
+            }
+        };
+
+        // Same as in `configureSemanticValidators`, we rely on the correct pairing of `element` and `message`s
+        // to be validated. The code will explode if this assumption is invalid.
+        //noinspection unchecked
+        return (ValidationWorkflowRunner<MessageOrBuilder>) runner;
+    }
+
+    /**
+     * Prepare semantic validators for given {@link T}.
+     * <p>
+     * <b>Warning</b> - it is important to request the {@link T} that is appropriate
+     * for the {@code element}. The app will crash and burn if e.g. {@link T} is {@link PhenopacketOrBuilder}
+     * while {@code element} is {@link PhenopacketElement#FAMILY}.
+     */
+    private static <T extends MessageOrBuilder> List<PhenopacketValidator<T>> configureSemanticValidators(PhenopacketElement element,
+                                                                                                         Ontology hpo,
+                                                                                                         List<String> organSystems) {
+        LOGGER.debug("Configuring semantic validators");
+        List<PhenopacketValidator<T>> validators = new ArrayList<>();
+        if (hpo != null) {
+            // The entire logic stands and falls on correct state of `element` and the read message(s).
+            // This method requires an appropriate combination of `T` and `element`, as described in Javadoc.
+            // We suppress warning and perform an unchecked cast here, assuming `T` and `element` are appropriate.
+            // The app will crash and burn if this is not the case.
+            switch (element) {
+                case PHENOPACKET -> {
+                    //noinspection unchecked
+                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Primary.phenopacketHpoPhenotypeValidator(hpo));
+                    //noinspection unchecked
+                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Ancestry.phenopacketHpoAncestryValidator(hpo));
+                }
+                case FAMILY -> {
+                    //noinspection unchecked
+                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Primary.familyHpoPhenotypeValidator(hpo));
+                    //noinspection unchecked
+                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Ancestry.familyHpoAncestryValidator(hpo));
+                }
+                case COHORT -> {
+                    //noinspection unchecked
+                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Primary.cohortHpoPhenotypeValidator(hpo));
+                    //noinspection unchecked
+                    validators.add((PhenopacketValidator<T>) HpoPhenotypeValidators.Ancestry.cohortHpoAncestryValidator(hpo));
+                }
+            }
+        }
+
+        if (!organSystems.isEmpty()) {
+            PhenopacketValidator<T> validator = prepareOrganSystemValidator(hpo, organSystems, element);
+            if (validator != null)
+                validators.add(validator);
+        }
+
+        LOGGER.debug("Configured {} semantic validator(s)", validators.size());
+        return validators;
+    }
+
+    private static <T extends MessageOrBuilder> PhenopacketValidator<T> prepareOrganSystemValidator(Ontology hpo,
+                                                                                                    List<String> organSystems,
+                                                                                                    PhenopacketElement element) {
+        // Organ system validation can only be done when HPO is provided.
+        if (hpo == null) {
+            LOGGER.warn("Terms for organ system validation were provided but the path to HPO is unset. Use --hpo option to enable organ system validation.");
+            return null;
+        }
+
+        // Prepare organ system IDs.
+        List<TermId> organSystemIds = prepareOrganSystemIds(organSystems);
+
+        // Create the validator.
+        if (!organSystemIds.isEmpty()) {
+            return switch (element) {
+                case PHENOPACKET -> //noinspection unchecked
+                        (PhenopacketValidator<T>) HpoPhenotypeValidators.OrganSystem.phenopacketHpoOrganSystemValidator(hpo, organSystemIds);
+                case FAMILY -> //noinspection unchecked
+                        (PhenopacketValidator<T>) HpoPhenotypeValidators.OrganSystem.familyHpoOrganSystemValidator(hpo, organSystemIds);
+                case COHORT -> //noinspection unchecked
+                        (PhenopacketValidator<T>) HpoPhenotypeValidators.OrganSystem.cohortHpoOrganSystemValidator(hpo, organSystemIds);
+            };
+        }
+
+        return null;
+    }
+
+    private static List<TermId> prepareOrganSystemIds(List<String> organSystems) {
+        LOGGER.trace("Found {} organ system IDs: {}", organSystems.size(), organSystems.stream()
+                .collect(Collectors.joining(", ", "{", "}")));
+        List<TermId> organSystemIds = organSystems.stream()
+                .map(toTermId())
+                .flatMap(Optional::stream)
+                .toList();
+        LOGGER.trace("{} organ system IDs are valid term IDs: {}", organSystemIds.size(),
+                organSystemIds.stream()
+                        .map(TermId::getValue)
+                        .collect(Collectors.joining(", ", "{", "}")));
+        return organSystemIds;
+    }
+
+    /**
+     * @return a function that maps a {@link String} into a {@link TermId} or emits a warning if the value
+     * cannot be mapped.
+     */
+    private static Function<String, Optional<TermId>> toTermId() {
+        return value -> {
+            try {
+                return Optional.of(TermId.of(value));
+            } catch (PhenolRuntimeException e) {
+                LOGGER.warn("Invalid term ID {}", value);
+                return Optional.empty();
+            }
+        };
+    }
+
+}
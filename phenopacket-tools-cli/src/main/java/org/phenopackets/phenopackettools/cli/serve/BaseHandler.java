@@ -0,0 +1,194 @@
+package org.phenopackets.phenopackettools.cli.serve;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.util.format.ElementSniffer;
+import org.phenopackets.phenopackettools.util.format.FormatSniffer;
+import org.phenopackets.phenopackettools.util.format.SniffException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base handler for the endpoints that receive a top-level element of the Phenopacket schema
+ * in the request body.
+ * <p>
+ * The handler accepts {@code POST} requests with a payload in any {@link PhenopacketFormat}.
+ * The {@link PhenopacketElement} is taken from the last path segment (e.g. {@code /validate/family}),
+ * or sniffed from the payload if the segment is absent (e.g. {@code /validate}).
+ */
+abstract class BaseHandler implements HttpHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseHandler.class);
+
+    protected static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    // Larger request bodies are rejected with 413 to protect the heap of the server.
+    static final int MAX_BODY_SIZE = 64 * 1024 * 1024;
+
+    private final String contextPath;
+
+    protected BaseHandler(String contextPath) {
+        this.contextPath = contextPath;
+    }
+
+    String contextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendResponse(exchange, 405, TEXT_CONTENT_TYPE, "Use POST to submit the top-level element\n".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            byte[] payload = readBody(exchange);
+            if (payload.length == 0)
+                throw new RequestException(400, "The request body is empty");
+
+            PhenopacketFormat format = FormatSniffer.sniff(payload);
+            PhenopacketElement element = parseElement(exchange.getRequestURI().getPath(), payload, format);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            Response response = process(new Request(format, element, payload, query));
+            sendResponse(exchange, 200, response.contentType(), response.body());
+        } catch (RequestException e) {
+            LOGGER.debug("Rejecting request: {}", e.getMessage());
+            sendResponse(exchange, e.status(), TEXT_CONTENT_TYPE, (e.getMessage() + '\n').getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            LOGGER.error("Error while processing request: {}", e.getMessage(), e);
+            sendResponse(exchange, 500, TEXT_CONTENT_TYPE, "Internal server error\n".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Process the request and prepare the response.
+     *
+     * @throws RequestException if the request cannot be processed due to a problem on the client side.
+     */
+    protected abstract Response process(Request request) throws RequestException;
+
+    /**
+     * Read the request body, up to {@link #MAX_BODY_SIZE} bytes.
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException, RequestException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength.strip());
+            } catch (NumberFormatException e) {
+                throw new RequestException(400, "Invalid Content-Length '%s'".formatted(contentLength));
+            }
+            if (length > MAX_BODY_SIZE)
+                throw bodyTooLarge();
+        }
+
+        // The body may be chunked, hence we cannot rely on the Content-Length alone.
+        byte[] payload = exchange.getRequestBody().readNBytes(MAX_BODY_SIZE + 1);
+        if (payload.length > MAX_BODY_SIZE)
+            throw bodyTooLarge();
+        return payload;
+    }
+
+    private static RequestException bodyTooLarge() {
+        return new RequestException(413, "The request body exceeds the limit of %d bytes".formatted(MAX_BODY_SIZE));
+    }
+
+    private PhenopacketElement parseElement(String path, byte[] payload, PhenopacketFormat format) throws RequestException {
+        String rest = path.substring(Math.min(contextPath.length(), path.length()));
+        if (rest.startsWith("/"))
+            rest = rest.substring(1);
+        if (rest.endsWith("/"))
+            rest = rest.substring(0, rest.length() - 1);
+
+        if (rest.isEmpty()) {
+            try {
+                return ElementSniffer.sniff(payload, format);
+            } catch (SniffException e) {
+                throw new RequestException(400, "Unable to sniff the top-level element, use e.g. %s/phenopacket: %s".formatted(contextPath, e.getMessage()));
+            }
+        }
+
+        try {
+            return PhenopacketElement.parse(rest);
+        } catch (IllegalArgumentException e) {
+            throw new RequestException(404, "Unknown top-level element '%s'".formatted(rest));
+        }
+    }
+
+    /**
+     * Parse the raw query of the request URI into the decoded parameters.
+     */
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty())
+            return query;
+
+        for (String pair : rawQuery.split("&")) {
+            int idx = pair.indexOf('=');
+            String key = idx < 0 ? pair : pair.substring(0, idx);
+            String value = idx < 0 ? "" : pair.substring(idx + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sendResponse(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length != 0) {
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        }
+    }
+
+    /**
+     * The request with the sniffed {@link PhenopacketFormat}, the requested {@link PhenopacketElement},
+     * the request body, and the query parameters.
+     */
+    protected record Request(PhenopacketFormat format,
+                             PhenopacketElement element,
+                             byte[] payload,
+                             Map<String, String> query) {
+    }
+
+    protected record Response(String contentType, byte[] body) {
+    }
+
+    /**
+     * Indicates that the request cannot be processed due to a problem on the client side.
+     */
+    protected static class RequestException extends Exception {
+
+        private final int status;
+
+        RequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        RequestException(int status, String message, Throwable cause) {
+            super(message, cause);
+            this.status = status;
+        }
+
+        int status() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.phenopackets.phenopackettools.cli.serve;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.converter.converters.V1ToV2Converter;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.PhenopacketSchemaVersion;
+import org.phenopackets.phenopackettools.io.PhenopacketParser;
+import org.phenopackets.phenopackettools.io.PhenopacketParserFactory;
+import org.phenopackets.phenopackettools.io.PhenopacketPrinter;
+import org.phenopackets.phenopackettools.io.PhenopacketPrinterFactory;
+import org.phenopackets.schema.v1.Cohort;
+import org.phenopackets.schema.v1.Family;
+import org.phenopackets.schema.v1.Phenopacket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Convert the v1 top-level element from the request body to v2 and respond with the converted element.
+ * <p>
+ * The element is written in the input format unless the {@code format} query parameter is set.
+ * The variants are converted if the {@code convertVariants} query parameter is {@code true}.
+ */
+class ConvertHandler extends BaseHandler {
+
+    private final PhenopacketParser parser;
+    private final PhenopacketPrinterFactory printerFactory;
+    private final V1ToV2Converter converter;
+    private final V1ToV2Converter variantConverter;
+
+    ConvertHandler() {
+        super("/convert");
+        this.parser = PhenopacketParserFactory.getInstance().forFormat(PhenopacketSchemaVersion.V1);
+        this.printerFactory = PhenopacketPrinterFactory.getInstance();
+        this.converter = V1ToV2Converter.of(false);
+        this.variantConverter = V1ToV2Converter.of(true);
+    }
+
+    @Override
+    protected Response process(Request request) throws RequestException {
+        PhenopacketFormat outputFormat = parseOutputFormat(request.query(), request.format());
+        V1ToV2Converter converter = Boolean.parseBoolean(request.query().get("convertVariants"))
+                ? this.variantConverter
+                : this.converter;
+
+        Message message;
+        try {
+            message = parser.parse(request.format(), request.element(), new ByteArrayInputStream(request.payload()));
+        } catch (IOException e) {
+            throw new RequestException(400, "Unable to read the %s %s: %s".formatted(request.format(), request.element(), e.getMessage()), e);
+        }
+
+        Message v2 = switch (request.element()) {
+            case PHENOPACKET -> converter.convertPhenopacket((Phenopacket) message);
+            case FAMILY -> converter.convertFamily((Family) message);
+            case COHORT -> converter.convertCohort((Cohort) message);
+        };
+
+        PhenopacketPrinter printer = printerFactory.forFormat(PhenopacketSchemaVersion.V2, outputFormat);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            printer.print(v2, os);
+        } catch (IOException e) {
+            // Should not happen since we are writing into a byte array.
+            throw new UncheckedIOException(e);
+        }
+
+        return new Response(contentType(outputFormat), os.toByteArray());
+    }
+
+    private static PhenopacketFormat parseOutputFormat(Map<String, String> query, PhenopacketFormat inputFormat) throws RequestException {
+        String value = query.get("format");
+        if (value == null)
+            return inputFormat;
+
+        try {
+            return PhenopacketFormat.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new RequestException(400, e.getMessage(), e);
+        }
+    }
+
+    private static String contentType(PhenopacketFormat format) {
+        return switch (format) {
+            case PROTOBUF -> "application/x-protobuf";
+            case JSON -> JSON_CONTENT_TYPE;
+            case YAML -> "application/yaml";
+        };
+    }
+}
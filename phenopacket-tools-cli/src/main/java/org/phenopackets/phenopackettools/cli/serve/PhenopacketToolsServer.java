@@ -0,0 +1,124 @@
+package org.phenopackets.phenopackettools.cli.serve;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A long-running HTTP server that keeps the {@link ValidationWorkflowRunner}s and the converters warm
+ * and exposes the following endpoints:
+ * <ul>
+ *     <li>{@code POST /validate/{phenopacket|family|cohort}} - validate a v2 top-level element,</li>
+ *     <li>{@code POST /convert/{phenopacket|family|cohort}} - convert a v1 top-level element to v2,</li>
+ *     <li>{@code POST /reload} - rebuild the runners in the background, if a reloader is provided,</li>
+ *     <li>{@code GET /health} - check the server is up.</li>
+ * </ul>
+ * The request body can be in any of the {@link org.phenopackets.phenopackettools.core.PhenopacketFormat}s.
+ * The requests are handled by a fixed pool of worker threads.
+ */
+public class PhenopacketToolsServer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhenopacketToolsServer.class);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Create the server without the {@code /reload} endpoint.
+     *
+     * @see #PhenopacketToolsServer(InetSocketAddress, int, Map, String, Supplier)
+     */
+    public PhenopacketToolsServer(InetSocketAddress address,
+                                  int nThreads,
+                                  Map<PhenopacketElement, ValidationWorkflowRunner<?>> runners,
+                                  String phenopacketToolsVersion) throws IOException {
+        this(address, nThreads, runners, phenopacketToolsVersion, null);
+    }
+
+    /**
+     * Create the server. The server is not started until {@link #start()} is called.
+     *
+     * @param address                 the address to bind to. Use port {@code 0} to choose an ephemeral port.
+     * @param nThreads                the number of threads for handling the requests.
+     * @param runners                 the runners for validating the top-level elements.
+     * @param phenopacketToolsVersion phenopacket tools version to report in the validation results.
+     * @param reloader                a function to start rebuilding the {@code runners} in the background,
+     *                                or {@code null} if the runners cannot be reloaded.
+     * @throws IOException if the server cannot be bound to the {@code address}.
+     */
+    public PhenopacketToolsServer(InetSocketAddress address,
+                                  int nThreads,
+                                  Map<PhenopacketElement, ValidationWorkflowRunner<?>> runners,
+                                  String phenopacketToolsVersion,
+                                  Supplier<? extends CompletableFuture<?>> reloader) throws IOException {
+        if (nThreads < 1)
+            throw new IllegalArgumentException("The number of threads must be positive but was " + nThreads);
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newFixedThreadPool(nThreads);
+        this.server.setExecutor(executor);
+
+        ValidateHandler validateHandler = new ValidateHandler(Map.copyOf(runners), phenopacketToolsVersion);
+        server.createContext(validateHandler.contextPath(), validateHandler);
+        ConvertHandler convertHandler = new ConvertHandler();
+        server.createContext(convertHandler.contextPath(), convertHandler);
+        if (reloader != null)
+            server.createContext("/reload", new ReloadHandler(reloader));
+        server.createContext("/health", PhenopacketToolsServer::handleHealth);
+    }
+
+    public void start() {
+        server.start();
+        LOGGER.info("Listening on {}", server.getAddress());
+    }
+
+    /**
+     * @return the address the server is bound to.
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stop accepting new requests, wait at most {@code delay} seconds for the in-flight requests to finish,
+     * and shut down the worker threads.
+     */
+    public void stop(int delay) {
+        server.stop(delay);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(delay, TimeUnit.SECONDS))
+                executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        stop(0);
+    }
+
+    private static void handleHealth(HttpExchange exchange) throws IOException {
+        byte[] body = "OK\n".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.phenopackets.phenopackettools.cli.serve;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Start rebuilding the validation workflow runners in the background.
+ * <p>
+ * The handler responds with {@code 202 Accepted} right away. Use the {@code wait=true} query parameter to wait
+ * until the reload finishes.
+ */
+class ReloadHandler implements HttpHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReloadHandler.class);
+
+    private final Supplier<? extends CompletableFuture<?>> reloader;
+
+    ReloadHandler(Supplier<? extends CompletableFuture<?>> reloader) {
+        this.reloader = reloader;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendText(exchange, 405, "Use POST to reload the validators\n");
+                return;
+            }
+
+            CompletableFuture<?> reload = reloader.get();
+            Map<String, String> query = BaseHandler.parseQuery(exchange.getRequestURI().getRawQuery());
+            if ("true".equals(query.get("wait"))) {
+                try {
+                    reload.join();
+                    sendText(exchange, 200, "Reloaded\n");
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    LOGGER.warn("Reload failed: {}", cause.getMessage());
+                    sendText(exchange, 500, "Reload failed: %s\n".formatted(cause.getMessage()));
+                }
+            } else {
+                sendText(exchange, 202, "Reloading\n");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.phenopackets.phenopackettools.cli.serve;
+
+import org.phenopackets.phenopackettools.cli.writer.JsonValidationResultsWriter;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.validator.core.ReloadableValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.writer.ValidationResultsAndPath;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validate the top-level element from the request body and respond with the validation results in JSON format.
+ */
+class ValidateHandler extends BaseHandler {
+
+    private final Map<PhenopacketElement, ValidationWorkflowRunner<?>> runners;
+    private final String phenopacketToolsVersion;
+
+    ValidateHandler(Map<PhenopacketElement, ValidationWorkflowRunner<?>> runners, String phenopacketToolsVersion) {
+        super("/validate");
+        this.runners = runners;
+        this.phenopacketToolsVersion = phenopacketToolsVersion;
+    }
+
+    @Override
+    protected Response process(Request request) throws RequestException {
+        ValidationWorkflowRunner<?> runner = runners.get(request.element());
+        if (runner == null)
+            throw new RequestException(404, "Validation of %s is not supported".formatted(request.element()));
+        if (runner instanceof ReloadableValidationWorkflowRunner<?> reloadable)
+            // Use the same runner for validation and for reporting the validators, even if a reload is in progress.
+            runner = reloadable.current();
+
+        ValidationResults results = runner.validate(request.payload());
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            JsonValidationResultsWriter writer = new JsonValidationResultsWriter(os, phenopacketToolsVersion, LocalDateTime.now());
+            writer.writeValidationResults(runner.validators(), List.of(new ValidationResultsAndPath(results, null)));
+        } catch (IOException e) {
+            // Should not happen since we are writing into a byte array.
+            throw new UncheckedIOException(e);
+        }
+
+        return new Response(JSON_CONTENT_TYPE, os.toByteArray());
+    }
+
+}
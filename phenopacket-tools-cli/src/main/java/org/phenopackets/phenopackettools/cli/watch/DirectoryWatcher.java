@@ -0,0 +1,136 @@
+package org.phenopackets.phenopackettools.cli.watch;
+
+import org.phenopackets.phenopackettools.io.PhenopacketParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watch a directory tree for created and modified files and report the changed files in batches.
+ * <p>
+ * The events are debounced. A batch is reported once no event has arrived for the debounce period,
+ * hence a file that is written in several steps (e.g. by an editor) is reported once. The subdirectories
+ * created after the start are watched as well.
+ */
+public class DirectoryWatcher implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private final Path directory;
+    private final PathMatcher matcher;
+    private final Duration debounce;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+
+    /**
+     * Start watching the {@code directory}.
+     *
+     * @param directory the root of the directory tree to watch
+     * @param glob      the glob for selecting the files relative to the {@code directory}
+     *                  or {@code null} for the {@link PhenopacketParser#DEFAULT_GLOB}
+     * @param debounce  the period without events before reporting a batch of the changed files
+     */
+    public DirectoryWatcher(Path directory, String glob, Duration debounce) throws IOException {
+        if (!Files.isDirectory(directory))
+            throw new IOException("Not a directory: " + directory.toAbsolutePath());
+        this.directory = directory;
+        this.matcher = directory.getFileSystem().getPathMatcher("glob:" + (glob == null ? PhenopacketParser.DEFAULT_GLOB : glob));
+        this.debounce = Objects.requireNonNull(debounce);
+        this.watchService = directory.getFileSystem().newWatchService();
+        register(directory);
+    }
+
+    /**
+     * @return the sorted paths of the files under the watched directory that match the glob
+     */
+    public List<Path> listFiles() throws IOException {
+        return listFiles(directory);
+    }
+
+    /**
+     * Block and report the batches of the changed files to the {@code consumer} until the watcher is closed
+     * or the thread is interrupted. The files of a batch are sorted.
+     */
+    public void watch(Consumer<List<Path>> consumer) {
+        SortedSet<Path> changed = new TreeSet<>();
+        try {
+            while (true) {
+                WatchKey key = changed.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    // No event for the debounce period.
+                    consumer.accept(List.copyOf(changed));
+                    changed.clear();
+                    continue;
+                }
+
+                Path parent = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        LOGGER.warn("Some file system events were lost, checking all files");
+                        changed.addAll(listFiles(directory));
+                    } else if (parent != null) {
+                        onEvent(event, parent.resolve((Path) event.context()), changed);
+                    }
+                }
+                if (!key.reset())
+                    directories.remove(key);
+            }
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Stopped watching {}", directory.toAbsolutePath());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOGGER.warn("Stopped watching {}: {}", directory.toAbsolutePath(), e.getMessage(), e);
+        }
+    }
+
+    private void onEvent(WatchEvent<?> event, Path path, Set<Path> changed) throws IOException {
+        if (Files.isDirectory(path)) {
+            if (event.kind() == ENTRY_CREATE) {
+                // The files may have been created before the new directory was registered.
+                register(path);
+                changed.addAll(listFiles(path));
+            }
+        } else if (isSelected(path)) {
+            changed.add(path);
+        }
+    }
+
+    private void register(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Iterator<Path> iterator = paths.filter(Files::isDirectory).iterator(); iterator.hasNext(); ) {
+                Path dir = iterator.next();
+                directories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY), dir);
+            }
+        }
+    }
+
+    private List<Path> listFiles(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(this::isSelected)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private boolean isSelected(Path path) {
+        return Files.isRegularFile(path) && matcher.matches(directory.relativize(path));
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
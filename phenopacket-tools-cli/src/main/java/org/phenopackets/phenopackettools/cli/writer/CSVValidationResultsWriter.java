@@ -23,6 +23,10 @@ import java.util.List;
 public class CSVValidationResultsWriter implements ValidationResultsWriter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CSVValidationResultsWriter.class);
+    static final List<String> COLUMNS = List.of("PATH", "LEVEL", "VALIDATOR_ID", "CATEGORY", "MESSAGE", "LOCATION");
+    static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setCommentMarker('#')
+            .build();
 
     private final OutputStream os;
     private final String phenopacketToolsVersion;
@@ -49,10 +53,7 @@ public class CSVValidationResultsWriter implements ValidationResultsWriter {
         BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(os));
 
         try {
-            CSVPrinter printer = CSVFormat.DEFAULT.builder()
-                    .setCommentMarker('#')
-                    .build()
-                    .print(writer);
+            CSVPrinter printer = FORMAT.print(writer);
 
             if (printHeader)
                 printHeader(validators, printer);
@@ -78,7 +79,7 @@ public class CSVValidationResultsWriter implements ValidationResultsWriter {
         }
 
         // Print column names
-        printer.printRecord("PATH", "LEVEL", "VALIDATOR_ID", "CATEGORY", "MESSAGE");
+        printer.printRecord(COLUMNS);
     }
 
     private static void printValidationResults(List<ValidationResultsAndPath> results, CSVPrinter printer) throws IOException {
@@ -90,6 +91,7 @@ public class CSVValidationResultsWriter implements ValidationResultsWriter {
                 printer.print(result.validatorInfo().validatorId());
                 printer.print(result.category());
                 printer.print(result.message());
+                printer.print(result.location().orElse("-"));
                 printer.println();
             }
         }
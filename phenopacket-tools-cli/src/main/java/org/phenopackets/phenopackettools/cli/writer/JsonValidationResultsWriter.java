@@ -0,0 +1,87 @@
+package org.phenopackets.phenopackettools.cli.writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
+import org.phenopackets.phenopackettools.validator.core.writer.ValidationResultsAndPath;
+import org.phenopackets.phenopackettools.validator.core.writer.ValidationResultsWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Write {@link org.phenopackets.phenopackettools.validator.core.ValidationResults} into provided {@link OutputStream}
+ * as a JSON object with validation metadata, the validators, and the validation results.
+ */
+public class JsonValidationResultsWriter implements ValidationResultsWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final OutputStream os;
+    private final String phenopacketToolsVersion;
+    private final LocalDateTime dateTime;
+
+    /**
+     * Create the writer using a given {@link OutputStream}. Note that the {@link OutputStream} is <em>not</em> closed.
+     *
+     * @param os                      where to write to
+     * @param phenopacketToolsVersion phenopacket tools version
+     * @param dateTime                the time of validation
+     */
+    public JsonValidationResultsWriter(OutputStream os, String phenopacketToolsVersion, LocalDateTime dateTime) {
+        this.os = os;
+        this.phenopacketToolsVersion = phenopacketToolsVersion;
+        this.dateTime = dateTime;
+    }
+
+    @Override
+    public void writeValidationResults(List<ValidatorInfo> validators, List<ValidationResultsAndPath> results) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(os, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (generator) {
+            generator.writeStartObject();
+            generator.writeStringField("phenopacketToolsVersion", phenopacketToolsVersion);
+            generator.writeStringField("date", dateTime.toString());
+
+            writeValidators(validators, generator);
+            writeResults(results, generator);
+
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeValidators(List<ValidatorInfo> validators, JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart("validators");
+        for (ValidatorInfo validator : validators) {
+            generator.writeStartObject();
+            generator.writeStringField("validatorId", validator.validatorId());
+            generator.writeStringField("validatorName", validator.validatorName());
+            generator.writeStringField("description", validator.description());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeResults(List<ValidationResultsAndPath> results, JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart("results");
+        for (ValidationResultsAndPath rp : results) {
+            String path = rp.path() == null ? null : rp.path().toAbsolutePath().toString();
+            for (ValidationResult result : rp.results().validationResults()) {
+                generator.writeStartObject();
+                generator.writeStringField("path", path);
+                generator.writeStringField("level", result.level().name());
+                generator.writeStringField("validatorId", result.validatorInfo().validatorId());
+                generator.writeStringField("category", result.category());
+                generator.writeStringField("message", result.message());
+                if (result.location().isPresent())
+                    generator.writeStringField("location", result.location().get());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,114 @@
+package org.phenopackets.phenopackettools.cli.writer;
+
+import org.phenopackets.phenopackettools.validator.core.ValidatorTiming;
+import org.phenopackets.phenopackettools.validator.core.writer.ValidationResultsAndPath;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Write an aggregate per-validator latency histogram of the {@link ValidatorTiming}s into provided {@link OutputStream}.
+ * The latencies are binned into power-of-two microsecond buckets.
+ */
+public class TimingsHistogramWriter {
+
+    private static final int BAR_WIDTH = 40;
+
+    private final OutputStream os;
+
+    /**
+     * Create the writer using a given {@link OutputStream}. Note that the {@link OutputStream} is <em>not</em> closed.
+     *
+     * @param os where to write to
+     */
+    public TimingsHistogramWriter(OutputStream os) {
+        this.os = os;
+    }
+
+    public void writeTimings(List<ValidationResultsAndPath> results) throws IOException {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        for (ValidationResultsAndPath rp : results) {
+            for (ValidatorTiming timing : rp.results().timings()) {
+                summaries.computeIfAbsent(timing.validatorInfo().validatorId(), id -> new Summary())
+                        .add(timing);
+            }
+        }
+
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(os));
+        writer.printf("# Validator timings of %d item(s)%n", results.size());
+        if (summaries.isEmpty())
+            writer.println("# No timings were recorded, e.g. because the results were served from the cache");
+
+        for (Map.Entry<String, Summary> e : summaries.entrySet()) {
+            writeSummary(writer, e.getKey(), e.getValue());
+        }
+        writer.flush();
+        if (writer.checkError())
+            throw new IOException("Error while writing the timings");
+    }
+
+    private static void writeSummary(PrintWriter writer, String validatorId, Summary summary) {
+        long[] micros = summary.micros();
+        Arrays.sort(micros);
+        writer.printf("%s: runs=%d total=%.1f ms mean=%d us p50=%d us p90=%d us p99=%d us max=%d us results=%d input=%d%n",
+                validatorId,
+                micros.length,
+                summary.totalNanos / 1_000_000.,
+                summary.totalNanos / 1_000 / micros.length,
+                percentile(micros, .5),
+                percentile(micros, .9),
+                percentile(micros, .99),
+                micros[micros.length - 1],
+                summary.resultCount,
+                summary.inputSize);
+
+        // The bucket `i` contains latencies in `[2^(i-1), 2^i)` microseconds, the bucket 0 contains latencies below 1 us.
+        int[] buckets = new int[Long.SIZE + 1];
+        for (long us : micros)
+            buckets[bucket(us)]++;
+
+        int first = bucket(micros[0]);
+        int last = bucket(micros[micros.length - 1]);
+        int max = Arrays.stream(buckets).max().orElse(1);
+        for (int i = first; i <= last; i++) {
+            String range = i == 0
+                    ? "<1"
+                    : "[%d, %d)".formatted(1L << (i - 1), 1L << i);
+            int width = buckets[i] * BAR_WIDTH / max;
+            writer.printf("  %20s us | %s %d%n", range, "#".repeat(width), buckets[i]);
+        }
+    }
+
+    private static int bucket(long us) {
+        return Long.SIZE - Long.numberOfLeadingZeros(us);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(idx, 0)];
+    }
+
+    private static class Summary {
+
+        private final List<Long> nanos = new ArrayList<>();
+        private long totalNanos = 0;
+        private long resultCount = 0;
+        private long inputSize = 0;
+
+        private void add(ValidatorTiming timing) {
+            nanos.add(timing.elapsedNanos());
+            totalNanos += timing.elapsedNanos();
+            resultCount += timing.resultCount();
+            inputSize += timing.inputSize();
+        }
+
+        private long[] micros() {
+            return nanos.stream()
+                    .mapToLong(n -> n / 1_000)
+                    .toArray();
+        }
+    }
+}
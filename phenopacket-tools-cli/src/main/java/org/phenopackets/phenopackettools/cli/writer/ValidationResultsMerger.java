@@ -0,0 +1,135 @@
+package org.phenopackets.phenopackettools.cli.writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Merge the validation results written by {@link CSVValidationResultsWriter} or {@link JsonValidationResultsWriter},
+ * e.g. the results of the shards of a validation run.
+ * <p>
+ * The merged results include the results of all inputs in the order of the inputs. The metadata, such as
+ * the phenopacket-tools version and the date, are taken from the first input with the metadata,
+ * and the validators are merged.
+ */
+public class ValidationResultsMerger {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private ValidationResultsMerger() {
+        // static utility class
+    }
+
+    /**
+     * Merge the CSV results at {@code inputs} into {@code os}. Note that the {@link OutputStream} is <em>not</em> closed.
+     */
+    public static void mergeCsv(List<Path> inputs, OutputStream os) throws IOException {
+        // (1) Merge the headers.
+        String version = null;
+        String date = null;
+        Set<String> validators = new LinkedHashSet<>();
+        boolean header = false;
+        for (Path input : inputs) {
+            try (CSVParser parser = openCsv(input)) {
+                Iterator<CSVRecord> records = parser.iterator();
+                if (!records.hasNext())
+                    continue;
+                CSVRecord first = records.next();
+                if (first.hasComment()) {
+                    for (String comment : first.getComment().split("\n")) {
+                        if (comment.startsWith("validator_id="))
+                            validators.add(comment);
+                        else if (comment.startsWith("date=") && date == null)
+                            date = comment;
+                        else if (version == null)
+                            version = comment;
+                    }
+                }
+                header |= isColumnNames(first);
+            }
+        }
+
+        // (2) Write out the header and the results.
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        CSVPrinter printer = CSVValidationResultsWriter.FORMAT.print(writer);
+        if (version != null)
+            printer.printComment(version);
+        if (date != null)
+            printer.printComment(date);
+        for (String validator : validators)
+            printer.printComment(validator);
+        if (header)
+            printer.printRecord(CSVValidationResultsWriter.COLUMNS);
+
+        for (Path input : inputs) {
+            try (CSVParser parser = openCsv(input)) {
+                for (CSVRecord record : parser) {
+                    if (record.getRecordNumber() == 1 && isColumnNames(record))
+                        continue;
+                    printer.printRecord(record);
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Merge the JSON results at {@code inputs} into {@code os}. Note that the {@link OutputStream} is <em>not</em> closed.
+     */
+    public static void mergeJson(List<Path> inputs, OutputStream os) throws IOException {
+        ObjectNode merged = MAPPER.createObjectNode();
+        Map<String, JsonNode> validators = new LinkedHashMap<>();
+        ArrayNode results = MAPPER.createArrayNode();
+        for (Path input : inputs) {
+            JsonNode node = MAPPER.readTree(input.toFile());
+            if (!node.isObject())
+                throw new IOException("Expected validation results object in " + input.toAbsolutePath());
+            for (String field : List.of("phenopacketToolsVersion", "date")) {
+                if (!merged.has(field) && node.has(field))
+                    merged.set(field, node.get(field));
+            }
+            for (JsonNode validator : node.path("validators"))
+                validators.putIfAbsent(validator.path("validatorId").asText(), validator);
+            if (node.path("results") instanceof ArrayNode array)
+                results.addAll(array);
+        }
+        merged.putArray("validators").addAll(validators.values());
+        merged.set("results", results);
+
+        MAPPER.writeValue(os, merged);
+    }
+
+    /**
+     * @return {@code true} if the file at {@code path} looks like JSON results rather than CSV results
+     */
+    public static boolean isJson(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (!Character.isWhitespace(c))
+                    return c == '{';
+            }
+            return false;
+        }
+    }
+
+    private static CSVParser openCsv(Path input) throws IOException {
+        return CSVValidationResultsWriter.FORMAT.parse(Files.newBufferedReader(input));
+    }
+
+    private static boolean isColumnNames(CSVRecord record) {
+        return record.toList().equals(CSVValidationResultsWriter.COLUMNS);
+    }
+}
@@ -0,0 +1,49 @@
+package org.phenopackets.phenopackettools.cli.command;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ShardTest {
+
+    @Test
+    public void parse() {
+        assertThat(Shard.parse("2/8"), equalTo(new Shard(2, 8)));
+        assertThat(Shard.parse(" 1 / 1 "), equalTo(new Shard(1, 1)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2", "0/4", "5/4", "1/0", "a/b", "1/2/3"})
+    public void parseInvalid(String value) {
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse(value));
+    }
+
+    @Test
+    public void eachInputBelongsToExactlyOneShard() {
+        int count = 4;
+        List<Shard> shards = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Shard(i, count))
+                .toList();
+        for (int i = 0; i < 100; i++) {
+            Path path = Path.of("cohort-" + (i % 3), "pp-" + i + ".json");
+            assertThat(shards.stream().filter(shard -> shard.contains(path)).count(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void assignmentIsStable() {
+        // The assignment must not change between the releases, otherwise the shards of a corpus would overlap.
+        Shard shard = new Shard(1, 4);
+        assertThat(shard.contains(Path.of("cohort", "pp-1.json")), equalTo(shard.contains("cohort/pp-1.json")));
+        assertThat(IntStream.range(0, 8).filter(i -> shard.contains("pp-" + i + ".json")).boxed().toList(),
+                contains(3, 4));
+    }
+}
@@ -0,0 +1,160 @@
+package org.phenopackets.phenopackettools.cli.serve;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.phenopackets.phenopackettools.cli.examples.Marfan;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.jsonschema.JsonSchemaValidationWorkflowRunner;
+import org.phenopackets.schema.v1.Phenopacket;
+import org.phenopackets.schema.v1.core.Individual;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PhenopacketToolsServerTest {
+
+    private static PhenopacketToolsServer SERVER;
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        Map<PhenopacketElement, ValidationWorkflowRunner<?>> runners = Map.of(
+                PhenopacketElement.PHENOPACKET, JsonSchemaValidationWorkflowRunner.phenopacketBuilder().build(),
+                PhenopacketElement.FAMILY, JsonSchemaValidationWorkflowRunner.familyBuilder().build(),
+                PhenopacketElement.COHORT, JsonSchemaValidationWorkflowRunner.cohortBuilder().build()
+        );
+        SERVER = new PhenopacketToolsServer(new InetSocketAddress("localhost", 0), 2, runners, "TEST");
+        SERVER.start();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        SERVER.close();
+    }
+
+    @Test
+    public void validatePhenopacketInJson() throws Exception {
+        String json = PhenopacketPrintUtil.getPrinter().print(new Marfan().getPhenopacket());
+
+        Response response = post("/validate/phenopacket", json.getBytes());
+
+        assertThat(response.status(), equalTo(200));
+        assertThat(response.body(), containsString("\"validatorId\":\"BaseValidator\""));
+        assertThat(response.body(), containsString("\"results\":[]"));
+    }
+
+    @Test
+    public void validateProtobufPhenopacket() throws Exception {
+        byte[] payload = new Marfan().getPhenopacket().toBuilder().clearId().build().toByteArray();
+
+        Response response = post("/validate/phenopacket", payload);
+
+        assertThat(response.status(), equalTo(200));
+        assertThat(response.body(), containsString("'id' is missing but it is required"));
+    }
+
+    @Test
+    public void convertV1PhenopacketToYaml() throws Exception {
+        Phenopacket v1 = Phenopacket.newBuilder()
+                .setId("example")
+                .setSubject(Individual.newBuilder().setId("subject").build())
+                .build();
+        String json = PhenopacketPrintUtil.getPrinter().print(v1);
+
+        Response response = post("/convert?format=yaml", json.getBytes());
+
+        assertThat(response.status(), equalTo(200));
+        assertThat(response.contentType(), equalTo("application/yaml"));
+        assertThat(response.body(), containsString("id: \"subject\""));
+    }
+
+    @Test
+    public void unknownElementIsRejected() throws Exception {
+        Response response = post("/validate/biosample", "{}".getBytes());
+
+        assertThat(response.status(), equalTo(404));
+    }
+
+    @Test
+    public void tooLargeBodyIsRejected() throws Exception {
+        InetSocketAddress address = SERVER.address();
+        try (Socket socket = new Socket(address.getHostString(), address.getPort())) {
+            // Declare a body over the limit, the server must answer without reading the body.
+            String request = "POST /validate/phenopacket HTTP/1.1\r\nHost: localhost\r\nContent-Length: %d\r\n\r\n"
+                    .formatted(BaseHandler.MAX_BODY_SIZE + 1L);
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+
+            String statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+
+            assertThat(statusLine, startsWith("HTTP/1.1 413"));
+        }
+    }
+
+    @Test
+    public void reloadWaitsOnlyIfRequested() throws Exception {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        try (PhenopacketToolsServer server = new PhenopacketToolsServer(new InetSocketAddress("localhost", 0), 2, Map.of(), "TEST", () -> pending)) {
+            server.start();
+            String base = "http://localhost:%d/reload".formatted(server.address().getPort());
+
+            // A parameter that merely ends with `wait` must not block.
+            assertThat(post(new URL(base + "?nowait=true"), new byte[0]).status(), equalTo(202));
+
+            pending.complete(null);
+            assertThat(post(new URL(base + "?wait=true"), new byte[0]).status(), equalTo(200));
+        }
+    }
+
+    @Test
+    public void onlyPostIsAllowed() throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) url("/validate/phenopacket").openConnection();
+
+        Response response = readResponse(connection);
+
+        assertThat(response.status(), equalTo(405));
+    }
+
+    private static Response post(String path, byte[] payload) throws IOException {
+        return post(url(path), payload);
+    }
+
+    private static Response post(URL url, byte[] payload) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream os = connection.getOutputStream()) {
+            os.write(payload);
+        }
+        return readResponse(connection);
+    }
+
+    private static Response readResponse(HttpURLConnection connection) throws IOException {
+        int status = connection.getResponseCode();
+        try (InputStream is = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            String body = is == null ? "" : new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            return new Response(status, connection.getContentType(), body);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static URL url(String path) throws IOException {
+        InetSocketAddress address = SERVER.address();
+        return new URL("http://%s:%d%s".formatted(address.getHostString(), address.getPort(), path));
+    }
+
+    private record Response(int status, String contentType, String body) {
+    }
+}
@@ -0,0 +1,59 @@
+package org.phenopackets.phenopackettools.cli.watch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class DirectoryWatcherTest {
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void listFilesMatchingTheGlob() throws Exception {
+        Files.createDirectories(directory.resolve("sub"));
+        Files.writeString(directory.resolve("b.json"), "{}");
+        Files.writeString(directory.resolve("sub/a.yaml"), "id: a");
+        Files.writeString(directory.resolve("notes.txt"), "notes");
+
+        try (DirectoryWatcher watcher = new DirectoryWatcher(directory, null, Duration.ofMillis(100))) {
+            assertThat(watcher.listFiles(), contains(directory.resolve("b.json"), directory.resolve("sub/a.yaml")));
+        }
+    }
+
+    @Test
+    public void burstOfChangesIsReportedInOneBatch() throws Exception {
+        BlockingQueue<List<Path>> batches = new LinkedBlockingQueue<>();
+        try (DirectoryWatcher watcher = new DirectoryWatcher(directory, "**.json", Duration.ofMillis(500))) {
+            Thread thread = new Thread(() -> watcher.watch(batches::add));
+            thread.start();
+
+            Files.writeString(directory.resolve("b.json"), "{");
+            Files.writeString(directory.resolve("b.json"), "{}");
+            Files.writeString(directory.resolve("a.json"), "{}");
+            Files.writeString(directory.resolve("notes.txt"), "notes");
+            Files.createDirectories(directory.resolve("sub"));
+            Files.writeString(directory.resolve("sub/c.json"), "{}");
+
+            List<Path> batch = batches.poll(10, TimeUnit.SECONDS);
+
+            assertThat(batch, hasItems(directory.resolve("a.json"), directory.resolve("b.json")));
+            assertThat(batch, not(hasItem(directory.resolve("notes.txt"))));
+            assertThat(batch, equalTo(batch.stream().distinct().sorted().toList()));
+
+            watcher.close();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            assertThat(thread.isAlive(), is(false));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.phenopackets.phenopackettools.cli.writer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ValidationResultsMergerTest {
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void mergeCsv() throws Exception {
+        Path first = directory.resolve("shard-1.csv");
+        Files.writeString(first, """
+                # phenopacket-tools validate 1.0.0
+                # date=2023-01-01T00:00
+                # validator_id=A;validator_name=A;description=A
+                PATH,LEVEL,VALIDATOR_ID,CATEGORY,MESSAGE,LOCATION
+                a.json,ERROR,A,required,"Missing, required",/id
+                """);
+        Path second = directory.resolve("shard-2.csv");
+        Files.writeString(second, """
+                # phenopacket-tools validate 1.0.0
+                # date=2023-01-02T00:00
+                # validator_id=A;validator_name=A;description=A
+                # validator_id=B;validator_name=B;description=B
+                PATH,LEVEL,VALIDATOR_ID,CATEGORY,MESSAGE,LOCATION
+                b.json,WARNING,B,deprecated,Deprecated,-
+                """);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        ValidationResultsMerger.mergeCsv(List.of(first, second), os);
+
+        assertThat(os.toString().lines().toList(), contains(
+                "# phenopacket-tools validate 1.0.0",
+                "# date=2023-01-01T00:00",
+                "# validator_id=A;validator_name=A;description=A",
+                "# validator_id=B;validator_name=B;description=B",
+                "PATH,LEVEL,VALIDATOR_ID,CATEGORY,MESSAGE,LOCATION",
+                "a.json,ERROR,A,required,\"Missing, required\",/id",
+                "b.json,WARNING,B,deprecated,Deprecated,-"));
+    }
+
+    @Test
+    public void mergeJson() throws Exception {
+        Path first = directory.resolve("shard-1.json");
+        Files.writeString(first, """
+                {"phenopacketToolsVersion":"1.0.0","date":"2023-01-01T00:00","validators":[{"validatorId":"A"}],"results":[{"path":"a.json"}]}""");
+        Path second = directory.resolve("shard-2.json");
+        Files.writeString(second, """
+                {"phenopacketToolsVersion":"1.0.0","date":"2023-01-02T00:00","validators":[{"validatorId":"A"},{"validatorId":"B"}],"results":[{"path":"b.json"}]}""");
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        ValidationResultsMerger.mergeJson(List.of(first, second), os);
+
+        assertThat(ValidationResultsMerger.isJson(first), is(true));
+        assertThat(os.toString(), equalTo("""
+                {"phenopacketToolsVersion":"1.0.0","date":"2023-01-01T00:00","validators":[{"validatorId":"A"},{"validatorId":"B"}],"results":[{"path":"a.json"},{"path":"b.json"}]}"""));
+    }
+}
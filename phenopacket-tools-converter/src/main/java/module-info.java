@@ -6,6 +6,7 @@ module org.phenopackets.phenopackettools.converter {
     requires org.phenopackets.phenopackettools.core;
     requires org.phenopackets.phenopackettools.builder;
     requires org.slf4j;
+    requires jdk.jfr;
 
     exports org.phenopackets.phenopackettools.converter.converters;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package org.phenopackets.phenopackettools.converter.converters;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event emitted by {@link V1ToV2ConverterImpl}.
+ */
+@Name("org.phenopackets.phenopackettools.V1ToV2Conversion")
+@Label("V1 to V2 Conversion")
+@Description("Converting a v1 top-level element of the Phenopacket schema to v2")
+@Category({"Phenopacket Tools", "Conversion"})
+@StackTrace(false)
+class V1ToV2ConversionEvent extends Event {
+
+    @Label("Element")
+    String element;
+
+    @Label("Convert Variants")
+    boolean convertVariants;
+
+    @Label("Size")
+    @Description("The serialized size of the v1 element")
+    @DataAmount
+    long size;
+
+}
@@ -1,9 +1,13 @@
 package org.phenopackets.phenopackettools.converter.converters;
 
+import com.google.protobuf.Message;
 import org.ga4gh.vrsatile.v1.VariationDescriptor;
 import org.phenopackets.phenopackettools.builder.builders.*;
 import org.phenopackets.phenopackettools.converter.converters.v2.*;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
 import org.phenopackets.phenopackettools.core.PhenopacketToolsRuntimeException;
+import org.phenopackets.phenopackettools.core.metrics.MetricNames;
+import org.phenopackets.phenopackettools.core.metrics.Metrics;
 import org.phenopackets.schema.v1.core.Variant;
 import org.phenopackets.schema.v2.Cohort;
 import org.phenopackets.schema.v2.Family;
@@ -32,6 +36,49 @@ class V1ToV2ConverterImpl implements V1ToV2Converter {
     }
 
     public Phenopacket convertPhenopacket(org.phenopackets.schema.v1.Phenopacket phenopacket) {
+        return convert(PhenopacketElement.PHENOPACKET, phenopacket, this::toV2Phenopacket);
+    }
+
+    public Family convertFamily(org.phenopackets.schema.v1.Family family) {
+        return convert(PhenopacketElement.FAMILY, family, this::toV2Family);
+    }
+
+    public Cohort convertCohort(org.phenopackets.schema.v1.Cohort cohort) {
+        return convert(PhenopacketElement.COHORT, cohort, this::toV2Cohort);
+    }
+
+    /**
+     * Run the {@code conversion} and report the JFR event and the metrics.
+     */
+    private <V1 extends Message, V2> V2 convert(PhenopacketElement element, V1 v1, Function<V1, V2> conversion) {
+        V1ToV2ConversionEvent event = new V1ToV2ConversionEvent();
+        boolean metricsEnabled = Metrics.isEnabled();
+        if (!event.isEnabled() && !metricsEnabled)
+            return conversion.apply(v1);
+
+        event.begin();
+        long start = metricsEnabled ? System.nanoTime() : 0L;
+        try {
+            return conversion.apply(v1);
+        } catch (RuntimeException e) {
+            if (metricsEnabled)
+                Metrics.registry().counter(MetricNames.CONVERSION_FAILURES, MetricNames.ELEMENT, element.name())
+                        .increment();
+            throw e;
+        } finally {
+            if (metricsEnabled)
+                Metrics.registry().timer(MetricNames.CONVERSION_DURATION, MetricNames.ELEMENT, element.name())
+                        .record(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.element = element.name();
+                event.convertVariants = convertVariants;
+                event.size = v1.getSerializedSize();
+                event.commit();
+            }
+        }
+    }
+
+    private Phenopacket toV2Phenopacket(org.phenopackets.schema.v1.Phenopacket phenopacket) {
         boolean isDefault = true;
         Phenopacket.Builder builder = Phenopacket.newBuilder();
 
@@ -89,7 +136,7 @@ class V1ToV2ConverterImpl implements V1ToV2Converter {
                 : builder.build();
     }
 
-    public Family convertFamily(org.phenopackets.schema.v1.Family family) {
+    private Family toV2Family(org.phenopackets.schema.v1.Family family) {
         boolean isDefault = true;
         Family.Builder builder = Family.newBuilder();
 
@@ -104,14 +151,14 @@ class V1ToV2ConverterImpl implements V1ToV2Converter {
             builder.setPedigree(pedigree.get());
         }
 
-        Phenopacket proband = convertPhenopacket(family.getProband());
+        Phenopacket proband = toV2Phenopacket(family.getProband());
         if (!proband.equals(Phenopacket.getDefaultInstance())) {
             isDefault = false;
             builder.setProband(proband);
         }
 
         List<Phenopacket> relatives = family.getRelativesList().stream()
-                .map(this::convertPhenopacket)
+                .map(this::toV2Phenopacket)
                 .filter(relative -> !relative.equals(Phenopacket.getDefaultInstance()))
                 .toList();
         if (!relatives.isEmpty()) {
@@ -136,7 +183,7 @@ class V1ToV2ConverterImpl implements V1ToV2Converter {
                 : builder.build();
     }
 
-    public Cohort convertCohort(org.phenopackets.schema.v1.Cohort cohort) {
+    private Cohort toV2Cohort(org.phenopackets.schema.v1.Cohort cohort) {
         boolean isDefault = true;
         Cohort.Builder builder = Cohort.newBuilder();
 
@@ -151,7 +198,7 @@ class V1ToV2ConverterImpl implements V1ToV2Converter {
         }
 
         List<Phenopacket> members = cohort.getMembersList().stream()
-                .map(this::convertPhenopacket)
+                .map(this::toV2Phenopacket)
                 .filter(member -> !member.equals(Phenopacket.getDefaultInstance()))
                 .toList();
         if (!members.isEmpty()) {
@@ -3,4 +3,7 @@
  */
 module org.phenopackets.phenopackettools.core {
     exports org.phenopackets.phenopackettools.core;
-}
\ No newline at end of file
+    exports org.phenopackets.phenopackettools.core.metrics;
+
+    uses org.phenopackets.phenopackettools.core.metrics.MetricsRegistry;
+}
@@ -0,0 +1,14 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+/**
+ * A monotonically increasing count, e.g. the number of parsed documents.
+ */
+public interface Counter {
+
+    void increment(long amount);
+
+    default void increment() {
+        increment(1);
+    }
+
+}
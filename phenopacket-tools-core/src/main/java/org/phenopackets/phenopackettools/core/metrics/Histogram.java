@@ -0,0 +1,10 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+/**
+ * A distribution of values, e.g. the sizes of the parsed documents.
+ */
+public interface Histogram {
+
+    void record(long value);
+
+}
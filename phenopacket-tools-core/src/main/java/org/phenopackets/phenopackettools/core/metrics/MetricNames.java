@@ -0,0 +1,52 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+/**
+ * Names and tags of the metrics reported by <em>phenopacket-tools</em>.
+ */
+public class MetricNames {
+
+    /**
+     * The number of parsed top-level elements, tagged by {@link #FORMAT} and {@link #ELEMENT}.
+     */
+    public static final String DOCUMENTS_PARSED = "phenopackettools.parse.documents";
+
+    /**
+     * The number of bytes read by the parsers, tagged by {@link #FORMAT}.
+     */
+    public static final String BYTES_READ = "phenopackettools.parse.bytes";
+
+    /**
+     * A histogram of the sizes of the parsed documents in bytes, tagged by {@link #FORMAT}.
+     */
+    public static final String DOCUMENT_SIZE = "phenopackettools.parse.document.size";
+
+    /**
+     * The number of validation results, tagged by {@link #LEVEL} and {@link #VALIDATOR}.
+     */
+    public static final String VALIDATION_RESULTS = "phenopackettools.validation.results";
+
+    /**
+     * The time spent by the validators, tagged by {@link #VALIDATOR}.
+     */
+    public static final String VALIDATOR_DURATION = "phenopackettools.validation.duration";
+
+    /**
+     * The time spent converting the top-level elements between schema versions, tagged by {@link #ELEMENT}.
+     */
+    public static final String CONVERSION_DURATION = "phenopackettools.conversion.duration";
+
+    /**
+     * The number of failed conversions, tagged by {@link #ELEMENT} or by {@link #VALIDATOR}
+     * if the input of a validation could not be converted.
+     */
+    public static final String CONVERSION_FAILURES = "phenopackettools.conversion.failures";
+
+    public static final String FORMAT = "format";
+    public static final String ELEMENT = "element";
+    public static final String LEVEL = "level";
+    public static final String VALIDATOR = "validator";
+
+    private MetricNames() {
+        // static constants class
+    }
+}
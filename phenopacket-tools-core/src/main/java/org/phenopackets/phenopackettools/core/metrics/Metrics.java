@@ -0,0 +1,59 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Static access to the {@link MetricsRegistry} used by <em>phenopacket-tools</em>.
+ * <p>
+ * The registry is discovered by {@link ServiceLoader} on the first access. The first registry found is used,
+ * and a no-op registry is used if no registry is found.
+ */
+public class Metrics {
+
+    private static volatile MetricsRegistry registry;
+
+    private Metrics() {
+        // static utility class
+    }
+
+    /**
+     * @return the current {@link MetricsRegistry}.
+     */
+    public static MetricsRegistry registry() {
+        MetricsRegistry current = registry;
+        if (current == null) {
+            synchronized (Metrics.class) {
+                current = registry;
+                if (current == null) {
+                    current = loadRegistry();
+                    registry = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return {@code true} if the metrics are reported, i.e. the current registry is not a no-op registry.
+     * Use this method to skip preparing expensive measurements.
+     */
+    public static boolean isEnabled() {
+        return registry() != NoopMetricsRegistry.INSTANCE;
+    }
+
+    /**
+     * Replace the current registry, e.g. if the registry cannot be discovered by {@link ServiceLoader}.
+     */
+    public static void setRegistry(MetricsRegistry registry) {
+        Metrics.registry = Objects.requireNonNull(registry);
+    }
+
+    private static MetricsRegistry loadRegistry() {
+        Iterator<MetricsRegistry> registries = ServiceLoader.load(MetricsRegistry.class).iterator();
+        return registries.hasNext()
+                ? registries.next()
+                : MetricsRegistry.noop();
+    }
+}
@@ -0,0 +1,28 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+/**
+ * A service provider interface for bridging <em>phenopacket-tools</em> metrics to a metrics library.
+ * <p>
+ * The instruments are identified by a name (see {@link MetricNames}) and by {@code tags}, provided as key-value pairs,
+ * e.g. {@code counter("phenopackettools.parse.documents", "format", "JSON")}. The implementations are expected
+ * to return the same instrument for the same name and tags and must be thread-safe.
+ * <p>
+ * Register the implementation as a service, e.g. using {@code provides ... with ...} in {@code module-info.java}
+ * or in {@code META-INF/services}, or install it using {@link Metrics#setRegistry(MetricsRegistry)}.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * @return a registry that discards all metrics.
+     */
+    static MetricsRegistry noop() {
+        return NoopMetricsRegistry.INSTANCE;
+    }
+
+    Counter counter(String name, String... tags);
+
+    Timer timer(String name, String... tags);
+
+    Histogram histogram(String name, String... tags);
+
+}
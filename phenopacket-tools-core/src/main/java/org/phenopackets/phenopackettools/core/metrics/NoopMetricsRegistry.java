@@ -0,0 +1,37 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+/**
+ * A {@link MetricsRegistry} that discards all metrics.
+ */
+class NoopMetricsRegistry implements MetricsRegistry, Counter, Timer, Histogram {
+
+    static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private NoopMetricsRegistry() {
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return this;
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return this;
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+        return this;
+    }
+
+    @Override
+    public void increment(long amount) {
+        // no-op
+    }
+
+    @Override
+    public void record(long value) {
+        // no-op
+    }
+}
@@ -0,0 +1,15 @@
+package org.phenopackets.phenopackettools.core.metrics;
+
+/**
+ * A distribution of durations, e.g. the time spent by a validator.
+ */
+public interface Timer {
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    void record(long nanos);
+
+}
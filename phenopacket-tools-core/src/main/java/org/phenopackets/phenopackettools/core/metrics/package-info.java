@@ -0,0 +1,11 @@
+/**
+ * A small facade for reporting metrics, such as the number of parsed documents or validation results,
+ * to the metrics stack of the application that embeds <em>phenopacket-tools</em>.
+ * <p>
+ * The metrics are reported to the {@link org.phenopackets.phenopackettools.core.metrics.MetricsRegistry}
+ * returned by {@link org.phenopackets.phenopackettools.core.metrics.Metrics#registry()}. The registry is discovered
+ * by {@link java.util.ServiceLoader} and no metrics are reported if no implementation is found.
+ *
+ * @see org.phenopackets.phenopackettools.core.metrics.MetricNames
+ */
+package org.phenopackets.phenopackettools.core.metrics;
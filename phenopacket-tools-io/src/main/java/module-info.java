@@ -6,9 +6,10 @@ module org.phenopackets.phenopackettools.io {
     requires org.phenopackets.phenopackettools.util;
 
     requires org.phenopackets.schema;
-    requires com.fasterxml.jackson.databind;
+    requires transitive com.fasterxml.jackson.databind; // due to being part of StreamingCohortReader API
     requires com.fasterxml.jackson.dataformat.yaml;
     requires org.slf4j;
+    requires jdk.jfr;
 
     exports org.phenopackets.phenopackettools.io;
 }
\ No newline at end of file
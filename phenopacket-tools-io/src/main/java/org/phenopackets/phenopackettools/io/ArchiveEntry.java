@@ -0,0 +1,16 @@
+package org.phenopackets.phenopackettools.io;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+
+/**
+ * A top-level element read from an entry of an archive by {@link PhenopacketParser#parseZip(java.nio.file.Path)}.
+ *
+ * @param name the name of the entry in the archive, e.g. {@code cohort/phenopacket-1.json}
+ * @param format the format of the entry
+ * @param element the top-level element of the entry
+ * @param message the parsed message
+ */
+public record ArchiveEntry(String name, PhenopacketFormat format, PhenopacketElement element, Message message) {
+}
@@ -0,0 +1,16 @@
+package org.phenopackets.phenopackettools.io;
+
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+
+/**
+ * The bytes of a top-level element read from an entry of an archive by {@link PhenopacketParser#readZip(java.nio.file.Path, java.util.function.Predicate, PhenopacketFormat, PhenopacketElement, int, java.util.concurrent.Executor)}.
+ * The format and the element are sniffed, but the bytes are not parsed.
+ *
+ * @param name the name of the entry in the archive, e.g. {@code cohort/phenopacket-1.json}
+ * @param format the format of the entry
+ * @param element the top-level element of the entry
+ * @param payload the bytes of the entry
+ */
+public record ArchiveEntryPayload(String name, PhenopacketFormat format, PhenopacketElement element, byte[] payload) {
+}
@@ -0,0 +1,18 @@
+package org.phenopackets.phenopackettools.io;
+
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+
+import java.nio.file.Path;
+
+/**
+ * The bytes of a top-level element read from a file by {@link PhenopacketParser#readAll(java.util.stream.Stream, PhenopacketFormat, PhenopacketElement, int, java.util.concurrent.Executor)}.
+ * The format and the element are sniffed, but the bytes are not parsed.
+ *
+ * @param path the path of the file
+ * @param format the format of the file
+ * @param element the top-level element of the file
+ * @param payload the bytes of the file
+ */
+public record FilePayload(Path path, PhenopacketFormat format, PhenopacketElement element, byte[] payload) {
+}
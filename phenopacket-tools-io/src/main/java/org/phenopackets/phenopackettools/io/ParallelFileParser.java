@@ -0,0 +1,119 @@
+package org.phenopackets.phenopackettools.io;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.util.concurrent.OrderedReadAhead;
+import org.phenopackets.phenopackettools.util.format.ElementSniffer;
+import org.phenopackets.phenopackettools.util.format.FormatSniffer;
+import org.phenopackets.phenopackettools.util.format.SniffException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Static utility class with the logic of {@link PhenopacketParser#parseAll(Stream, PhenopacketFormat, PhenopacketElement, int, Executor)},
+ * {@link PhenopacketParser#parseDirectory(Path, String, PhenopacketFormat, PhenopacketElement, int, Executor)},
+ * and {@link PhenopacketParser#readAll(Stream, PhenopacketFormat, PhenopacketElement, int, Executor)}.
+ * <p>
+ * The files are read and decoded on an {@link Executor} while at most {@code readAhead} files are in flight.
+ * The files are produced in the order of the paths. The paths are consumed lazily on the thread that consumes
+ * the files, hence the source of the paths does not need to be thread-safe.
+ */
+class ParallelFileParser {
+
+    private ParallelFileParser() {
+        // static utility class
+    }
+
+    static Stream<ParsedFile> parseAll(PhenopacketParser parser,
+                                       Stream<Path> paths,
+                                       PhenopacketFormat format,
+                                       PhenopacketElement element,
+                                       int readAhead,
+                                       Executor executor) {
+        Objects.requireNonNull(parser);
+        return inOrder(paths, path -> parseFile(parser, path, format, element), readAhead, executor);
+    }
+
+    static Stream<FilePayload> readAll(Stream<Path> paths,
+                                       PhenopacketFormat format,
+                                       PhenopacketElement element,
+                                       int readAhead,
+                                       Executor executor) {
+        return inOrder(paths, path -> readFile(path, format, element), readAhead, executor);
+    }
+
+    /**
+     * Apply the {@code task} to the {@code paths} on the {@code executor}, with at most {@code readAhead} tasks
+     * running ahead of the consumer.
+     *
+     * @return a lazy stream of the task results in the order of the {@code paths}
+     */
+    static <T> Stream<T> inOrder(Stream<Path> paths,
+                                 Function<Path, T> task,
+                                 int readAhead,
+                                 Executor executor) {
+        Stream<T> results = OrderedReadAhead.inOrder(paths.iterator(), task, readAhead, executor);
+        return results.onClose(paths::close);
+    }
+
+    /**
+     * @return a lazy stream of the regular files under the {@code directory} whose path relative to the directory
+     * matches the {@code glob}. The stream must be closed.
+     */
+    static Stream<Path> walk(Path directory, String glob) throws IOException {
+        PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + (glob == null ? PhenopacketParser.DEFAULT_GLOB : glob));
+        return Files.walk(directory)
+                .filter(Files::isRegularFile)
+                .filter(path -> matcher.matches(directory.relativize(path)));
+    }
+
+    private static ParsedFile parseFile(PhenopacketParser parser,
+                                        Path path,
+                                        PhenopacketFormat format,
+                                        PhenopacketElement element) {
+        try {
+            return parsePayload(parser, sniffPayload(path, Files.readAllBytes(path), format, element));
+        } catch (IOException | SniffException e) {
+            throw new UncheckedIOException(new IOException("Unable to read %s: %s".formatted(path, e.getMessage()), e));
+        }
+    }
+
+    private static FilePayload readFile(Path path,
+                                        PhenopacketFormat format,
+                                        PhenopacketElement element) {
+        try {
+            return sniffPayload(path, Files.readAllBytes(path), format, element);
+        } catch (IOException | SniffException e) {
+            throw new UncheckedIOException(new IOException("Unable to read %s: %s".formatted(path, e.getMessage()), e));
+        }
+    }
+
+    /**
+     * Sniff the format and the element of the {@code payload} of the file at {@code path}, unless provided.
+     */
+    static FilePayload sniffPayload(Path path,
+                                    byte[] payload,
+                                    PhenopacketFormat format,
+                                    PhenopacketElement element) throws SniffException {
+        PhenopacketFormat fmt = format == null
+                ? FormatSniffer.sniff(payload)
+                : format;
+        PhenopacketElement el = element == null
+                ? ElementSniffer.sniff(payload, fmt)
+                : element;
+        return new FilePayload(path, fmt, el, payload);
+    }
+
+    static ParsedFile parsePayload(PhenopacketParser parser, FilePayload payload) throws IOException {
+        Message message = parser.parse(payload.format(), payload.element(), new ByteArrayInputStream(payload.payload()));
+        return new ParsedFile(payload.path(), payload.format(), payload.element(), message);
+    }
+}
@@ -0,0 +1,18 @@
+package org.phenopackets.phenopackettools.io;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+
+import java.nio.file.Path;
+
+/**
+ * A top-level element read from a file by {@link PhenopacketParser#parseAll(java.util.stream.Stream, PhenopacketFormat, PhenopacketElement, int, java.util.concurrent.Executor)}.
+ *
+ * @param path the path of the file
+ * @param format the format of the file
+ * @param element the top-level element of the file
+ * @param message the parsed message
+ */
+public record ParsedFile(Path path, PhenopacketFormat format, PhenopacketElement element, Message message) {
+}
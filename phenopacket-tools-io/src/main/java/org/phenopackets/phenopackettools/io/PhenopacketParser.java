@@ -1,6 +1,8 @@
 package org.phenopackets.phenopackettools.io;
 
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import com.google.protobuf.util.FieldMaskUtil;
 import org.phenopackets.phenopackettools.util.format.ElementSniffer;
 import org.phenopackets.phenopackettools.util.format.FormatSniffer;
 import org.phenopackets.phenopackettools.core.PhenopacketElement;
@@ -12,9 +14,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface PhenopacketParser {
 
+    /**
+     * The glob for selecting the files with {@code json}, {@code yaml}, {@code yml}, or {@code pb} suffix
+     * in a directory, used if the user does not provide a glob.
+     */
+    String DEFAULT_GLOB = "**.{json,yaml,yml,pb}";
+
     Message parse(PhenopacketFormat format, PhenopacketElement element, InputStream is) throws IOException;
 
     default Message parse(PhenopacketFormat format, PhenopacketElement element, Path path) throws IOException {
@@ -23,6 +35,190 @@ public interface PhenopacketParser {
         }
     }
 
+    /**
+     * Parse the top-level element while decoding only the top-level fields selected by the {@code fieldMask}.
+     * The paths of the mask use the protobuf field names, such as {@code meta_data} or {@code phenotypic_features}.
+     * A nested path, such as {@code subject.id}, retains only the selected part of the top-level field.
+     * <p>
+     * The default implementation parses the entire element and then trims the unselected fields.
+     *
+     * @throws IllegalArgumentException if the {@code fieldMask} is not valid for the {@code element}
+     */
+    default Message parse(PhenopacketFormat format,
+                          PhenopacketElement element,
+                          InputStream is,
+                          FieldMask fieldMask) throws IOException {
+        Message message = parse(format, element, is);
+        if (!FieldMaskUtil.isValid(message.getDescriptorForType(), fieldMask))
+            throw new IllegalArgumentException("Field mask %s is not valid for %s"
+                    .formatted(FieldMaskUtil.toString(fieldMask), message.getDescriptorForType().getFullName()));
+        return FieldMaskUtil.trim(fieldMask, message);
+    }
+
+    default Message parse(PhenopacketFormat format,
+                          PhenopacketElement element,
+                          Path path,
+                          FieldMask fieldMask) throws IOException {
+        try (InputStream is = openInputStream(path)) {
+            return parse(format, element, is, fieldMask);
+        }
+    }
+
+    /**
+     * Parse the entries of the ZIP archive at {@code zip}. The format and the element of each entry are sniffed,
+     * and the entries are decoded in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @return a lazy stream of the entries in the order of their names. The stream must be closed.
+     * @throws IOException if the archive cannot be opened
+     * @see #parseZip(Path, PhenopacketFormat, PhenopacketElement, int, Executor)
+     */
+    default Stream<ArchiveEntry> parseZip(Path zip) throws IOException {
+        return parseZip(zip, null, null, Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parse the entries of the ZIP archive at {@code zip}, decoding the entries in parallel on the {@code executor}
+     * with at most {@code readAhead} entries being read ahead of the consumer.
+     * The archive is read using the JDK zip file system, hence the entries are not extracted to disk.
+     * The directories and the macOS metadata ({@code __MACOSX}) are skipped.
+     * <p>
+     * An entry that cannot be read is reported as {@link java.io.UncheckedIOException} thrown when the consumer
+     * reaches the entry. The stream must be closed to close the archive.
+     *
+     * @param format the format of all entries or {@code null} if the format should be sniffed for each entry
+     * @param element the element of all entries or {@code null} if the element should be sniffed for each entry
+     * @return a lazy stream of the entries in the order of their names
+     * @throws IOException if the archive cannot be opened
+     */
+    default Stream<ArchiveEntry> parseZip(Path zip,
+                                          PhenopacketFormat format,
+                                          PhenopacketElement element,
+                                          int readAhead,
+                                          Executor executor) throws IOException {
+        return parseZip(zip, name -> true, format, element, readAhead, executor);
+    }
+
+    /**
+     * Parse the entries of the ZIP archive at {@code zip} whose names are accepted by the {@code selector}.
+     * The other entries are not read.
+     *
+     * @param selector a predicate on the entry name, e.g. {@code cohort/phenopacket-1.json}
+     * @see #parseZip(Path, PhenopacketFormat, PhenopacketElement, int, Executor)
+     */
+    default Stream<ArchiveEntry> parseZip(Path zip,
+                                          Predicate<String> selector,
+                                          PhenopacketFormat format,
+                                          PhenopacketElement element,
+                                          int readAhead,
+                                          Executor executor) throws IOException {
+        return ZipArchiveParser.parse(this, zip, selector, format, element, readAhead, executor);
+    }
+
+    /**
+     * Parse the files at {@code paths} in parallel on the {@code executor}, with at most {@code readAhead} files
+     * being read ahead of the consumer. The paths are consumed lazily, hence the files can be processed
+     * without keeping all messages in memory.
+     * <p>
+     * A file that cannot be read is reported as {@link java.io.UncheckedIOException} thrown when the consumer
+     * reaches the file. The stream should be closed to stop reading ahead and to close the {@code paths}.
+     *
+     * @param format the format of all files or {@code null} if the format should be sniffed for each file
+     * @param element the element of all files or {@code null} if the element should be sniffed for each file
+     * @return a lazy stream of the parsed files in the order of the {@code paths}
+     */
+    default Stream<ParsedFile> parseAll(Stream<Path> paths,
+                                        PhenopacketFormat format,
+                                        PhenopacketElement element,
+                                        int readAhead,
+                                        Executor executor) {
+        return ParallelFileParser.parseAll(this, paths, format, element, readAhead, executor);
+    }
+
+    /**
+     * Parse the regular files under the {@code directory}, recursively, whose path relative to the {@code directory}
+     * matches the {@code glob}, such as {@code **.json} or {@code cohort-*}{@code /*.yaml}.
+     * The files are parsed as described in {@link #parseAll(Stream, PhenopacketFormat, PhenopacketElement, int, Executor)}.
+     *
+     * @param glob the glob pattern or {@code null} for the {@link #DEFAULT_GLOB}
+     * @throws IOException if the {@code directory} cannot be opened
+     */
+    default Stream<ParsedFile> parseDirectory(Path directory,
+                                              String glob,
+                                              PhenopacketFormat format,
+                                              PhenopacketElement element,
+                                              int readAhead,
+                                              Executor executor) throws IOException {
+        return parseDirectory(directory, glob, path -> true, format, element, readAhead, executor);
+    }
+
+    /**
+     * Parse the files under the {@code directory} that match the {@code glob} and are accepted by the {@code selector}.
+     * The other files are not read.
+     *
+     * @param selector a predicate on the file path relative to the {@code directory}
+     * @see #parseDirectory(Path, String, PhenopacketFormat, PhenopacketElement, int, Executor)
+     */
+    default Stream<ParsedFile> parseDirectory(Path directory,
+                                              String glob,
+                                              Predicate<Path> selector,
+                                              PhenopacketFormat format,
+                                              PhenopacketElement element,
+                                              int readAhead,
+                                              Executor executor) throws IOException {
+        Stream<Path> paths = ParallelFileParser.walk(directory, glob)
+                .filter(path -> selector.test(directory.relativize(path)));
+        return parseAll(paths, format, element, readAhead, executor);
+    }
+
+    /**
+     * Read the files at {@code paths} like {@link #parseAll(Stream, PhenopacketFormat, PhenopacketElement, int, Executor)}
+     * but without parsing the files. The format and the element of each file are sniffed unless provided,
+     * e.g. to look up the results of the file in a cache before parsing the file.
+     *
+     * @return a lazy stream of the file payloads in the order of the {@code paths}
+     */
+    static Stream<FilePayload> readAll(Stream<Path> paths,
+                                       PhenopacketFormat format,
+                                       PhenopacketElement element,
+                                       int readAhead,
+                                       Executor executor) {
+        return ParallelFileParser.readAll(paths, format, element, readAhead, executor);
+    }
+
+    /**
+     * Read the files under the {@code directory} like {@link #parseDirectory(Path, String, Predicate, PhenopacketFormat, PhenopacketElement, int, Executor)}
+     * but without parsing the files.
+     *
+     * @see #readAll(Stream, PhenopacketFormat, PhenopacketElement, int, Executor)
+     */
+    static Stream<FilePayload> readDirectory(Path directory,
+                                             String glob,
+                                             Predicate<Path> selector,
+                                             PhenopacketFormat format,
+                                             PhenopacketElement element,
+                                             int readAhead,
+                                             Executor executor) throws IOException {
+        Stream<Path> paths = ParallelFileParser.walk(directory, glob)
+                .filter(path -> selector.test(directory.relativize(path)));
+        return readAll(paths, format, element, readAhead, executor);
+    }
+
+    /**
+     * Read the entries of the ZIP archive at {@code zip} like {@link #parseZip(Path, Predicate, PhenopacketFormat, PhenopacketElement, int, Executor)}
+     * but without parsing the entries.
+     *
+     * @return a lazy stream of the entry payloads in the order of their names. The stream must be closed.
+     * @throws IOException if the archive cannot be opened
+     */
+    static Stream<ArchiveEntryPayload> readZip(Path zip,
+                                               Predicate<String> selector,
+                                               PhenopacketFormat format,
+                                               PhenopacketElement element,
+                                               int readAhead,
+                                               Executor executor) throws IOException {
+        return ZipArchiveParser.read(zip, selector, format, element, readAhead, executor);
+    }
+
     /* ******************************************* CONVENIENCE METHODS ******************************************* */
 
     // We need to detect the element.
@@ -0,0 +1,131 @@
+package org.phenopackets.phenopackettools.io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads a {@link Cohort} in JSON or YAML format member by member.
+ * <p>
+ * The reader walks the token stream of the document and materializes one element of the {@code members} array
+ * at a time. The other top-level fields of the cohort, such as {@code id}, {@code description}, {@code files},
+ * or {@code metaData}, are collected into a header. Therefore, the memory needed for reading a cohort is proportional
+ * to the size of the largest member rather than to the size of the entire cohort.
+ * <p>
+ * The reader is thread-safe.
+ */
+public class StreamingCohortReader {
+
+    private static final String MEMBERS = "members";
+
+    private final ObjectMapper mapper;
+
+    /**
+     * @param format the format of the cohort documents, either {@link PhenopacketFormat#JSON} or {@link PhenopacketFormat#YAML}
+     * @return a reader for the cohort documents in given {@code format}
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static StreamingCohortReader of(PhenopacketFormat format) {
+        return switch (Objects.requireNonNull(format)) {
+            case JSON -> new StreamingCohortReader(new ObjectMapper());
+            case YAML -> new StreamingCohortReader(new YAMLMapper());
+            case PROTOBUF -> throw new IllegalArgumentException("Streaming is not supported for %s format".formatted(format));
+        };
+    }
+
+    private StreamingCohortReader(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Read the cohort from the input stream and pass the {@code members} to the {@code handler}
+     * one at a time, in the order of the document.
+     *
+     * @param is the input stream with the cohort document. The stream is not closed.
+     * @param handler the handler of the members
+     * @return the header with the top-level fields of the cohort except for the {@code members}
+     * @throws IOException if the document is not a well-formed JSON/YAML object, or if thrown by the {@code handler}
+     */
+    public CohortHeader readNodes(InputStream is, MemberHandler handler) throws IOException {
+        ObjectNode fields = mapper.createObjectNode();
+        int memberCount = 0;
+        boolean hasMembers = false;
+        try (JsonParser parser = mapper.getFactory().createParser(is)) {
+            // Let the caller close the stream.
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new IOException("Expected a cohort object at %s".formatted(parser.getCurrentLocation()));
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (MEMBERS.equals(name) && value == JsonToken.START_ARRAY) {
+                    hasMembers = true;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        JsonNode member = parser.readValueAsTree();
+                        handler.handle(memberCount++, member);
+                    }
+                } else {
+                    // A malformed `members` value ends up in the header to be reported by the validation.
+                    fields.set(name, parser.readValueAsTree());
+                }
+            }
+        }
+        return new CohortHeader(fields, memberCount, hasMembers);
+    }
+
+    /**
+     * Read the cohort from the input stream and pass the {@code members} to the {@code consumer}
+     * one at a time, in the order of the document.
+     *
+     * @param is the input stream with the cohort document. The stream is not closed.
+     * @param consumer the consumer of the members
+     * @return the cohort with all top-level fields except for the {@code members}
+     * @throws IOException if the document is not a well-formed cohort
+     */
+    public Cohort readCohort(InputStream is, Consumer<? super Phenopacket> consumer) throws IOException {
+        CohortHeader header = readNodes(is, (index, member) -> {
+            Phenopacket.Builder builder = Phenopacket.newBuilder();
+            PhenopacketPrintUtil.getParser().merge(member.toString(), builder);
+            consumer.accept(builder.build());
+        });
+        Cohort.Builder builder = Cohort.newBuilder();
+        PhenopacketPrintUtil.getParser().merge(header.fields().toString(), builder);
+        return builder.build();
+    }
+
+    /**
+     * Handler of the cohort members that are read by {@link StreamingCohortReader}.
+     */
+    @FunctionalInterface
+    public interface MemberHandler {
+
+        /**
+         * @param index 0-based index of the member in the {@code members} array
+         * @param member the member
+         */
+        void handle(int index, JsonNode member) throws IOException;
+    }
+
+    /**
+     * The top-level fields of a cohort that was read by {@link StreamingCohortReader}.
+     *
+     * @param fields the top-level fields except for the {@code members}
+     * @param memberCount the number of the members
+     * @param hasMembers {@code true} if the document included the {@code members} array
+     */
+    public record CohortHeader(ObjectNode fields, int memberCount, boolean hasMembers) {
+    }
+}
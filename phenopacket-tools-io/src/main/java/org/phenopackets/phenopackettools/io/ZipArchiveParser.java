@@ -0,0 +1,127 @@
+package org.phenopackets.phenopackettools.io;
+
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.util.format.SniffException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Static utility class with the logic of {@link PhenopacketParser#parseZip(Path, Predicate, PhenopacketFormat, PhenopacketElement, int, Executor)}
+ * and {@link PhenopacketParser#readZip(Path, Predicate, PhenopacketFormat, PhenopacketElement, int, Executor)}.
+ * <p>
+ * The archive is opened as a JDK zip file system. The entries are read and decoded on an {@link Executor}
+ * with a bounded read-ahead, and the entries are reported in the order of their names.
+ * The file system is closed when the stream is closed.
+ */
+class ZipArchiveParser {
+
+    // The metadata added by the macOS archiver.
+    private static final String MACOS_METADATA = "__MACOSX";
+
+    private ZipArchiveParser() {
+        // static utility class
+    }
+
+    static Stream<ArchiveEntry> parse(PhenopacketParser parser,
+                                      Path zip,
+                                      Predicate<String> selector,
+                                      PhenopacketFormat format,
+                                      PhenopacketElement element,
+                                      int readAhead,
+                                      Executor executor) throws IOException {
+        Objects.requireNonNull(parser);
+        return readEntries(zip, selector, (name, payload) -> {
+            ParsedFile parsed = ParallelFileParser.parsePayload(parser, payload);
+            return new ArchiveEntry(name, parsed.format(), parsed.element(), parsed.message());
+        }, format, element, readAhead, executor);
+    }
+
+    static Stream<ArchiveEntryPayload> read(Path zip,
+                                            Predicate<String> selector,
+                                            PhenopacketFormat format,
+                                            PhenopacketElement element,
+                                            int readAhead,
+                                            Executor executor) throws IOException {
+        return readEntries(zip, selector,
+                (name, payload) -> new ArchiveEntryPayload(name, payload.format(), payload.element(), payload.payload()),
+                format, element, readAhead, executor);
+    }
+
+    private static <T> Stream<T> readEntries(Path zip,
+                                             Predicate<String> selector,
+                                             EntryDecoder<T> decoder,
+                                             PhenopacketFormat format,
+                                             PhenopacketElement element,
+                                             int readAhead,
+                                             Executor executor) throws IOException {
+        FileSystem fs = FileSystems.newFileSystem(zip);
+        try {
+            Stream<Path> entries = listEntries(fs).stream()
+                    .filter(entry -> selector.test(entryName(entry)));
+            return ParallelFileParser.inOrder(entries, entry -> readEntry(zip, entry, decoder, format, element), readAhead, executor)
+                    .onClose(() -> closeFileSystem(fs));
+        } catch (IOException | RuntimeException e) {
+            closeFileSystem(fs);
+            throw e;
+        }
+    }
+
+    private static void closeFileSystem(FileSystem fs) {
+        try {
+            fs.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Path> listEntries(FileSystem fs) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        for (Path root : fs.getRootDirectories()) {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(Files::isRegularFile)
+                        .filter(path -> !path.startsWith(root.resolve(MACOS_METADATA)))
+                        .forEach(entries::add);
+            }
+        }
+        entries.sort(Comparator.comparing(Path::toString));
+        return entries;
+    }
+
+    private static String entryName(Path entry) {
+        return entry.getRoot().relativize(entry).toString();
+    }
+
+    private static <T> T readEntry(Path zip,
+                                   Path entry,
+                                   EntryDecoder<T> decoder,
+                                   PhenopacketFormat format,
+                                   PhenopacketElement element) {
+        String name = entryName(entry);
+        try {
+            return decoder.decode(name, ParallelFileParser.sniffPayload(entry, Files.readAllBytes(entry), format, element));
+        } catch (IOException | SniffException e) {
+            throw new UncheckedIOException(new IOException("Unable to read entry %s of %s: %s".formatted(name, zip, e.getMessage()), e));
+        }
+    }
+
+    /**
+     * Decode the sniffed {@code payload} of the entry with the {@code name}.
+     */
+    @FunctionalInterface
+    private interface EntryDecoder<T> {
+        T decode(String name, FilePayload payload) throws IOException;
+    }
+}
@@ -1,9 +1,15 @@
 package org.phenopackets.phenopackettools.io.base;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import org.phenopackets.phenopackettools.io.PhenopacketParser;
 import org.phenopackets.phenopackettools.core.PhenopacketElement;
 import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.metrics.MetricNames;
+import org.phenopackets.phenopackettools.core.metrics.Metrics;
+import org.phenopackets.phenopackettools.core.metrics.MetricsRegistry;
 import org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,9 +22,67 @@ import java.io.InputStreamReader;
 public abstract class BasePhenopacketParser implements PhenopacketParser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BasePhenopacketParser.class);
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
 
     @Override
     public Message parse(PhenopacketFormat format, PhenopacketElement element, InputStream is) throws IOException {
+        return parseObserved(format, element, is, null);
+    }
+
+    /**
+     * Parse the message while skipping the top-level fields that are not selected by the {@code fieldMask}.
+     * The unselected fields are skipped in the wire format in case of protobuf input, and their tokens are skipped
+     * in case of JSON and YAML input.
+     */
+    @Override
+    public Message parse(PhenopacketFormat format, PhenopacketElement element, InputStream is, FieldMask fieldMask) throws IOException {
+        TopLevelFieldFilter filter = TopLevelFieldFilter.of(prepareBuilder(element).getDescriptorForType(), fieldMask);
+        return parseObserved(format, element, is, filter);
+    }
+
+    private Message parseObserved(PhenopacketFormat format,
+                                  PhenopacketElement element,
+                                  InputStream is,
+                                  TopLevelFieldFilter filter) throws IOException {
+        PhenopacketParseEvent event = new PhenopacketParseEvent();
+        boolean metricsEnabled = Metrics.isEnabled();
+        if (!event.isEnabled() && !metricsEnabled)
+            return parseMessage(format, element, is, filter);
+
+        // Only count the bytes if someone is listening.
+        CountingInputStream cis = new CountingInputStream(is);
+        event.begin();
+        try {
+            return parseMessage(format, element, cis, filter);
+        } finally {
+            if (event.shouldCommit()) {
+                event.format = format.name();
+                event.element = element.name();
+                event.size = cis.count();
+                event.commit();
+            }
+            if (metricsEnabled)
+                reportMetrics(format, element, cis.count());
+        }
+    }
+
+    private static void reportMetrics(PhenopacketFormat format, PhenopacketElement element, long bytes) {
+        MetricsRegistry registry = Metrics.registry();
+        registry.counter(MetricNames.DOCUMENTS_PARSED, MetricNames.FORMAT, format.name(), MetricNames.ELEMENT, element.name())
+                .increment();
+        registry.counter(MetricNames.BYTES_READ, MetricNames.FORMAT, format.name())
+                .increment(bytes);
+        registry.histogram(MetricNames.DOCUMENT_SIZE, MetricNames.FORMAT, format.name())
+                .record(bytes);
+    }
+
+    private Message parseMessage(PhenopacketFormat format,
+                                 PhenopacketElement element,
+                                 InputStream is,
+                                 TopLevelFieldFilter filter) throws IOException {
+        if (filter != null)
+            return filter.trim(parsePartialMessage(format, element, is, filter));
+
         return switch (format) {
             case PROTOBUF -> {
                 LOGGER.debug("Reading protobuf message");
@@ -35,6 +99,32 @@ public abstract class BasePhenopacketParser implements PhenopacketParser {
         };
     }
 
+    private Message parsePartialMessage(PhenopacketFormat format,
+                                        PhenopacketElement element,
+                                        InputStream is,
+                                        TopLevelFieldFilter filter) throws IOException {
+        Message.Builder builder = prepareBuilder(element);
+        switch (format) {
+            case PROTOBUF -> {
+                LOGGER.debug("Reading selected fields of protobuf message");
+                builder.mergeFrom(filter.filterProtobuf(is));
+            }
+            case JSON -> {
+                LOGGER.debug("Reading selected fields of JSON message");
+                try (JsonParser parser = JSON_MAPPER.getFactory().createParser(is)) {
+                    // Let the caller close the stream.
+                    parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                    PhenopacketPrintUtil.getParser().merge(filter.readSelected(JSON_MAPPER, parser).toString(), builder);
+                }
+            }
+            case YAML -> {
+                LOGGER.debug("Reading selected fields of YAML message");
+                NaiveYamlParser.INSTANCE.deserializeYamlMessage(is, filter, builder);
+            }
+        }
+        return builder.build();
+    }
+
     protected abstract Message readProtobufMessage(PhenopacketElement element, InputStream is) throws IOException;
 
     private Message readJsonMessage(PhenopacketElement element, InputStream is) throws IOException {
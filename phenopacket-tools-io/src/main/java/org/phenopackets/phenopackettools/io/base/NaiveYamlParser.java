@@ -1,7 +1,9 @@
 package org.phenopackets.phenopackettools.io.base;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.google.protobuf.Message;
 import org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil;
@@ -28,4 +30,13 @@ class NaiveYamlParser {
         String jsonString = jsonMapper.writeValueAsString(node);
         PhenopacketPrintUtil.getParser().merge(jsonString, builder);
     }
+
+    void deserializeYamlMessage(InputStream is, TopLevelFieldFilter filter, Message.Builder builder) throws IOException {
+        try (JsonParser parser = yamlMapper.getFactory().createParser(is)) {
+            // Let the caller close the stream.
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            ObjectNode node = filter.readSelected(yamlMapper, parser);
+            PhenopacketPrintUtil.getParser().merge(jsonMapper.writeValueAsString(node), builder);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package org.phenopackets.phenopackettools.io.base;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event emitted by {@link BasePhenopacketParser}.
+ */
+@Name("org.phenopackets.phenopackettools.PhenopacketParse")
+@Label("Phenopacket Parse")
+@Description("Parsing a top-level element of the Phenopacket schema")
+@Category({"Phenopacket Tools", "I/O"})
+@StackTrace(false)
+class PhenopacketParseEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Element")
+    String element;
+
+    @Label("Size")
+    @Description("The number of bytes read from the input")
+    @DataAmount
+    long size;
+
+}
@@ -0,0 +1,112 @@
+package org.phenopackets.phenopackettools.io.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnknownFieldSet;
+import com.google.protobuf.WireFormat;
+import com.google.protobuf.util.FieldMaskUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects the top-level fields of a message that are included in a {@link FieldMask} while reading the message,
+ * and skips the subtrees of the other fields without decoding them.
+ * <p>
+ * A nested path, such as {@code subject.id}, selects the entire top-level field during reading,
+ * and {@link #trim(Message)} removes the rest of the field afterwards.
+ */
+class TopLevelFieldFilter {
+
+    private final FieldMask fieldMask;
+    private final Set<Integer> selectedNumbers = new HashSet<>();
+    // Both JSON and proto names of the selected fields, since JSON parser accepts both.
+    private final Set<String> selectedNames = new HashSet<>();
+    private final boolean hasNestedPaths;
+
+    /**
+     * @throws IllegalArgumentException if the {@code fieldMask} includes a path that is not valid for the {@code descriptor}
+     */
+    static TopLevelFieldFilter of(Descriptors.Descriptor descriptor, FieldMask fieldMask) {
+        if (!FieldMaskUtil.isValid(descriptor, fieldMask))
+            throw new IllegalArgumentException("Field mask %s is not valid for %s"
+                    .formatted(FieldMaskUtil.toString(fieldMask), descriptor.getFullName()));
+        return new TopLevelFieldFilter(descriptor, fieldMask);
+    }
+
+    private TopLevelFieldFilter(Descriptors.Descriptor descriptor, FieldMask fieldMask) {
+        this.fieldMask = fieldMask;
+        Map<String, Descriptors.FieldDescriptor> fields = new HashMap<>();
+        for (Descriptors.FieldDescriptor field : descriptor.getFields())
+            fields.put(field.getName(), field);
+
+        boolean nested = false;
+        for (String path : fieldMask.getPathsList()) {
+            int dot = path.indexOf('.');
+            nested |= dot >= 0;
+            Descriptors.FieldDescriptor field = fields.get(dot < 0 ? path : path.substring(0, dot));
+            selectedNumbers.add(field.getNumber());
+            selectedNames.add(field.getName());
+            selectedNames.add(field.getJsonName());
+        }
+        this.hasNestedPaths = nested;
+    }
+
+    /**
+     * Copy the selected fields of the protobuf message in the {@code is} into a new protobuf message.
+     * The unselected fields are skipped in the wire format.
+     */
+    byte[] filterProtobuf(InputStream is) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(is);
+        UnknownFieldSet.Builder selected = UnknownFieldSet.newBuilder();
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0)
+                break;
+            if (selectedNumbers.contains(WireFormat.getTagFieldNumber(tag)))
+                selected.mergeFieldFrom(tag, input);
+            else
+                input.skipField(tag);
+        }
+        return selected.build().toByteArray();
+    }
+
+    /**
+     * Read the JSON object from the {@code parser} into a tree that includes only the selected fields.
+     * The tokens of the unselected fields are skipped.
+     */
+    ObjectNode readSelected(ObjectMapper mapper, JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+            throw new IOException("Expected an object at %s".formatted(parser.getCurrentLocation()));
+
+        ObjectNode node = mapper.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if (selectedNames.contains(name))
+                node.set(name, parser.readValueAsTree());
+            else
+                parser.skipChildren();
+        }
+        return node;
+    }
+
+    /**
+     * Remove the parts of the selected top-level fields that are not included in the nested paths of the mask.
+     */
+    Message trim(Message message) {
+        return hasNestedPaths
+                ? FieldMaskUtil.trim(fieldMask, message)
+                : message;
+    }
+}
@@ -0,0 +1,88 @@
+package org.phenopackets.phenopackettools.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.PhenopacketSchemaVersion;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingCohortReaderTest {
+
+    private static final Path BASE = TestBase.BASE_DIR.resolve("v2");
+
+    @ParameterizedTest
+    @CsvSource({
+            "JSON, cohort.json",
+            "YAML, cohort.yaml",
+    })
+    public void readCohortYieldsTheSameMembersAsParser(PhenopacketFormat format, String fileName) throws Exception {
+        Path path = BASE.resolve(fileName);
+        Cohort expected = (Cohort) PhenopacketParserFactory.getInstance()
+                .forFormat(PhenopacketSchemaVersion.V2)
+                .parse(format, PhenopacketElement.COHORT, path);
+
+        List<Phenopacket> members = new ArrayList<>();
+        Cohort header;
+        try (InputStream is = Files.newInputStream(path)) {
+            header = StreamingCohortReader.of(format).readCohort(is, members::add);
+        }
+
+        assertThat(members, equalTo(expected.getMembersList()));
+        assertThat(header.getMembersCount(), equalTo(0));
+        assertThat(header, equalTo(expected.toBuilder().clearMembers().build()));
+    }
+
+    @Test
+    public void readNodesReportsMembersInDocumentOrder() throws Exception {
+        String json = """
+                {"id": "cohort", "members": [{"id": "a"}, {"id": "b"}], "metaData": {"createdBy": "me"}}
+                """;
+        List<String> ids = new ArrayList<>();
+
+        StreamingCohortReader.CohortHeader header = StreamingCohortReader.of(PhenopacketFormat.JSON)
+                .readNodes(stream(json), (index, member) -> ids.add(index + ":" + member.get("id").asText()));
+
+        assertThat(ids, equalTo(List.of("0:a", "1:b")));
+        assertThat(header.hasMembers(), is(true));
+        assertThat(header.memberCount(), equalTo(2));
+        assertThat(header.fields().has("members"), is(false));
+        assertThat(header.fields().get("id").asText(), equalTo("cohort"));
+        assertThat(header.fields().at("/metaData/createdBy").asText(), equalTo("me"));
+    }
+
+    @Test
+    public void readNodesKeepsMalformedMembersInHeader() throws Exception {
+        StreamingCohortReader.CohortHeader header = StreamingCohortReader.of(PhenopacketFormat.JSON)
+                .readNodes(stream("{\"id\": \"cohort\", \"members\": \"none\"}"), (index, member) -> {
+                    throw new AssertionError("Unexpected member " + member);
+                });
+
+        assertThat(header.hasMembers(), is(false));
+        assertThat(header.memberCount(), equalTo(0));
+        assertThat(header.fields().get("members").asText(), equalTo("none"));
+    }
+
+    @Test
+    public void protobufIsNotSupported() {
+        assertThrows(IllegalArgumentException.class, () -> StreamingCohortReader.of(PhenopacketFormat.PROTOBUF));
+    }
+
+    private static InputStream stream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,21 +1,44 @@
 package org.phenopackets.phenopackettools.io.v2;
 
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import com.google.protobuf.util.FieldMaskUtil;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.api.io.TempDir;
+import org.phenopackets.phenopackettools.io.ArchiveEntry;
+import org.phenopackets.phenopackettools.io.ArchiveEntryPayload;
+import org.phenopackets.phenopackettools.io.FilePayload;
+import org.phenopackets.phenopackettools.io.ParsedFile;
 import org.phenopackets.phenopackettools.io.PhenopacketParser;
 import org.phenopackets.phenopackettools.io.TestBase;
 import org.phenopackets.phenopackettools.core.PhenopacketElement;
 import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.metrics.*;
 import org.phenopackets.schema.v2.Cohort;
 import org.phenopackets.schema.v2.Family;
 import org.phenopackets.schema.v2.Phenopacket;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class V2PhenopacketParserTest {
 
@@ -48,6 +71,180 @@ public class V2PhenopacketParserTest {
         assertThat(message, is(instanceOf(getClassForPhenopacketElement(element))));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "PROTOBUF,     PHENOPACKET,     phenopacket.pb,     'meta_data,subject,phenotypic_features'",
+            "    JSON,     PHENOPACKET,     phenopacket.json,   'meta_data,subject,phenotypic_features'",
+            "    YAML,     PHENOPACKET,     phenopacket.yaml,   'meta_data,subject,phenotypic_features'",
+            "PROTOBUF,     PHENOPACKET,     phenopacket.pb,     'id,subject.id'",
+            "    JSON,     PHENOPACKET,     phenopacket.json,   'id,subject.id'",
+            "    YAML,     PHENOPACKET,     phenopacket.yaml,   'id,subject.id'",
+            "PROTOBUF,          COHORT,     cohort.pb,          'meta_data'",
+            "    JSON,          COHORT,     cohort.json,        'meta_data'",
+            "    YAML,          COHORT,     cohort.yaml,        'meta_data'",
+    })
+    public void parseOnlySelectedFields(PhenopacketFormat format,
+                                        PhenopacketElement element,
+                                        String fileName,
+                                        String paths) throws Exception {
+        Path path = BASE.resolve(fileName);
+        FieldMask fieldMask = FieldMaskUtil.fromStringList(Arrays.asList(paths.split(",")));
+
+        Message message = parser.parse(format, element, path, fieldMask);
+
+        Message full = parser.parse(format, element, path);
+        assertThat(message, equalTo(FieldMaskUtil.trim(fieldMask, full)));
+        assertThat(message, not(equalTo(full)));
+    }
+
+    @Test
+    public void parseWithInvalidFieldMask() {
+        FieldMask fieldMask = FieldMaskUtil.fromStringList(List.of("meta_data", "bogus"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(PhenopacketFormat.JSON, PhenopacketElement.PHENOPACKET, BASE.resolve("phenopacket.json"), fieldMask));
+    }
+
+    @Test
+    public void parseZipSniffsEachEntry(@TempDir Path tmp) throws Exception {
+        Path zip = tmp.resolve("release.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zip))) {
+            for (String name : List.of("phenopacket.json", "family.yaml", "cohort.json")) {
+                zos.putNextEntry(new ZipEntry("data/" + name));
+                zos.write(Files.readAllBytes(BASE.resolve(name)));
+                zos.closeEntry();
+            }
+            zos.putNextEntry(new ZipEntry("__MACOSX/data/._phenopacket.json"));
+            zos.write(new byte[]{0, 5, 7});
+            zos.closeEntry();
+        }
+
+        List<ArchiveEntry> entries;
+        try (Stream<ArchiveEntry> stream = parser.parseZip(zip)) {
+            entries = stream.toList();
+        }
+
+        assertThat(entries.stream().map(ArchiveEntry::name).toList(), contains("data/cohort.json", "data/family.yaml", "data/phenopacket.json"));
+        assertThat(entries.stream().map(ArchiveEntry::element).toList(), contains(PhenopacketElement.COHORT, PhenopacketElement.FAMILY, PhenopacketElement.PHENOPACKET));
+        assertThat(entries.stream().map(ArchiveEntry::format).toList(), contains(PhenopacketFormat.JSON, PhenopacketFormat.YAML, PhenopacketFormat.JSON));
+        assertThat(entries.get(2).message(), equalTo(parser.parse(PhenopacketFormat.JSON, PhenopacketElement.PHENOPACKET, BASE.resolve("phenopacket.json"))));
+    }
+
+    @Test
+    public void parseZipReadsEntriesLazily(@TempDir Path tmp) throws Exception {
+        Path zip = tmp.resolve("release.zip");
+        byte[] phenopacket = Files.readAllBytes(BASE.resolve("phenopacket.json"));
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zip))) {
+            for (int i = 0; i < 20; i++) {
+                zos.putNextEntry(new ZipEntry("pp-%02d.json".formatted(i)));
+                zos.write(phenopacket);
+                zos.closeEntry();
+            }
+        }
+        AtomicInteger submitted = new AtomicInteger();
+        Executor counting = task -> {
+            submitted.incrementAndGet();
+            task.run();
+        };
+
+        try (Stream<ArchiveEntry> entries = parser.parseZip(zip, null, null, 3, counting)) {
+            Iterator<ArchiveEntry> iterator = entries.iterator();
+
+            assertThat(iterator.next().name(), equalTo("pp-00.json"));
+            assertThat(submitted.get(), lessThanOrEqualTo(4));
+        }
+    }
+
+    @Test
+    public void readZipSniffsEntriesWithoutParsing(@TempDir Path tmp) throws Exception {
+        Path zip = tmp.resolve("release.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zip))) {
+            for (String name : List.of("phenopacket.json", "family.yaml")) {
+                zos.putNextEntry(new ZipEntry("data/" + name));
+                zos.write(Files.readAllBytes(BASE.resolve(name)));
+                zos.closeEntry();
+            }
+        }
+
+        List<ArchiveEntryPayload> entries;
+        try (Stream<ArchiveEntryPayload> stream = PhenopacketParser.readZip(zip, name -> true, null, null, 2, ForkJoinPool.commonPool())) {
+            entries = stream.toList();
+        }
+
+        assertThat(entries.stream().map(ArchiveEntryPayload::name).toList(), contains("data/family.yaml", "data/phenopacket.json"));
+        assertThat(entries.stream().map(ArchiveEntryPayload::element).toList(), contains(PhenopacketElement.FAMILY, PhenopacketElement.PHENOPACKET));
+        assertThat(entries.stream().map(ArchiveEntryPayload::format).toList(), contains(PhenopacketFormat.YAML, PhenopacketFormat.JSON));
+        assertThat(entries.get(1).payload(), equalTo(Files.readAllBytes(BASE.resolve("phenopacket.json"))));
+    }
+
+    @Test
+    public void parseDirectoryReadsMatchingFilesRecursively(@TempDir Path tmp) throws Exception {
+        Files.createDirectories(tmp.resolve("nested"));
+        Files.copy(BASE.resolve("phenopacket.json"), tmp.resolve("phenopacket.json"));
+        Files.copy(BASE.resolve("family.yaml"), tmp.resolve("nested/family.yaml"));
+        Files.copy(BASE.resolve("cohort.json"), tmp.resolve("nested/cohort.json"));
+        Files.writeString(tmp.resolve("README.txt"), "Not a phenopacket");
+
+        List<ParsedFile> all;
+        try (Stream<ParsedFile> files = parser.parseDirectory(tmp, null, null, null, 2, ForkJoinPool.commonPool())) {
+            all = files.toList();
+        }
+        List<ParsedFile> nestedJson;
+        try (Stream<ParsedFile> files = parser.parseDirectory(tmp, "nested/*.json", null, null, 2, ForkJoinPool.commonPool())) {
+            nestedJson = files.toList();
+        }
+
+        assertThat(all.stream().map(pf -> tmp.relativize(pf.path()).toString()).toList(),
+                containsInAnyOrder("phenopacket.json", Path.of("nested", "family.yaml").toString(), Path.of("nested", "cohort.json").toString()));
+        ParsedFile phenopacket = all.stream().filter(pf -> pf.element() == PhenopacketElement.PHENOPACKET).findFirst().orElseThrow();
+        assertThat(phenopacket.message(), equalTo(parser.parse(PhenopacketFormat.JSON, PhenopacketElement.PHENOPACKET, BASE.resolve("phenopacket.json"))));
+        assertThat(nestedJson.stream().map(ParsedFile::element).toList(), contains(PhenopacketElement.COHORT));
+    }
+
+    @Test
+    public void readAllKeepsOrderOfPaths() throws Exception {
+        List<Path> paths = List.of(BASE.resolve("cohort.json"), BASE.resolve("phenopacket.pb"));
+
+        List<FilePayload> files;
+        try (Stream<FilePayload> stream = PhenopacketParser.readAll(paths.stream(), null, PhenopacketElement.PHENOPACKET, 2, ForkJoinPool.commonPool())) {
+            files = stream.toList();
+        }
+
+        assertThat(files.stream().map(FilePayload::path).toList(), equalTo(paths));
+        assertThat(files.stream().map(FilePayload::format).toList(), contains(PhenopacketFormat.JSON, PhenopacketFormat.PROTOBUF));
+        assertThat(files.get(1).payload(), equalTo(Files.readAllBytes(paths.get(1))));
+    }
+
+    @Test
+    public void parseAllKeepsOrderOfPathsAndReportsUnreadableFile(@TempDir Path tmp) throws Exception {
+        Path broken = tmp.resolve("broken.json");
+        Files.writeString(broken, "{\"id\": ");
+        List<Path> paths = List.of(BASE.resolve("cohort.json"), BASE.resolve("phenopacket.json"), BASE.resolve("family.json"), broken);
+
+        Iterator<ParsedFile> files = parser.parseAll(paths.stream(), null, null, 2, ForkJoinPool.commonPool()).iterator();
+
+        assertThat(files.next().path(), equalTo(paths.get(0)));
+        assertThat(files.next().path(), equalTo(paths.get(1)));
+        assertThat(files.next().path(), equalTo(paths.get(2)));
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, files::next);
+        assertThat(e.getCause().getMessage(), containsString("broken.json"));
+    }
+
+    @Test
+    public void parsingReportsMetrics() throws Exception {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        Metrics.setRegistry(new CountingRegistry(counts));
+        try {
+            Path path = BASE.resolve("phenopacket.json");
+            parser.parse(PhenopacketFormat.JSON, PhenopacketElement.PHENOPACKET, path);
+
+            assertThat(counts.get(MetricNames.DOCUMENTS_PARSED + "[format, JSON, element, PHENOPACKET]"), equalTo(1L));
+            assertThat(counts.get(MetricNames.BYTES_READ + "[format, JSON]"), equalTo(Files.size(path)));
+        } finally {
+            Metrics.setRegistry(MetricsRegistry.noop());
+        }
+    }
+
     private static Class<?> getClassForPhenopacketElement(PhenopacketElement element) {
         return switch (element) {
             case PHENOPACKET -> Phenopacket.class;
@@ -55,4 +252,25 @@ public class V2PhenopacketParserTest {
             case COHORT -> Cohort.class;
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Sums the counter increments by the name and tags.
+     */
+    private record CountingRegistry(Map<String, Long> counts) implements MetricsRegistry {
+
+        @Override
+        public Counter counter(String name, String... tags) {
+            return amount -> counts.merge(name + Arrays.toString(tags), amount, Long::sum);
+        }
+
+        @Override
+        public Timer timer(String name, String... tags) {
+            return nanos -> {};
+        }
+
+        @Override
+        public Histogram histogram(String name, String... tags) {
+            return value -> {};
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * A module for storing large numbers of phenopackets with random access by the phenopacket id.
+ */
+module org.phenopackets.phenopackettools.storage {
+    requires transitive org.phenopackets.phenopackettools.core; // due to being part of PhenopacketStore API
+    requires transitive org.phenopackets.schema; // due to being part of PhenopacketStore API
+    requires org.phenopackets.phenopackettools.io;
+    requires org.phenopackets.phenopackettools.util;
+    requires org.slf4j;
+
+    exports org.phenopackets.phenopackettools.storage;
+}
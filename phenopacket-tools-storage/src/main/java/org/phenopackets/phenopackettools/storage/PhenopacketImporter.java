@@ -0,0 +1,89 @@
+package org.phenopackets.phenopackettools.storage;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.PhenopacketSchemaVersion;
+import org.phenopackets.phenopackettools.io.PhenopacketParser;
+import org.phenopackets.phenopackettools.io.PhenopacketParserFactory;
+import org.phenopackets.phenopackettools.io.StreamingCohortReader;
+import org.phenopackets.phenopackettools.util.format.ElementSniffer;
+import org.phenopackets.phenopackettools.util.format.FormatSniffer;
+import org.phenopackets.phenopackettools.util.format.SniffException;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends the phenopackets of a document in any of the supported {@link PhenopacketFormat}s to a {@link PhenopacketStore}.
+ * The element of a protobuf document must be provided by the caller, a protobuf document is read as a phenopacket otherwise.
+ */
+class PhenopacketImporter {
+
+    private PhenopacketImporter() {
+        // static utility class
+    }
+
+    /**
+     * @param element the top-level element of the document or {@code null} if the element should be detected
+     *                from the document. A protobuf document is read as a phenopacket if the element is {@code null}.
+     */
+    static int importFrom(Path path, PhenopacketElement element, PhenopacketStore store) throws IOException {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(path))) {
+            PhenopacketFormat format = FormatSniffer.sniff(is);
+            if (element == null)
+                // Element sniffing is not supported for protobuf.
+                element = format == PhenopacketFormat.PROTOBUF
+                        ? PhenopacketElement.PHENOPACKET
+                        : ElementSniffer.sniff(is, format);
+
+            // The protobuf cohorts cannot be streamed, hence the cohort is parsed as a whole below.
+            if (element == PhenopacketElement.COHORT && format != PhenopacketFormat.PROTOBUF)
+                return importCohort(is, format, store);
+
+            PhenopacketParser parser = PhenopacketParserFactory.getInstance().forFormat(PhenopacketSchemaVersion.V2);
+            Message message = parser.parse(format, element, is);
+            if (message instanceof Phenopacket phenopacket) {
+                store.append(phenopacket);
+                return 1;
+            } else if (message instanceof Family family) {
+                store.append(family.getProband());
+                for (Phenopacket relative : family.getRelativesList())
+                    store.append(relative);
+                return 1 + family.getRelativesCount();
+            } else if (message instanceof Cohort cohort) {
+                for (Phenopacket member : cohort.getMembersList())
+                    store.append(member);
+                return cohort.getMembersCount();
+            } else {
+                throw new IOException("Unexpected element %s in %s".formatted(message.getClass().getSimpleName(), path));
+            }
+        } catch (SniffException e) {
+            throw new IOException("Unable to detect the format and element of %s".formatted(path), e);
+        }
+    }
+
+    private static int importCohort(InputStream is, PhenopacketFormat format, PhenopacketStore store) throws IOException {
+        int[] count = {0};
+        try {
+            StreamingCohortReader.of(format).readCohort(is, member -> {
+                try {
+                    store.append(member);
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+}
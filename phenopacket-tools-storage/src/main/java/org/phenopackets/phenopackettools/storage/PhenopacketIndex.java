@@ -0,0 +1,186 @@
+package org.phenopackets.phenopackettools.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An append-only log that maps the phenopacket {@code id} to the {@link Location} of the phenopacket message.
+ * <p>
+ * Each record consists of the length of the UTF-8 encoded {@code id} as an unsigned 16-bit integer, the {@code id}
+ * bytes, the segment number, the offset and the length of the message. A truncated trailing record, e.g. due to
+ * a crash during writing, is discarded.
+ * <p>
+ * The lookups are served from a map on the heap. Opening the index reads the entire log, region by region
+ * through a memory-mapped buffer, and loads all records into the map. Hence, the heap usage and the time
+ * of opening grow with the number of the indexed phenopackets, roughly by the size of the {@code id}
+ * plus 100 bytes per phenopacket.
+ * <p>
+ * The new records are kept in memory until {@link #flush()} to let the caller write the messages to the segment first.
+ * The flushed records are forced to the storage device.
+ * <p>
+ * The index is not thread-safe.
+ */
+class PhenopacketIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhenopacketIndex.class);
+    // The length of the record without the `id` bytes.
+    private static final int FIXED_RECORD_LENGTH = Short.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MAX_ID_LENGTH = 0xFFFF;
+    // Map the log in regions to support logs larger than the max size of a mapped buffer.
+    private static final long REGION_SIZE = 64L * 1024 * 1024;
+
+    private final Map<String, Location> locations;
+    // The end of the last message of each segment, including the superseded messages.
+    private final Map<Integer, Long> segmentEnds;
+    private final FileChannel channel;
+    private final OutputStream output;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    static PhenopacketIndex open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Map<String, Location> locations = new HashMap<>();
+        Map<Integer, Long> segmentEnds = new HashMap<>();
+        long length = load(channel, locations, segmentEnds);
+        if (length < channel.size()) {
+            LOGGER.warn("Discarding {} bytes of a truncated record at the end of the index {}", channel.size() - length, path);
+            channel.truncate(length);
+        }
+        channel.position(length);
+        return new PhenopacketIndex(locations, segmentEnds, channel);
+    }
+
+    /**
+     * @return the length of the complete records
+     */
+    private static long load(FileChannel channel,
+                             Map<String, Location> locations,
+                             Map<Integer, Long> segmentEnds) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, REGION_SIZE));
+            int consumed = 0;
+            while (region.remaining() >= FIXED_RECORD_LENGTH) {
+                int idLength = Short.toUnsignedInt(region.getShort(consumed));
+                if (region.remaining() < FIXED_RECORD_LENGTH + idLength)
+                    break;
+                byte[] id = new byte[idLength];
+                region.position(consumed + Short.BYTES);
+                region.get(id);
+                Location location = new Location(region.getInt(), region.getLong(), region.getInt());
+                locations.put(new String(id, StandardCharsets.UTF_8), location);
+                segmentEnds.merge(location.segment(), location.end(), Math::max);
+                consumed = region.position();
+            }
+            if (consumed == 0)
+                // A truncated record.
+                break;
+            position += consumed;
+        }
+        return position;
+    }
+
+    private PhenopacketIndex(Map<String, Location> locations, Map<Integer, Long> segmentEnds, FileChannel channel) {
+        this.locations = locations;
+        this.segmentEnds = segmentEnds;
+        this.channel = channel;
+        this.output = Channels.newOutputStream(channel);
+    }
+
+    Location get(String id) {
+        return locations.get(id);
+    }
+
+    int size() {
+        return locations.size();
+    }
+
+    /**
+     * @return the end of the last indexed message of the {@code segment} or {@code 0} if the segment has no messages
+     */
+    long segmentEnd(int segment) {
+        return segmentEnds.getOrDefault(segment, 0L);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the UTF-8 encoded {@code id} is longer than 65,535 bytes
+     */
+    static void checkId(String id) {
+        encodeId(id);
+    }
+
+    private static byte[] encodeId(String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ID_LENGTH)
+            throw new IllegalArgumentException("The id must be at most %d bytes long but was %d".formatted(MAX_ID_LENGTH, bytes.length));
+        return bytes;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the UTF-8 encoded {@code id} is longer than 65,535 bytes
+     */
+    void put(String id, Location location) throws IOException {
+        byte[] bytes = encodeId(id);
+
+        ByteBuffer record = ByteBuffer.allocate(FIXED_RECORD_LENGTH + bytes.length)
+                .putShort((short) bytes.length)
+                .put(bytes)
+                .putInt(location.segment())
+                .putLong(location.offset())
+                .putInt(location.length());
+        pending.write(record.array());
+        locations.put(id, location);
+        segmentEnds.merge(location.segment(), location.end(), Math::max);
+    }
+
+    /**
+     * @return the number of bytes of the records that were not flushed yet
+     */
+    int pendingSize() {
+        return pending.size();
+    }
+
+    void flush() throws IOException {
+        pending.writeTo(output);
+        pending.reset();
+        channel.force(false);
+    }
+
+    void close() throws IOException {
+        // Closes the channel as well.
+        output.close();
+    }
+
+    /**
+     * The position of a phenopacket message in the store.
+     *
+     * @param segment the segment number
+     * @param offset the offset of the message bytes in the segment, after the length prefix
+     * @param length the length of the message bytes
+     */
+    record Location(int segment, long offset, int length) implements Comparable<Location> {
+
+        long end() {
+            return offset + length;
+        }
+
+        @Override
+        public int compareTo(Location o) {
+            int result = Integer.compare(segment, o.segment);
+            return result != 0 ? result : Long.compare(offset, o.offset);
+        }
+    }
+}
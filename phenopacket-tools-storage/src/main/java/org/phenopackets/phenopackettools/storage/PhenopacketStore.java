@@ -0,0 +1,102 @@
+package org.phenopackets.phenopackettools.storage;
+
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * An append-only store of {@link Phenopacket}s with random access by the phenopacket {@code id}.
+ * <p>
+ * The phenopackets are appended as length-delimited protobuf messages into segment files, and an index maps
+ * the phenopacket {@code id} to the segment and offset of the message. Appending a phenopacket with an {@code id}
+ * that is already present supersedes the previous phenopacket. The index is loaded into memory when opening the store,
+ * which takes memory proportional to the number of the stored phenopackets.
+ * <p>
+ * The store is thread-safe. Close the store to make sure that the appended phenopackets are written to disk.
+ */
+public interface PhenopacketStore extends Closeable {
+
+    /**
+     * Open the store in the {@code directory}, creating a new store if the directory is empty or does not exist.
+     *
+     * @throws IOException if the store cannot be opened
+     */
+    static PhenopacketStore open(Path directory) throws IOException {
+        return PhenopacketStoreDefault.open(directory, PhenopacketStoreDefault.DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Append the {@code phenopacket} to the store.
+     *
+     * @throws IllegalArgumentException if the phenopacket {@code id} is empty
+     * @throws IOException if the phenopacket cannot be written
+     */
+    void append(Phenopacket phenopacket) throws IOException;
+
+    /**
+     * Append all phenopackets of the document in the {@code path}. The document can be a phenopacket, a family,
+     * or a cohort in JSON or YAML format, or a phenopacket in protobuf format. The phenopackets of a family
+     * or a cohort are appended in the order of the document, the cohort members are read one at a time.
+     * <p>
+     * The element of a protobuf document cannot be detected, hence a protobuf document is read as a phenopacket.
+     * Use {@link #importFrom(Path, PhenopacketElement)} to import a protobuf family or cohort.
+     *
+     * @return the number of the appended phenopackets
+     * @throws IOException if the document cannot be read or the phenopackets cannot be written
+     */
+    default int importFrom(Path path) throws IOException {
+        return PhenopacketImporter.importFrom(path, null, this);
+    }
+
+    /**
+     * Append all phenopackets of the document in the {@code path}, where the document is the top-level
+     * {@code element} in any of the supported formats.
+     *
+     * @return the number of the appended phenopackets
+     * @throws IOException if the document cannot be read or the phenopackets cannot be written
+     * @see #importFrom(Path)
+     */
+    default int importFrom(Path path, PhenopacketElement element) throws IOException {
+        return PhenopacketImporter.importFrom(path, Objects.requireNonNull(element), this);
+    }
+
+    /**
+     * @return the phenopacket with the {@code id} or an empty optional if the store does not contain such phenopacket
+     */
+    Optional<Phenopacket> get(String id) throws IOException;
+
+    /**
+     * Get the phenopackets with the {@code ids}. The phenopackets are read in the order of their position
+     * in the store to make the best use of the disk.
+     *
+     * @return the phenopackets in the order of the {@code ids}, the IDs missing from the store are skipped
+     */
+    List<Phenopacket> getAll(Collection<String> ids) throws IOException;
+
+    boolean contains(String id);
+
+    /**
+     * @return the number of phenopackets in the store
+     */
+    int size();
+
+    /**
+     * Read the phenopackets sequentially, in the order of appending, and pass them to the {@code consumer}.
+     * The superseded phenopackets are skipped.
+     */
+    void scan(Consumer<? super Phenopacket> consumer) throws IOException;
+
+    /**
+     * Write the appended phenopackets and the index to disk and force them to the storage device.
+     */
+    void flush() throws IOException;
+
+}
@@ -0,0 +1,262 @@
+package org.phenopackets.phenopackettools.storage;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The default {@link PhenopacketStore} that keeps the phenopackets in segment files {@code segment-00000.pb},
+ * {@code segment-00001.pb}, ..., and the index in {@code index.bin}.
+ * <p>
+ * The phenopacket is written into the segment before its index record, hence the index record is the commit point
+ * of the appending. The segment is forced to the storage device before the index records are written, and the index
+ * is forced after. The messages that are not indexed, e.g. due to a crash, are discarded when opening the store.
+ */
+class PhenopacketStoreDefault implements PhenopacketStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhenopacketStoreDefault.class);
+
+    static final long DEFAULT_SEGMENT_SIZE = 256L * 1024 * 1024;
+    private static final String INDEX_FILE_NAME = "index.bin";
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("segment-(?<number>\\d{5})\\.pb");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final PhenopacketIndex index;
+    // The channels for reading the segments.
+    private final Map<Integer, FileChannel> readers = new HashMap<>();
+    private int segment;
+    private long segmentSize;
+    private FileChannel channel;
+    private OutputStream writer;
+    private boolean dirty;
+    private boolean closed;
+
+    /**
+     * @param maxSegmentSize the size of a segment which triggers starting a new segment.
+     *                       A segment with a single large phenopacket can be larger than this size.
+     */
+    static PhenopacketStoreDefault open(Path directory, long maxSegmentSize) throws IOException {
+        if (maxSegmentSize <= 0 || maxSegmentSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Max segment size must be in range (0, %d] but was %d".formatted(Integer.MAX_VALUE, maxSegmentSize));
+        Files.createDirectories(directory);
+        PhenopacketIndex index = PhenopacketIndex.open(directory.resolve(INDEX_FILE_NAME));
+        int segment = lastSegment(directory);
+        return new PhenopacketStoreDefault(directory, maxSegmentSize, index, segment);
+    }
+
+    private static int lastSegment(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> SEGMENT_FILE_NAME.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(m -> Integer.parseInt(m.group("number")))
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    private PhenopacketStoreDefault(Path directory,
+                                    long maxSegmentSize,
+                                    PhenopacketIndex index,
+                                    int segment) throws IOException {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.index = index;
+        openWriter(segment);
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve("segment-%05d.pb".formatted(segment));
+    }
+
+    private void openWriter(int segment) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        long end = index.segmentEnd(segment);
+        if (channel.size() > end) {
+            LOGGER.warn("Discarding {} bytes of the messages that were not indexed in {}", channel.size() - end, segmentPath(segment));
+            channel.truncate(end);
+        }
+        channel.position(end);
+        this.segment = segment;
+        this.segmentSize = end;
+        this.channel = channel;
+        this.writer = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    @Override
+    public synchronized void append(Phenopacket phenopacket) throws IOException {
+        checkOpen();
+        String id = phenopacket.getId();
+        if (id.isEmpty())
+            throw new IllegalArgumentException("Cannot store a phenopacket with an empty id");
+        // Reject the phenopacket before writing, a rejected message would shift the offsets of the next messages.
+        PhenopacketIndex.checkId(id);
+
+        byte[] message = phenopacket.toByteArray();
+        int prefixLength = CodedOutputStream.computeUInt32SizeNoTag(message.length);
+        if (segmentSize > 0 && segmentSize + prefixLength + message.length > maxSegmentSize) {
+            // The pending index records may point to the messages of the current segment.
+            writer.flush();
+            channel.force(false);
+            writer.close();
+            openWriter(segment + 1);
+        }
+
+        CodedOutputStream output = CodedOutputStream.newInstance(writer, prefixLength);
+        output.writeUInt32NoTag(message.length);
+        output.flush();
+        writer.write(message);
+        index.put(id, new PhenopacketIndex.Location(segment, segmentSize + prefixLength, message.length));
+        segmentSize += prefixLength + message.length;
+        dirty = true;
+        if (index.pendingSize() >= BUFFER_SIZE)
+            flushIfDirty();
+    }
+
+    @Override
+    public synchronized Optional<Phenopacket> get(String id) throws IOException {
+        checkOpen();
+        PhenopacketIndex.Location location = index.get(id);
+        return location == null
+                ? Optional.empty()
+                : Optional.of(read(location));
+    }
+
+    @Override
+    public synchronized List<Phenopacket> getAll(Collection<String> ids) throws IOException {
+        checkOpen();
+        List<String> idList = List.copyOf(ids);
+        PhenopacketIndex.Location[] locations = new PhenopacketIndex.Location[idList.size()];
+        Integer[] order = new Integer[idList.size()];
+        int present = 0;
+        for (int i = 0; i < idList.size(); i++) {
+            locations[i] = index.get(idList.get(i));
+            if (locations[i] != null)
+                order[present++] = i;
+        }
+        // Read in the order of the position in the store.
+        Arrays.sort(order, 0, present, Comparator.comparing(i -> locations[i]));
+
+        Phenopacket[] phenopackets = new Phenopacket[idList.size()];
+        for (int i = 0; i < present; i++)
+            phenopackets[order[i]] = read(locations[order[i]]);
+
+        List<Phenopacket> results = new ArrayList<>(present);
+        for (Phenopacket phenopacket : phenopackets) {
+            if (phenopacket != null)
+                results.add(phenopacket);
+        }
+        return results;
+    }
+
+    private Phenopacket read(PhenopacketIndex.Location location) throws IOException {
+        // The index is kept in memory, only the messages must be written for reading.
+        writer.flush();
+        FileChannel channel = readers.get(location.segment());
+        if (channel == null) {
+            channel = FileChannel.open(segmentPath(location.segment()), StandardOpenOption.READ);
+            readers.put(location.segment(), channel);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        long position = location.offset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0)
+                throw new IOException("Unexpected end of %s at %d".formatted(segmentPath(location.segment()), position));
+            position += read;
+        }
+        return Phenopacket.parseFrom(buffer.flip());
+    }
+
+    @Override
+    public synchronized boolean contains(String id) {
+        return index.get(id) != null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void scan(Consumer<? super Phenopacket> consumer) throws IOException {
+        checkOpen();
+        writer.flush();
+        for (int s = 0; s <= segment; s++) {
+            Path path = segmentPath(s);
+            if (Files.notExists(path))
+                continue;
+            long end = index.segmentEnd(s);
+            try (InputStream is = Files.newInputStream(path)) {
+                CodedInputStream input = CodedInputStream.newInstance(is, BUFFER_SIZE);
+                input.setSizeLimit(Integer.MAX_VALUE);
+                while (input.getTotalBytesRead() < end) {
+                    int length = input.readRawVarint32();
+                    PhenopacketIndex.Location location = new PhenopacketIndex.Location(s, input.getTotalBytesRead(), length);
+                    Phenopacket phenopacket = Phenopacket.parseFrom(input.readRawBytes(length));
+                    // Skip the superseded phenopackets.
+                    if (location.equals(index.get(phenopacket.getId())))
+                        consumer.accept(phenopacket);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        checkOpen();
+        flushIfDirty();
+    }
+
+    private void flushIfDirty() throws IOException {
+        if (dirty) {
+            // The segment must be durable before the index records that point to the messages.
+            writer.flush();
+            channel.force(false);
+            index.flush();
+            dirty = false;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        try {
+            flushIfDirty();
+        } finally {
+            writer.close();
+            index.close();
+            for (FileChannel channel : readers.values())
+                channel.close();
+            readers.clear();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("The store is closed");
+    }
+
+}
@@ -0,0 +1,6 @@
+/**
+ * The {@code org.phenopackets.phenopackettools.storage} package offers
+ * {@link org.phenopackets.phenopackettools.storage.PhenopacketStore}, an append-only store for large numbers
+ * of phenopackets with sequential scans and random access by the phenopacket {@code id}.
+ */
+package org.phenopackets.phenopackettools.storage;
@@ -0,0 +1,176 @@
+package org.phenopackets.phenopackettools.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.test.synthetic.SyntheticDataGenerator;
+import org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PhenopacketStoreTest {
+
+    private static final SyntheticDataGenerator GENERATOR = SyntheticDataGenerator.builder().build();
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void phenopacketsAreRetrievedByIdAfterReopening() throws Exception {
+        List<Phenopacket> phenopackets = phenopackets(100);
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            for (Phenopacket phenopacket : phenopackets)
+                store.append(phenopacket);
+            // Reading the phenopackets that were not flushed yet.
+            assertThat(store.get("pp-42").orElseThrow(), equalTo(phenopackets.get(42)));
+        }
+
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            assertThat(store.size(), equalTo(100));
+            assertThat(store.contains("pp-0"), is(true));
+            assertThat(store.contains("bogus"), is(false));
+            assertThat(store.get("pp-99").orElseThrow(), equalTo(phenopackets.get(99)));
+            assertThat(store.get("bogus").isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void getAllReadsFromMultipleSegments() throws Exception {
+        List<Phenopacket> phenopackets = phenopackets(50);
+        try (PhenopacketStore store = PhenopacketStoreDefault.open(directory, 512)) {
+            for (Phenopacket phenopacket : phenopackets)
+                store.append(phenopacket);
+
+            List<Phenopacket> actual = store.getAll(List.of("pp-49", "bogus", "pp-3", "pp-17", "pp-3"));
+
+            assertThat(actual, contains(phenopackets.get(49), phenopackets.get(3), phenopackets.get(17), phenopackets.get(3)));
+        }
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(p -> p.getFileName().toString().startsWith("segment-")).count(), greaterThan(1L));
+        }
+    }
+
+    @Test
+    public void scanSkipsSupersededPhenopackets() throws Exception {
+        List<Phenopacket> phenopackets = phenopackets(10);
+        Phenopacket updated = phenopackets.get(3).toBuilder().setSubject(phenopackets.get(3).getSubject().toBuilder().setId("updated")).build();
+        try (PhenopacketStore store = PhenopacketStoreDefault.open(directory, 512)) {
+            for (Phenopacket phenopacket : phenopackets)
+                store.append(phenopacket);
+            store.append(updated);
+
+            List<Phenopacket> scanned = new ArrayList<>();
+            store.scan(scanned::add);
+
+            assertThat(store.size(), equalTo(10));
+            assertThat(store.get("pp-3").orElseThrow(), equalTo(updated));
+            assertThat(scanned, hasSize(10));
+            assertThat(scanned, hasItem(updated));
+            assertThat(scanned, not(hasItem(phenopackets.get(3))));
+        }
+    }
+
+    @Test
+    public void truncatedWritesAreDiscardedWhenOpening() throws Exception {
+        List<Phenopacket> phenopackets = phenopackets(5);
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            for (Phenopacket phenopacket : phenopackets)
+                store.append(phenopacket);
+        }
+        // Simulate a crash while writing a message and its index record.
+        Files.write(directory.resolve("segment-00000.pb"), new byte[]{10, 1, 2}, StandardOpenOption.APPEND);
+        Files.write(directory.resolve("index.bin"), new byte[]{0, 5, 'p', 'p'}, StandardOpenOption.APPEND);
+
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            store.append(phenopacket(5));
+
+            List<Phenopacket> scanned = new ArrayList<>();
+            store.scan(scanned::add);
+            assertThat(store.size(), equalTo(6));
+            assertThat(scanned.get(5), equalTo(phenopacket(5)));
+        }
+    }
+
+    @Test
+    public void importCohortMembers() throws Exception {
+        Cohort cohort = GENERATOR.cohort("cohort", 20);
+        Path path = directory.resolve("cohort.json");
+        Files.writeString(path, PhenopacketPrintUtil.getPrinter().print(cohort));
+
+        try (PhenopacketStore store = PhenopacketStore.open(directory.resolve("store"))) {
+            int imported = store.importFrom(path);
+
+            assertThat(imported, equalTo(cohort.getMembersCount()));
+            for (Phenopacket member : cohort.getMembersList())
+                assertThat(store.get(member.getId()).orElseThrow(), equalTo(member));
+        }
+    }
+
+    @Test
+    public void importProtobufFamily() throws Exception {
+        Family family = Family.newBuilder()
+                .setId("family")
+                .setProband(phenopacket(0))
+                .addRelatives(phenopacket(1))
+                .build();
+        Path path = directory.resolve("family.pb");
+        Files.write(path, family.toByteArray());
+
+        try (PhenopacketStore store = PhenopacketStore.open(directory.resolve("store"))) {
+            int imported = store.importFrom(path, PhenopacketElement.FAMILY);
+
+            assertThat(imported, equalTo(2));
+            assertThat(store.get("pp-0").orElseThrow(), equalTo(phenopacket(0)));
+            assertThat(store.get("pp-1").orElseThrow(), equalTo(phenopacket(1)));
+        }
+    }
+
+    @Test
+    public void phenopacketWithoutIdIsRejected() throws Exception {
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            assertThrows(IllegalArgumentException.class, () -> store.append(Phenopacket.getDefaultInstance()));
+        }
+    }
+
+    @Test
+    public void rejectedPhenopacketDoesNotShiftNextPhenopackets() throws Exception {
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            store.append(phenopacket(0));
+            Phenopacket longId = phenopacket(1).toBuilder().setId("x".repeat(70_000)).build();
+            assertThrows(IllegalArgumentException.class, () -> store.append(longId));
+            store.append(phenopacket(2));
+            store.flush();
+
+            assertThat(store.get("pp-2").orElseThrow(), equalTo(phenopacket(2)));
+        }
+
+        try (PhenopacketStore store = PhenopacketStore.open(directory)) {
+            assertThat(store.size(), equalTo(2));
+            assertThat(store.get("pp-2").orElseThrow(), equalTo(phenopacket(2)));
+        }
+    }
+
+    private static List<Phenopacket> phenopackets(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(PhenopacketStoreTest::phenopacket)
+                .toList();
+    }
+
+    private static Phenopacket phenopacket(int i) {
+        return GENERATOR.phenopacket(i).toBuilder()
+                .setId("pp-" + i)
+                .build();
+    }
+}
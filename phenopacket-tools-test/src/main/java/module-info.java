@@ -1,9 +1,13 @@
 /**
- * A module with example phenopackets suitable for unit tests.
+ * A module with example phenopackets suitable for unit tests and a generator of synthetic phenopackets
+ * for load testing.
  */
 module org.phenopackets.phenopackettools.test {
+    requires org.phenopackets.phenopackettools.builder;
+    requires transitive org.phenopackets.phenopackettools.core;
     requires org.phenopackets.schema;
     requires com.google.protobuf;
 
     exports org.phenopackets.phenopackettools.test;
+    exports org.phenopackets.phenopackettools.test.synthetic;
 }
\ No newline at end of file
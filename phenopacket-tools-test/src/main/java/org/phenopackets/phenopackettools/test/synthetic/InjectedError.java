@@ -0,0 +1,33 @@
+package org.phenopackets.phenopackettools.test.synthetic;
+
+/**
+ * Errors that {@link SyntheticDataGenerator} can deliberately inject into the generated phenopackets.
+ */
+public enum InjectedError {
+
+    /**
+     * The phenopacket ID is missing.
+     */
+    MISSING_ID,
+
+    /**
+     * The ID of the phenopacket subject is missing.
+     */
+    MISSING_SUBJECT_ID,
+
+    /**
+     * The phenopacket metadata is missing.
+     */
+    MISSING_METADATA,
+
+    /**
+     * A phenotypic feature has an empty label.
+     */
+    EMPTY_LABEL,
+
+    /**
+     * A phenotypic feature uses a term whose prefix has no corresponding resource in the metadata.
+     */
+    UNKNOWN_RESOURCE
+
+}
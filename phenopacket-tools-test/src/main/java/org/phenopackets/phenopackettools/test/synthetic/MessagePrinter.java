@@ -0,0 +1,20 @@
+package org.phenopackets.phenopackettools.test.synthetic;
+
+import com.google.protobuf.Message;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serialize a {@link Message} into an {@link OutputStream}.
+ * <p>
+ * The interface matches {@code PhenopacketPrinter#print(Message, OutputStream)} of the I/O module,
+ * hence a printer for any {@link org.phenopackets.phenopackettools.core.PhenopacketFormat} can be provided
+ * as a method reference, e.g. {@code printer::print}.
+ */
+@FunctionalInterface
+public interface MessagePrinter {
+
+    void print(Message message, OutputStream os) throws IOException;
+
+}
@@ -0,0 +1,341 @@
+package org.phenopackets.phenopackettools.test.synthetic;
+
+import org.ga4gh.vrsatile.v1.GeneDescriptor;
+import org.ga4gh.vrsatile.v1.VariationDescriptor;
+import org.phenopackets.phenopackettools.builder.PhenopacketBuilder;
+import org.phenopackets.phenopackettools.builder.builders.*;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.core.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A seeded generator of synthetic, medically meaningless, v2 phenopackets and cohorts of arbitrary size,
+ * mainly usable for load testing and benchmarks.
+ * <p>
+ * The generator is deterministic: the phenopacket with a given index depends only on the seed, the index,
+ * and the generator configuration. Therefore, the phenopackets can be generated lazily, in any order, and in parallel.
+ * <p>
+ * A fraction of the phenopackets can be corrupted with an {@link InjectedError} to exercise the validation.
+ * Use {@link #injectedError(int)} to learn which phenopackets are corrupted.
+ */
+public class SyntheticDataGenerator {
+
+    static final String CREATED = "2021-01-01T00:00:00Z";
+    static final String CREATED_BY = "phenopacket-tools synthetic data generator";
+
+    private static final InjectedError[] ERRORS = InjectedError.values();
+
+    private final long seed;
+    private final int minFeatures;
+    private final int maxFeatures;
+    private final double excludedRatio;
+    private final int interpretations;
+    private final int biosamples;
+    private final double errorRate;
+    private final MetaData metaData;
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private SyntheticDataGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.minFeatures = builder.minFeatures;
+        this.maxFeatures = builder.maxFeatures;
+        this.excludedRatio = builder.excludedRatio;
+        this.interpretations = builder.interpretations;
+        this.biosamples = builder.biosamples;
+        this.errorRate = builder.errorRate;
+        this.metaData = MetaDataBuilder.builder(CREATED, CREATED_BY)
+                .addResource(Resources.hpoVersion("2021-08-02"))
+                .addResource(Resources.omimVersion("2021-08-02"))
+                .addResource(Resources.hgncVersion("2021-08-02"))
+                .addResource(Resources.uberonVersion("2021-07-27"))
+                .addResource(Resources.genoVersion("2020-03-08"))
+                .addResource(Resources.ncbiTaxonVersion("2021-02-15"))
+                .build();
+    }
+
+    /**
+     * @return the phenopacket with given {@code index}.
+     */
+    public Phenopacket phenopacket(int index) {
+        SplittableRandom random = random(index);
+        // Always make both draws to keep the content independent of the error rate.
+        boolean corrupt = random.nextDouble() < errorRate;
+        InjectedError error = ERRORS[random.nextInt(ERRORS.length)];
+
+        Phenopacket phenopacket = generate(index, random);
+        return corrupt
+                ? inject(phenopacket, error)
+                : phenopacket;
+    }
+
+    /**
+     * @return the error injected into the phenopacket with given {@code index} or an empty optional
+     * if the phenopacket is valid.
+     */
+    public Optional<InjectedError> injectedError(int index) {
+        SplittableRandom random = random(index);
+        boolean corrupt = random.nextDouble() < errorRate;
+        InjectedError error = ERRORS[random.nextInt(ERRORS.length)];
+        return corrupt
+                ? Optional.of(error)
+                : Optional.empty();
+    }
+
+    /**
+     * @return a lazy stream of the phenopackets with indices {@code [0, count)}.
+     */
+    public Stream<Phenopacket> phenopackets(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(this::phenopacket);
+    }
+
+    /**
+     * @return a cohort with {@code size} members.
+     */
+    public Cohort cohort(String id, int size) {
+        Cohort.Builder builder = Cohort.newBuilder()
+                .setId(id)
+                .setDescription("Synthetic cohort with %d members".formatted(size))
+                .setMetaData(metaData);
+        phenopackets(size).forEach(builder::addMembers);
+        return builder.build();
+    }
+
+    /**
+     * Write {@code count} phenopackets into {@code directory}, one file per phenopacket. The files are named
+     * after the phenopacket index and the {@code format} suffix, e.g. {@code synthetic-0.json}.
+     * Only one phenopacket is kept in memory at a time.
+     *
+     * @param printer a printer that serializes the phenopackets in the {@code format}
+     */
+    public void writePhenopackets(int count,
+                                  Path directory,
+                                  PhenopacketFormat format,
+                                  MessagePrinter printer) throws IOException {
+        Files.createDirectories(directory);
+        for (int i = 0; i < count; i++) {
+            Path output = directory.resolve("synthetic-" + i + format.suffix());
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(output))) {
+                printer.print(phenopacket(i), os);
+            }
+        }
+    }
+
+    /**
+     * Write a cohort with {@code size} members into the {@code output} file.
+     *
+     * @param printer a printer that serializes the cohort in the desired format
+     */
+    public void writeCohort(String id, int size, Path output, MessagePrinter printer) throws IOException {
+        Cohort cohort = cohort(id, size);
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(output))) {
+            printer.print(cohort, os);
+        }
+    }
+
+    private SplittableRandom random(int index) {
+        return new SplittableRandom(mix64(seed ^ mix64(index)));
+    }
+
+    /**
+     * The finalizer of the MurmurHash3 to decorrelate the seeds of the adjacent indices.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private Phenopacket generate(int index, SplittableRandom random) {
+        String subjectId = "patient-" + index;
+        IndividualBuilder individual = IndividualBuilder.builder(subjectId)
+                .ageAtLastEncounter("P%dY".formatted(random.nextInt(1, 80)))
+                .homoSapiens();
+        if (random.nextBoolean())
+            individual.female();
+        else
+            individual.male();
+
+        PhenopacketBuilder builder = PhenopacketBuilder.create("synthetic-" + index, metaData)
+                .individual(individual.build())
+                .addPhenotypicFeatures(phenotypicFeatures(random));
+
+        for (int i = 0; i < interpretations; i++) {
+            OntologyClass disease = pick(Vocabulary.DISEASES, random);
+            builder.addDisease(DiseaseBuilder.of(disease));
+            builder.addInterpretation(interpretation(subjectId, "interpretation-" + index + '-' + i, disease, random));
+        }
+
+        for (int i = 0; i < biosamples; i++) {
+            builder.addBiosample(BiosampleBuilder.builder("biosample-" + index + '-' + i)
+                    .individualId(subjectId)
+                    .sampledTissue(pick(Vocabulary.TISSUES, random))
+                    .description("Synthetic biosample")
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private List<PhenotypicFeature> phenotypicFeatures(SplittableRandom random) {
+        int count = random.nextInt(minFeatures, maxFeatures + 1);
+        // Partial Fisher-Yates shuffle to pick `count` distinct terms.
+        int[] terms = IntStream.range(0, Vocabulary.PHENOTYPES.size()).toArray();
+        PhenotypicFeature[] features = new PhenotypicFeature[count];
+        for (int i = 0; i < count; i++) {
+            int j = random.nextInt(i, terms.length);
+            int term = terms[j];
+            terms[j] = terms[i];
+            terms[i] = term;
+
+            PhenotypicFeatureBuilder feature = PhenotypicFeatureBuilder.builder(Vocabulary.PHENOTYPES.get(term));
+            if (random.nextDouble() < excludedRatio)
+                feature.excluded();
+            else
+                feature.severity(pick(Vocabulary.SEVERITIES, random))
+                        .onset(TimeElements.age("P%dY".formatted(random.nextInt(1, 20))));
+            features[i] = feature.build();
+        }
+        return List.of(features);
+    }
+
+    private static Interpretation interpretation(String subjectId,
+                                                 String id,
+                                                 OntologyClass disease,
+                                                 SplittableRandom random) {
+        String[] gene = pick(Vocabulary.GENES, random);
+        GeneDescriptor geneDescriptor = GeneDescriptorBuilder.of(gene[0], gene[1]);
+        VariationDescriptor variant = VariationDescriptorBuilder.builder(id + "-variant")
+                .geneContext(geneDescriptor)
+                .vcfHg38("chr" + random.nextInt(1, 23), random.nextInt(1, 100_000_000), "A", "G")
+                .heterozygous()
+                .build();
+        GenomicInterpretation genomicInterpretation = GenomicInterpretationBuilder.builder(subjectId)
+                .causative()
+                .variantInterpretation(VariantInterpretationBuilder.builder(variant)
+                        .pathogenic()
+                        .notActionable()
+                        .build())
+                .build();
+        Diagnosis diagnosis = DiagnosisBuilder.builder(disease)
+                .addGenomicInterpretation(genomicInterpretation)
+                .build();
+        return InterpretationBuilder.builder(id)
+                .summary("Synthetic interpretation")
+                .solved(diagnosis);
+    }
+
+    private static Phenopacket inject(Phenopacket phenopacket, InjectedError error) {
+        Phenopacket.Builder builder = phenopacket.toBuilder();
+        switch (error) {
+            case MISSING_ID -> builder.clearId();
+            case MISSING_SUBJECT_ID -> builder.getSubjectBuilder().clearId();
+            case MISSING_METADATA -> builder.clearMetaData();
+            case EMPTY_LABEL -> builder.addPhenotypicFeatures(PhenotypicFeatureBuilder.of("HP:0001166", ""));
+            case UNKNOWN_RESOURCE -> builder.addPhenotypicFeatures(PhenotypicFeatureBuilder.of("XYZ:0000001", "Unknown term"));
+        }
+        return builder.build();
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * A builder for {@link SyntheticDataGenerator}.
+     */
+    public static class Builder {
+
+        private long seed = 0L;
+        private int minFeatures = 1;
+        private int maxFeatures = 10;
+        private double excludedRatio = .1;
+        private int interpretations = 1;
+        private int biosamples = 0;
+        private double errorRate = 0.;
+
+        private Builder() {
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Set the inclusive range of the number of phenotypic features per phenopacket.
+         */
+        public Builder featureCount(int min, int max) {
+            if (min < 0 || min > max)
+                throw new IllegalArgumentException("Invalid feature count range [%d, %d]".formatted(min, max));
+            if (max > Vocabulary.PHENOTYPES.size())
+                throw new IllegalArgumentException("At most %d features can be generated but got %d".formatted(Vocabulary.PHENOTYPES.size(), max));
+            this.minFeatures = min;
+            this.maxFeatures = max;
+            return this;
+        }
+
+        /**
+         * Set the probability that a phenotypic feature is excluded.
+         */
+        public Builder excludedRatio(double excludedRatio) {
+            this.excludedRatio = checkProbability(excludedRatio);
+            return this;
+        }
+
+        /**
+         * Set the number of interpretations (and diseases) per phenopacket.
+         */
+        public Builder interpretations(int interpretations) {
+            this.interpretations = checkNonNegative(interpretations);
+            return this;
+        }
+
+        /**
+         * Set the number of biosamples per phenopacket.
+         */
+        public Builder biosamples(int biosamples) {
+            this.biosamples = checkNonNegative(biosamples);
+            return this;
+        }
+
+        /**
+         * Set the probability that a phenopacket is corrupted by an {@link InjectedError}.
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = checkProbability(errorRate);
+            return this;
+        }
+
+        public SyntheticDataGenerator build() {
+            return new SyntheticDataGenerator(this);
+        }
+
+        private static double checkProbability(double value) {
+            if (value < 0. || value > 1.)
+                throw new IllegalArgumentException("Expected a value in [0, 1] but got " + value);
+            return value;
+        }
+
+        private static int checkNonNegative(int value) {
+            if (value < 0)
+                throw new IllegalArgumentException("Expected a non-negative value but got " + value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.phenopackets.phenopackettools.test.synthetic;
+
+import org.phenopackets.phenopackettools.builder.constants.Organ;
+import org.phenopackets.phenopackettools.builder.constants.Severity;
+import org.phenopackets.schema.v2.core.OntologyClass;
+
+import java.util.List;
+
+import static org.phenopackets.phenopackettools.builder.builders.OntologyClassBuilder.ontologyClass;
+
+/**
+ * Terms used to populate the synthetic phenopackets.
+ */
+class Vocabulary {
+
+    static final List<OntologyClass> PHENOTYPES = List.of(
+            ontologyClass("HP:0001250", "Seizure"),
+            ontologyClass("HP:0001263", "Global developmental delay"),
+            ontologyClass("HP:0001249", "Intellectual disability"),
+            ontologyClass("HP:0000252", "Microcephaly"),
+            ontologyClass("HP:0000256", "Macrocephaly"),
+            ontologyClass("HP:0001252", "Hypotonia"),
+            ontologyClass("HP:0001257", "Spasticity"),
+            ontologyClass("HP:0002119", "Ventriculomegaly"),
+            ontologyClass("HP:0000486", "Strabismus"),
+            ontologyClass("HP:0000505", "Visual impairment"),
+            ontologyClass("HP:0000365", "Hearing impairment"),
+            ontologyClass("HP:0000316", "Hypertelorism"),
+            ontologyClass("HP:0000175", "Cleft palate"),
+            ontologyClass("HP:0001631", "Atrial septal defect"),
+            ontologyClass("HP:0001629", "Ventricular septal defect"),
+            ontologyClass("HP:0001627", "Abnormal heart morphology"),
+            ontologyClass("HP:0000083", "Renal insufficiency"),
+            ontologyClass("HP:0000107", "Renal cyst"),
+            ontologyClass("HP:0001508", "Failure to thrive"),
+            ontologyClass("HP:0004322", "Short stature"),
+            ontologyClass("HP:0001166", "Arachnodactyly"),
+            ontologyClass("HP:0001159", "Syndactyly"),
+            ontologyClass("HP:0001161", "Hand polydactyly"),
+            ontologyClass("HP:0002650", "Scoliosis"),
+            ontologyClass("HP:0001382", "Joint hypermobility"),
+            ontologyClass("HP:0000964", "Eczema"),
+            ontologyClass("HP:0001000", "Abnormality of skin pigmentation"),
+            ontologyClass("HP:0002240", "Hepatomegaly"),
+            ontologyClass("HP:0001744", "Splenomegaly"),
+            ontologyClass("HP:0001903", "Anemia"),
+            ontologyClass("HP:0001873", "Thrombocytopenia"),
+            ontologyClass("HP:0002090", "Pneumonia")
+    );
+
+    static final List<OntologyClass> DISEASES = List.of(
+            ontologyClass("OMIM:154700", "Marfan syndrome"),
+            ontologyClass("OMIM:219700", "Cystic fibrosis"),
+            ontologyClass("OMIM:300624", "Fragile X syndrome"),
+            ontologyClass("OMIM:312750", "Rett syndrome"),
+            ontologyClass("OMIM:162200", "Neurofibromatosis, type 1"),
+            ontologyClass("OMIM:176270", "Prader-Willi syndrome"),
+            ontologyClass("OMIM:105830", "Angelman syndrome"),
+            ontologyClass("OMIM:173900", "Polycystic kidney disease 1")
+    );
+
+    /**
+     * HGNC gene IDs and symbols.
+     */
+    static final List<String[]> GENES = List.of(
+            new String[]{"HGNC:3603", "FBN1"},
+            new String[]{"HGNC:1884", "CFTR"},
+            new String[]{"HGNC:3775", "FMR1"},
+            new String[]{"HGNC:6990", "MECP2"},
+            new String[]{"HGNC:7765", "NF1"},
+            new String[]{"HGNC:11164", "SNRPN"},
+            new String[]{"HGNC:12496", "UBE3A"},
+            new String[]{"HGNC:9008", "PKD1"}
+    );
+
+    static final List<OntologyClass> SEVERITIES = List.of(
+            Severity.mild(),
+            Severity.moderate(),
+            Severity.severe()
+    );
+
+    static final List<OntologyClass> TISSUES = List.of(
+            Organ.brain(),
+            Organ.heart(),
+            Organ.eye(),
+            Organ.ear()
+    );
+
+    private Vocabulary() {
+        // static constants class
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * A package with {@link org.phenopackets.phenopackettools.test.synthetic.SyntheticDataGenerator} for generating
+ * synthetic phenopackets and cohorts of arbitrary size.
+ */
+package org.phenopackets.phenopackettools.test.synthetic;
@@ -0,0 +1,88 @@
+package org.phenopackets.phenopackettools.test.synthetic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.core.PhenotypicFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generationIsDeterministic() {
+        SyntheticDataGenerator first = SyntheticDataGenerator.builder().seed(42).build();
+        SyntheticDataGenerator second = SyntheticDataGenerator.builder().seed(42).build();
+        SyntheticDataGenerator other = SyntheticDataGenerator.builder().seed(43).build();
+
+        assertThat(first.phenopackets(20).toList(), equalTo(second.phenopackets(20).toList()));
+        // The phenopackets do not depend on the generation order.
+        assertThat(first.phenopacket(17), equalTo(second.phenopackets(20).toList().get(17)));
+        assertThat(first.phenopackets(20).toList(), not(equalTo(other.phenopackets(20).toList())));
+    }
+
+    @Test
+    public void generatorRespectsConfiguration() {
+        SyntheticDataGenerator generator = SyntheticDataGenerator.builder()
+                .seed(1)
+                .featureCount(3, 5)
+                .excludedRatio(1.)
+                .interpretations(2)
+                .biosamples(3)
+                .build();
+
+        Cohort cohort = generator.cohort("cohort", 50);
+
+        assertThat(cohort.getId(), equalTo("cohort"));
+        assertThat(cohort.getMembersCount(), equalTo(50));
+        for (Phenopacket member : cohort.getMembersList()) {
+            assertThat(member.getPhenotypicFeaturesCount(), is(both(greaterThanOrEqualTo(3)).and(lessThanOrEqualTo(5))));
+            assertThat(member.getPhenotypicFeaturesList().stream().allMatch(PhenotypicFeature::getExcluded), is(true));
+            assertThat(member.getInterpretationsCount(), equalTo(2));
+            assertThat(member.getDiseasesCount(), equalTo(2));
+            assertThat(member.getBiosamplesCount(), equalTo(3));
+        }
+    }
+
+    @Test
+    public void errorsAreInjectedIntoReportedPhenopackets() {
+        SyntheticDataGenerator clean = SyntheticDataGenerator.builder().seed(7).build();
+        SyntheticDataGenerator corrupted = SyntheticDataGenerator.builder().seed(7).errorRate(.5).build();
+
+        int injected = 0;
+        for (int i = 0; i < 100; i++) {
+            Optional<InjectedError> error = corrupted.injectedError(i);
+            assertThat(clean.injectedError(i).isEmpty(), is(true));
+            assertThat(corrupted.phenopacket(i).equals(clean.phenopacket(i)), is(error.isEmpty()));
+            if (error.isPresent())
+                injected++;
+        }
+
+        assertThat(injected, is(both(greaterThan(25)).and(lessThan(75))));
+    }
+
+    @Test
+    public void writePhenopackets(@TempDir Path directory) throws IOException {
+        SyntheticDataGenerator generator = SyntheticDataGenerator.builder().seed(3).build();
+
+        generator.writePhenopackets(5, directory, PhenopacketFormat.PROTOBUF, (message, os) -> message.writeTo(os));
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(p -> p.getFileName().toString()).sorted().toList(),
+                    equalTo(List.of("synthetic-0.pb", "synthetic-1.pb", "synthetic-2.pb", "synthetic-3.pb", "synthetic-4.pb")));
+        }
+        try (InputStream is = Files.newInputStream(directory.resolve("synthetic-3.pb"))) {
+            assertThat(Phenopacket.parseFrom(is), equalTo(generator.phenopacket(3)));
+        }
+    }
+}
@@ -7,7 +7,9 @@ module org.phenopackets.phenopackettools.util {
     // The `print` package exposes `JsonFormat.Printer`, hence the transitive export.
     requires transitive com.google.protobuf.util;
     requires org.phenopackets.schema;
+    requires jdk.jfr;
 
+    exports org.phenopackets.phenopackettools.util.concurrent;
     exports org.phenopackets.phenopackettools.util.format;
     exports org.phenopackets.phenopackettools.util.print;
 }
\ No newline at end of file
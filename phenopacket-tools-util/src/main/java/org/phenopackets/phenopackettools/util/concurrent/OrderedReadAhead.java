@@ -0,0 +1,118 @@
+package org.phenopackets.phenopackettools.util.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Applies a task to the items of a source on an {@link Executor} while at most {@code readAhead} tasks are in flight,
+ * and produces the task results in the order of the items.
+ * <p>
+ * The source is consumed lazily on the thread that consumes the results, hence the source does not need
+ * to be thread-safe. A failure of a task is rethrown, without the {@link CompletionException} wrapper,
+ * when the consumer reaches the result of the task.
+ */
+public class OrderedReadAhead {
+
+    private OrderedReadAhead() {
+        // static utility class
+    }
+
+    /**
+     * @return a lazy stream of the task results in the order of the {@code source} items. Closing the stream
+     * cancels the tasks that are in flight.
+     * @throws IllegalArgumentException if {@code readAhead} is not positive
+     */
+    public static <S, T> Stream<T> inOrder(Iterator<? extends S> source,
+                                           Function<? super S, ? extends T> task,
+                                           int readAhead,
+                                           Executor executor) {
+        if (readAhead < 1)
+            throw new IllegalArgumentException("Read-ahead must be positive but was " + readAhead);
+        OrderedResults<S, T> results = new OrderedResults<>(Objects.requireNonNull(source),
+                Objects.requireNonNull(task),
+                readAhead,
+                Objects.requireNonNull(executor));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(results::cancel);
+    }
+
+    /**
+     * An iterator over the task results that keeps up to {@link #readAhead} tasks in flight.
+     */
+    private static class OrderedResults<S, T> implements Iterator<T> {
+
+        private final Iterator<? extends S> source;
+        private final Function<? super S, ? extends T> task;
+        private final int readAhead;
+        private final Executor executor;
+        private final Deque<CompletableFuture<T>> inFlight;
+        private boolean cancelled = false;
+
+        private OrderedResults(Iterator<? extends S> source,
+                               Function<? super S, ? extends T> task,
+                               int readAhead,
+                               Executor executor) {
+            this.source = source;
+            this.task = task;
+            this.readAhead = readAhead;
+            this.executor = executor;
+            this.inFlight = new ArrayDeque<>(readAhead);
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !inFlight.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            fill();
+            CompletableFuture<T> head = inFlight.poll();
+            if (head == null)
+                throw new NoSuchElementException();
+            T result = join(head);
+            // Keep the executor busy while the caller processes the result.
+            fill();
+            return result;
+        }
+
+        private void fill() {
+            while (!cancelled && inFlight.size() < readAhead && source.hasNext()) {
+                S item = source.next();
+                inFlight.add(CompletableFuture.supplyAsync(() -> task.apply(item), executor));
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            for (CompletableFuture<T> future : inFlight)
+                future.cancel(false);
+            inFlight.clear();
+        }
+
+        private static <T> T join(CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // Rethrow the original exception, e.g. `UncheckedIOException`.
+                if (e.getCause() instanceof RuntimeException re)
+                    throw re;
+                if (e.getCause() instanceof Error error)
+                    throw error;
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Defines utilities for processing items concurrently while keeping the order of the items.
+ */
+package org.phenopackets.phenopackettools.util.concurrent;
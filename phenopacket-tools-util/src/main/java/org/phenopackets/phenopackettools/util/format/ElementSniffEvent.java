@@ -0,0 +1,27 @@
+package org.phenopackets.phenopackettools.util.format;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event emitted by {@link ElementSniffer}.
+ */
+@Name("org.phenopackets.phenopackettools.ElementSniff")
+@Label("Element Sniff")
+@Description("Guessing the top-level element of the Phenopacket schema")
+@Category({"Phenopacket Tools", "Sniffing"})
+@StackTrace(false)
+class ElementSniffEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Element")
+    @Description("The sniffed element or null if the sniffing failed")
+    String element;
+
+    @Label("Size")
+    @Description("The number of sniffed bytes")
+    @DataAmount
+    long size;
+
+}
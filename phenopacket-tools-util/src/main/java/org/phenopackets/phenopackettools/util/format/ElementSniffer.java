@@ -113,6 +113,25 @@ public class ElementSniffer {
      */
     public static PhenopacketElement sniff(byte[] payload,
                                            PhenopacketFormat format) throws ElementSniffException {
+        ElementSniffEvent event = new ElementSniffEvent();
+        event.begin();
+
+        PhenopacketElement element = null;
+        try {
+            element = sniffElement(payload, format);
+            return element;
+        } finally {
+            if (event.shouldCommit()) {
+                event.format = format.name();
+                event.element = element == null ? null : element.name();
+                event.size = payload.length;
+                event.commit();
+            }
+        }
+    }
+
+    private static PhenopacketElement sniffElement(byte[] payload,
+                                                   PhenopacketFormat format) throws ElementSniffException {
         return switch (format) {
             case PROTOBUF -> sniffProtobuf(payload);
             case JSON -> sniffJson(payload);
@@ -0,0 +1,23 @@
+package org.phenopackets.phenopackettools.util.format;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event emitted by {@link FormatSniffer}.
+ */
+@Name("org.phenopackets.phenopackettools.FormatSniff")
+@Label("Format Sniff")
+@Description("Guessing the format of a top-level element")
+@Category({"Phenopacket Tools", "Sniffing"})
+@StackTrace(false)
+class FormatSniffEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Size")
+    @Description("The number of sniffed bytes")
+    @DataAmount
+    long size;
+
+}
@@ -27,6 +27,20 @@ public class FormatSniffer {
      * @return the sniffed {@link PhenopacketFormat}.
      */
     public static PhenopacketFormat sniff(byte[] payload) {
+        FormatSniffEvent event = new FormatSniffEvent();
+        event.begin();
+
+        PhenopacketFormat format = sniffFormat(payload);
+
+        if (event.shouldCommit()) {
+            event.format = format.name();
+            event.size = payload.length;
+            event.commit();
+        }
+        return format;
+    }
+
+    private static PhenopacketFormat sniffFormat(byte[] payload) {
         if (Util.looksLikeJson(payload)) {
             return PhenopacketFormat.JSON;
         } else if (Util.looksLikeYaml(payload)) {
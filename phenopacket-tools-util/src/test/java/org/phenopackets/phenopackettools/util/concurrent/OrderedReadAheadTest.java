@@ -0,0 +1,60 @@
+package org.phenopackets.phenopackettools.util.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrderedReadAheadTest {
+
+    @Test
+    public void resultsAreInOrderOfTheSource() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> items = IntStream.range(0, 100).boxed().toList();
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+
+            List<Integer> results;
+            try (Stream<Integer> stream = OrderedReadAhead.inOrder(items.iterator(), i -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    // Finish the later items first.
+                    Thread.sleep(100 - i % 5 * 20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return i * 2;
+            }, 5, executor)) {
+                results = stream.toList();
+            }
+
+            assertThat(results, equalTo(items.stream().map(i -> i * 2).toList()));
+            assertThat(maxInFlight.get(), lessThanOrEqualTo(5));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failureOfTaskIsRethrownWithoutWrapper() {
+        Stream<Integer> stream = OrderedReadAhead.inOrder(List.of(1, 2).iterator(), i -> {
+            if (i == 2)
+                throw new UncheckedIOException(new IOException("Unable to read " + i));
+            return i;
+        }, 2, Runnable::run);
+
+        assertThrows(UncheckedIOException.class, stream::toList);
+    }
+}
@@ -0,0 +1,44 @@
+package org.phenopackets.phenopackettools.util.format;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SniffEventsTest {
+
+    @Test
+    public void sniffingEmitsEvents(@TempDir Path dir) throws Exception {
+        byte[] payload = "{\"id\": \"A\", \"subject\": {}}".getBytes(StandardCharsets.UTF_8);
+        Path dump = dir.resolve("sniff.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.phenopackets.phenopackettools.FormatSniff").withThreshold(Duration.ZERO);
+            recording.enable("org.phenopackets.phenopackettools.ElementSniff").withThreshold(Duration.ZERO);
+            recording.start();
+
+            PhenopacketFormat format = FormatSniffer.sniff(payload);
+            ElementSniffer.sniff(payload, format);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<String> names = events.stream().map(e -> e.getEventType().getName()).toList();
+        assertThat(names, contains("org.phenopackets.phenopackettools.FormatSniff", "org.phenopackets.phenopackettools.ElementSniff"));
+        assertThat(events.get(0).getString("format"), equalTo("JSON"));
+        assertThat(events.get(1).getString("element"), equalTo("PHENOPACKET"));
+        assertThat(events.get(1).getLong("size"), equalTo((long) payload.length));
+    }
+}
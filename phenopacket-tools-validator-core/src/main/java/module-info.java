@@ -4,6 +4,7 @@
 module org.phenopackets.phenopackettools.validator.core {
 
     exports org.phenopackets.phenopackettools.validator.core;
+    exports org.phenopackets.phenopackettools.validator.core.cache;
     exports org.phenopackets.phenopackettools.validator.core.except;
     exports org.phenopackets.phenopackettools.validator.core.metadata;
     exports org.phenopackets.phenopackettools.validator.core.phenotype;
@@ -0,0 +1,89 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import com.google.protobuf.Message;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
+import org.phenopackets.phenopackettools.util.concurrent.OrderedReadAhead;
+import org.phenopackets.phenopackettools.util.format.ElementSniffException;
+import org.phenopackets.phenopackettools.util.format.ElementSniffer;
+import org.phenopackets.phenopackettools.util.format.FormatSniffer;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Static utility class with the logic of the batch validation of {@link ValidationWorkflowRunner}
+ * and {@link ValidationWorkflowDispatcher}.
+ * <p>
+ * The items are validated on an {@link Executor} while at most {@code concurrency} items are in flight.
+ * The results are produced in the order of the items. The source is consumed lazily on the thread that consumes
+ * the results, hence the source does not need to be thread-safe.
+ */
+class BatchValidation {
+
+    private static final String INPUT_CATEGORY = "input";
+
+    private BatchValidation() {
+        // static utility class
+    }
+
+    static <S> Stream<ValidationResults> validate(Iterator<? extends S> source,
+                                                  Function<? super S, ValidationResults> validation,
+                                                  int concurrency,
+                                                  Executor executor) {
+        if (concurrency < 1)
+            throw new IllegalArgumentException("Concurrency must be positive but was " + concurrency);
+        return OrderedReadAhead.inOrder(source, validation, concurrency, executor);
+    }
+
+    static byte[] readAllBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Validate a message of any top-level element with the appropriate runner of the {@code dispatcher}.
+     */
+    static ValidationResults dispatch(ValidationWorkflowDispatcher dispatcher, Message message) {
+        if (message instanceof Phenopacket phenopacket)
+            return dispatcher.validatePhenopacket(phenopacket);
+        else if (message instanceof Family family)
+            return dispatcher.validateFamily(family);
+        else if (message instanceof Cohort cohort)
+            return dispatcher.validateCohort(cohort);
+        else
+            throw new IllegalArgumentException("Unsupported top-level element " + message.getDescriptorForType().getFullName());
+    }
+
+    /**
+     * Sniff the top-level element of the {@code payload} and validate the payload with the appropriate runner
+     * of the {@code dispatcher}. An error is reported if the element cannot be sniffed.
+     */
+    static ValidationResults dispatch(ValidationWorkflowDispatcher dispatcher, byte[] payload) {
+        PhenopacketElement element;
+        try {
+            element = ElementSniffer.sniff(payload, FormatSniffer.sniff(payload));
+        } catch (ElementSniffException e) {
+            ValidatorInfo info = ValidatorInfo.inputValidator();
+            return ValidationResults.of(List.of(info),
+                    List.of(ValidationResult.error(info, INPUT_CATEGORY, "Unable to determine the top-level element: " + e.getMessage())));
+        }
+        return switch (element) {
+            case PHENOPACKET -> dispatcher.validatePhenopacket(payload);
+            case FAMILY -> dispatcher.validateFamily(payload);
+            case COHORT -> dispatcher.validateCohort(payload);
+        };
+    }
+}
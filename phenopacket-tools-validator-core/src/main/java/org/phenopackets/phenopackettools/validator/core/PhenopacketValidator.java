@@ -22,4 +22,23 @@ public interface PhenopacketValidator<T extends MessageOrBuilder> {
      */
     List<ValidationResult> validate(T component);
 
+    /**
+     * Validate the {@link ValidationContext#component()} and summarize the results into a {@link List}
+     * of {@link ValidationResult}s.
+     * <p>
+     * The validators that can reuse the data cached in the {@code context}, such as parsed term IDs,
+     * should override the method. By default, the {@link ValidationContext#component()} is validated
+     * with {@link #validate(MessageOrBuilder)}.
+     */
+    default List<ValidationResult> validate(ValidationContext<T> context) {
+        return validate(context.component());
+    }
+
+    /**
+     * @return a coarse estimate of the cost of running the validator.
+     */
+    default ValidatorCost cost() {
+        return ValidatorCost.MEDIUM;
+    }
+
 }
@@ -0,0 +1,101 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import com.google.protobuf.MessageOrBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * {@link ValidationWorkflowRunner} that delegates to a replaceable runner, e.g. to pick up a new HPO release
+ * or updated custom JSON schemas in a long-running process without downtime.
+ * <p>
+ * The delegate is swapped atomically. Each validation reads the current delegate exactly once,
+ * hence the in-flight validations finish on the old runner and the new validations see the new runner.
+ * The validation does not involve any locking.
+ * <p>
+ * Use {@link #current()} to get a consistent snapshot if {@link #validators()} must match the validation results
+ * while a reload may be in progress.
+ *
+ * @param <T> type of the top-level element of the Phenopacket Schema.
+ */
+public class ReloadableValidationWorkflowRunner<T extends MessageOrBuilder> implements ValidationWorkflowRunner<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReloadableValidationWorkflowRunner.class);
+
+    private final AtomicReference<ValidationWorkflowRunner<T>> delegate;
+
+    public static <T extends MessageOrBuilder> ReloadableValidationWorkflowRunner<T> of(ValidationWorkflowRunner<T> runner) {
+        return new ReloadableValidationWorkflowRunner<>(runner);
+    }
+
+    private ReloadableValidationWorkflowRunner(ValidationWorkflowRunner<T> runner) {
+        this.delegate = new AtomicReference<>(Objects.requireNonNull(runner));
+    }
+
+    /**
+     * @return the runner that is currently used for validation.
+     */
+    public ValidationWorkflowRunner<T> current() {
+        return delegate.get();
+    }
+
+    /**
+     * Replace the current runner with the provided {@code runner}.
+     *
+     * @return the replaced runner.
+     */
+    public ValidationWorkflowRunner<T> swap(ValidationWorkflowRunner<T> runner) {
+        return delegate.getAndSet(Objects.requireNonNull(runner));
+    }
+
+    /**
+     * Build a new runner using the {@code factory} on the {@code executor} and swap the current runner
+     * once the new runner is ready. The current runner is kept if the {@code factory} fails.
+     *
+     * @return a future that completes with the new runner, or exceptionally if the {@code factory} fails.
+     */
+    public CompletableFuture<ValidationWorkflowRunner<T>> reload(Supplier<? extends ValidationWorkflowRunner<T>> factory,
+                                                                 Executor executor) {
+        return CompletableFuture.<ValidationWorkflowRunner<T>>supplyAsync(factory::get, executor)
+                .thenApply(runner -> {
+                    swap(runner);
+                    LOGGER.debug("Swapped the validation workflow runner");
+                    return runner;
+                })
+                .whenComplete((runner, e) -> {
+                    if (e != null)
+                        LOGGER.warn("Reload failed, keeping the current runner: {}", e.getMessage(), e);
+                });
+    }
+
+    @Override
+    public List<ValidatorInfo> validators() {
+        return delegate.get().validators();
+    }
+
+    @Override
+    public ValidationPolicy policy() {
+        return delegate.get().policy();
+    }
+
+    @Override
+    public ValidationResults validate(byte[] payload) {
+        return delegate.get().validate(payload);
+    }
+
+    @Override
+    public ValidationResults validate(String value) {
+        return delegate.get().validate(value);
+    }
+
+    @Override
+    public ValidationResults validate(T item) {
+        return delegate.get().validate(item);
+    }
+}
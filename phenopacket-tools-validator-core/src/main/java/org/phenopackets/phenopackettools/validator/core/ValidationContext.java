@@ -0,0 +1,76 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * {@code ValidationContext} holds the data derived from a top-level element of Phenopacket Schema
+ * that can be shared by the validators during a single validation.
+ * <p>
+ * The context is created once per top-level element by the {@link ValidationWorkflowRunner} and it is provided
+ * to the {@link PhenopacketValidator}s that opt in by overriding {@link PhenopacketValidator#validate(ValidationContext)}.
+ * The derived data, such as the parsed phenotypic feature term IDs, are computed on first access and cached
+ * for the subsequent validators.
+ * <p>
+ * The context is not thread-safe and it must not outlive the validation.
+ *
+ * @param <T> type of the top-level element of the Phenopacket Schema.
+ */
+public interface ValidationContext<T extends MessageOrBuilder> {
+
+    /**
+     * Create a new {@link ValidationContext} for validating the {@code component}.
+     */
+    static <T extends MessageOrBuilder> ValidationContext<T> of(T component) {
+        return new ValidationContextDefault<>(component);
+    }
+
+    /**
+     * @return the validated top-level element.
+     */
+    T component();
+
+    /**
+     * @return the phenopackets of the {@link #component()}: the phenopacket itself, the family proband
+     * followed by the relatives, or the cohort members.
+     */
+    List<? extends PhenopacketOrBuilder> phenopackets();
+
+    /**
+     * Get the value stored under the {@code key} or compute the value using the {@code mapping} function
+     * if the value has not been computed yet.
+     */
+    <V> V computeIfAbsent(Key<V> key, Function<? super ValidationContext<T>, ? extends V> mapping);
+
+    /**
+     * A typed key of a value cached in the {@link ValidationContext}. The keys are compared by identity,
+     * hence they are usually kept in {@code static final} fields.
+     *
+     * @param <V> type of the value.
+     */
+    final class Key<V> {
+
+        private final String name;
+
+        private Key(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        public static <V> Key<V> of(String name) {
+            return new Key<>(name);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "Key{" + name + '}';
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.schema.v2.CohortOrBuilder;
+import org.phenopackets.schema.v2.FamilyOrBuilder;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+class ValidationContextDefault<T extends MessageOrBuilder> implements ValidationContext<T> {
+
+    private final T component;
+    private final Map<Key<?>, Object> values = new IdentityHashMap<>();
+    private List<? extends PhenopacketOrBuilder> phenopackets;
+
+    ValidationContextDefault(T component) {
+        this.component = Objects.requireNonNull(component);
+    }
+
+    @Override
+    public T component() {
+        return component;
+    }
+
+    @Override
+    public List<? extends PhenopacketOrBuilder> phenopackets() {
+        if (phenopackets == null)
+            phenopackets = extractPhenopackets(component);
+        return phenopackets;
+    }
+
+    private static List<? extends PhenopacketOrBuilder> extractPhenopackets(MessageOrBuilder component) {
+        if (component instanceof PhenopacketOrBuilder phenopacket) {
+            return List.of(phenopacket);
+        } else if (component instanceof FamilyOrBuilder family) {
+            List<PhenopacketOrBuilder> phenopackets = new ArrayList<>(family.getRelativesCount() + 1);
+            phenopackets.add(family.getProband());
+            phenopackets.addAll(family.getRelativesList());
+            return List.copyOf(phenopackets);
+        } else if (component instanceof CohortOrBuilder cohort) {
+            return cohort.getMembersList();
+        } else {
+            return List.of();
+        }
+    }
+
+    @Override
+    public <V> V computeIfAbsent(Key<V> key, Function<? super ValidationContext<T>, ? extends V> mapping) {
+        Object value = values.get(key);
+        if (value == null) {
+            value = Objects.requireNonNull(mapping.apply(this));
+            values.put(key, value);
+        }
+        //noinspection unchecked
+        return (V) value;
+    }
+}
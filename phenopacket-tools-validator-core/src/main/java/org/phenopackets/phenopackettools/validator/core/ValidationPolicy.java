@@ -0,0 +1,67 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+/**
+ * {@code ValidationPolicy} decides when a {@link ValidationWorkflowRunner} can stop the validation
+ * before running all validators.
+ * <p>
+ * Stopping early is useful when the caller only needs to know if the top-level element is valid.
+ * When the policy allows stopping early, the runner runs the cheap validators first
+ * (see {@link PhenopacketValidator#cost()}) and reports the validators that were not run
+ * in {@link ValidationResults#skippedValidators()}.
+ *
+ * @param stopAtFirstError         stop the validation after the first {@link ValidationLevel#ERROR}.
+ * @param maxResults               stop the validation after reporting this number of {@link ValidationResult}s.
+ * @param skipSemanticOnBaseErrors skip the validators added to the workflow if the base validation
+ *                                 found an {@link ValidationLevel#ERROR}.
+ */
+public record ValidationPolicy(boolean stopAtFirstError,
+                               int maxResults,
+                               boolean skipSemanticOnBaseErrors) {
+
+    private static final ValidationPolicy EXHAUSTIVE = new ValidationPolicy(false, Integer.MAX_VALUE, false);
+    private static final ValidationPolicy FAIL_FAST = new ValidationPolicy(true, Integer.MAX_VALUE, true);
+    private static final ValidationPolicy SKIP_SEMANTIC_ON_BASE_ERRORS = new ValidationPolicy(false, Integer.MAX_VALUE, true);
+
+    public ValidationPolicy {
+        if (maxResults < 1)
+            throw new IllegalArgumentException("Max results must be positive but was " + maxResults);
+    }
+
+    /**
+     * @return policy for running all validators and reporting all results. This is the default policy.
+     */
+    public static ValidationPolicy exhaustive() {
+        return EXHAUSTIVE;
+    }
+
+    /**
+     * @return policy for stopping the validation after the first {@link ValidationLevel#ERROR}.
+     */
+    public static ValidationPolicy failFast() {
+        return FAIL_FAST;
+    }
+
+    /**
+     * @param maxResults the maximum number of results to report.
+     * @return policy for stopping the validation after reporting {@code maxResults} {@link ValidationResult}s.
+     */
+    public static ValidationPolicy errorBudget(int maxResults) {
+        return new ValidationPolicy(false, maxResults, false);
+    }
+
+    /**
+     * @return policy for skipping the validators added to the workflow
+     * if the base validation found an {@link ValidationLevel#ERROR}.
+     */
+    public static ValidationPolicy skipSemanticOnSyntaxErrors() {
+        return SKIP_SEMANTIC_ON_BASE_ERRORS;
+    }
+
+    /**
+     * @return {@code true} if the policy requires running all validators.
+     */
+    public boolean isExhaustive() {
+        return !stopAtFirstError && maxResults == Integer.MAX_VALUE && !skipSemanticOnBaseErrors;
+    }
+
+}
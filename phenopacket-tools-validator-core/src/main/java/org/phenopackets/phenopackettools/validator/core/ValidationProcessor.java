@@ -0,0 +1,285 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Processor} that validates the received items and publishes the {@link ValidationResults}
+ * in the order of the items.
+ * <p>
+ * The processor is driven by the demand of the downstream subscriber. The items are requested from the upstream
+ * publisher only if the downstream requested the results, and at most {@code maxInFlight} items are being validated
+ * or waiting for delivery at any time. Therefore, the processor never buffers more than {@code maxInFlight} items.
+ * The validations run on the provided {@link Executor}.
+ * <p>
+ * The processor supports a single subscriber. An exception thrown by the validation is signalled downstream
+ * by {@link Flow.Subscriber#onError(Throwable)} and the upstream subscription is cancelled.
+ *
+ * @param <I> type of the validated items.
+ */
+public final class ValidationProcessor<I> implements Flow.Processor<I, ValidationResults> {
+
+    private final Function<? super I, ValidationResults> validation;
+    private final int maxInFlight;
+    private final Executor executor;
+
+    // The items that are being validated or that wait for the delivery, in the order of arrival.
+    private final Queue<CompletableFuture<ValidationResults>> pending = new ConcurrentLinkedQueue<>();
+    // The downstream demand that has not been satisfied yet.
+    private final AtomicLong demand = new AtomicLong();
+    // The number of items requested from upstream that have not been delivered yet, i.e. the items that have not
+    // arrived yet and the `pending` items. The slots are reserved before requesting the items.
+    private final AtomicLong inFlight = new AtomicLong();
+    // Work-in-progress counter to serialize the `drain` loop.
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super ValidationResults> downstream;
+    private volatile boolean upstreamDone = false;
+    private volatile Throwable upstreamError = null;
+    private volatile boolean cancelled = false;
+    private volatile IllegalArgumentException invalidRequest = null;
+    private boolean terminated = false;
+
+    /**
+     * Create a processor for validating payloads in any of the
+     * {@link org.phenopackets.phenopackettools.core.PhenopacketFormat}s using the {@code runner}.
+     */
+    public static <T extends MessageOrBuilder> ValidationProcessor<byte[]> forPayloads(ValidationWorkflowRunner<T> runner,
+                                                                                      int maxInFlight,
+                                                                                      Executor executor) {
+        Objects.requireNonNull(runner);
+        return new ValidationProcessor<>(runner::validate, maxInFlight, executor);
+    }
+
+    /**
+     * Create a processor for validating the top-level elements using the {@code runner}.
+     */
+    public static <T extends MessageOrBuilder> ValidationProcessor<T> forItems(ValidationWorkflowRunner<T> runner,
+                                                                              int maxInFlight,
+                                                                              Executor executor) {
+        Objects.requireNonNull(runner);
+        return new ValidationProcessor<T>(runner::validate, maxInFlight, executor);
+    }
+
+    /**
+     * Create a processor for validating payloads with any top-level element using the {@code dispatcher}.
+     * The top-level element of each payload is sniffed.
+     */
+    public static ValidationProcessor<byte[]> forPayloads(ValidationWorkflowDispatcher dispatcher,
+                                                          int maxInFlight,
+                                                          Executor executor) {
+        Objects.requireNonNull(dispatcher);
+        return new ValidationProcessor<>(payload -> BatchValidation.dispatch(dispatcher, payload), maxInFlight, executor);
+    }
+
+    /**
+     * Create a processor for validating {@link org.phenopackets.schema.v2.Phenopacket}s,
+     * {@link org.phenopackets.schema.v2.Family}s, and {@link org.phenopackets.schema.v2.Cohort}s
+     * using the {@code dispatcher}.
+     */
+    public static ValidationProcessor<Message> forMessages(ValidationWorkflowDispatcher dispatcher,
+                                                           int maxInFlight,
+                                                           Executor executor) {
+        Objects.requireNonNull(dispatcher);
+        return new ValidationProcessor<>(message -> BatchValidation.dispatch(dispatcher, message), maxInFlight, executor);
+    }
+
+    private ValidationProcessor(Function<? super I, ValidationResults> validation, int maxInFlight, Executor executor) {
+        if (maxInFlight < 1)
+            throw new IllegalArgumentException("Max in-flight items must be positive but was " + maxInFlight);
+        this.validation = validation;
+        this.maxInFlight = maxInFlight;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidationResults> subscriber) {
+        Objects.requireNonNull(subscriber);
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(NoopSubscription.INSTANCE);
+                subscriber.onError(new IllegalStateException("The processor supports a single subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        if (cancelled)
+            subscription.cancel();
+        else
+            drain();
+    }
+
+    @Override
+    public void onNext(I item) {
+        Objects.requireNonNull(item);
+        CompletableFuture<ValidationResults> future = CompletableFuture.supplyAsync(() -> validation.apply(item), executor);
+        pending.add(future);
+        future.whenComplete((results, e) -> drain());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        upstreamError = Objects.requireNonNull(throwable);
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Deliver the validated results, request more items from upstream, and signal the termination.
+     * The loop is run by a single thread at a time.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+
+        int missed = 1;
+        while (true) {
+            Flow.Subscriber<? super ValidationResults> subscriber = downstream;
+            if (subscriber != null && !terminated) {
+                if (cancelled) {
+                    cancelPending();
+                } else if (invalidRequest != null) {
+                    terminate(subscriber, invalidRequest);
+                } else {
+                    deliver(subscriber);
+                    if (!terminated)
+                        requestMore();
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                return;
+        }
+    }
+
+    private void deliver(Flow.Subscriber<? super ValidationResults> subscriber) {
+        long emitted = 0;
+        long wanted = demand.get();
+        while (emitted < wanted) {
+            CompletableFuture<ValidationResults> head = pending.peek();
+            if (head == null || !head.isDone())
+                break;
+            pending.poll();
+            inFlight.decrementAndGet();
+
+            ValidationResults results;
+            try {
+                results = head.join();
+            } catch (CompletionException e) {
+                terminate(subscriber, e.getCause() == null ? e : e.getCause());
+                return;
+            }
+            subscriber.onNext(results);
+            emitted++;
+        }
+        if (emitted > 0 && wanted != Long.MAX_VALUE)
+            demand.addAndGet(-emitted);
+
+        if (upstreamDone && pending.isEmpty()) {
+            terminated = true;
+            Throwable error = upstreamError;
+            if (error == null)
+                subscriber.onComplete();
+            else
+                subscriber.onError(error);
+        }
+    }
+
+    private void requestMore() {
+        Flow.Subscription subscription = upstream;
+        if (subscription == null || upstreamDone)
+            return;
+        // Each in-flight item will satisfy one unit of the demand.
+        long want = Math.min(maxInFlight, demand.get()) - inFlight.get();
+        if (want > 0) {
+            inFlight.addAndGet(want);
+            subscription.request(want);
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super ValidationResults> subscriber, Throwable error) {
+        terminated = true;
+        Flow.Subscription subscription = upstream;
+        if (subscription != null)
+            subscription.cancel();
+        cancelPending();
+        subscriber.onError(error);
+    }
+
+    private void cancelPending() {
+        CompletableFuture<ValidationResults> future;
+        while ((future = pending.poll()) != null)
+            future.cancel(false);
+    }
+
+    private class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested a non-positive number of results: " + n);
+            } else {
+                demand.getAndUpdate(current -> {
+                    long updated = current + n;
+                    // Cap the demand at `Long.MAX_VALUE` on overflow.
+                    return updated < 0 ? Long.MAX_VALUE : updated;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null)
+                subscription.cancel();
+            drain();
+        }
+    }
+
+    private enum NoopSubscription implements Flow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.phenopackets.phenopackettools.validator.core;
 
+import java.util.Optional;
+
 /**
  * {@code ValidationResult} contains results of a single validation step performed by a {@link PhenopacketValidator}.
  */
@@ -30,7 +32,66 @@ public interface ValidationResult {
                                ValidationLevel level,
                                String category,
                                String message) {
-        return new ValidationResultDefault(validatorInfo, level, category, message);
+        return new ValidationResultDefault(validatorInfo, level, category, null, message, null);
+    }
+
+    /**
+     * Create a {@link ValidationLevel#WARNING} result with a message that is rendered from the {@code template}
+     * and the {@code arguments} when requested for the first time.
+     *
+     * @see #templated(ValidatorInfo, ValidationLevel, String, String, String, Object...)
+     */
+    static ValidationResult warning(ValidatorInfo validatorInfo,
+                                    String category,
+                                    String template,
+                                    Object... arguments) {
+        return templated(validatorInfo, ValidationLevel.WARNING, category, null, template, arguments);
+    }
+
+    /**
+     * Create a {@link ValidationLevel#ERROR} result with a message that is rendered from the {@code template}
+     * and the {@code arguments} when requested for the first time.
+     *
+     * @see #templated(ValidatorInfo, ValidationLevel, String, String, String, Object...)
+     */
+    static ValidationResult error(ValidatorInfo validatorInfo,
+                                  String category,
+                                  String template,
+                                  Object... arguments) {
+        return templated(validatorInfo, ValidationLevel.ERROR, category, null, template, arguments);
+    }
+
+    /**
+     * Create a {@code ValidationResult} with a message that is rendered from the {@code template}
+     * and the {@code arguments} by {@link String#formatted(Object...)} when {@link #message()} is called
+     * for the first time. Therefore, a caller that only counts the results or checks their categories does not pay
+     * for formatting the messages.
+     * <p>
+     * The arguments must not change after the result is created. An argument can defer an expensive lookup,
+     * such as a term label, to its {@link Object#toString()}.
+     *
+     * @param location a JSON pointer to the offending element, e.g. {@code /subject/id}, or {@code null} if not known.
+     */
+    static ValidationResult templated(ValidatorInfo validatorInfo,
+                                      ValidationLevel level,
+                                      String category,
+                                      String location,
+                                      String template,
+                                      Object... arguments) {
+        return new ValidationResultDefault(validatorInfo, level, category, location, template, arguments);
+    }
+
+    /**
+     * Create a {@code ValidationResult} that points to the offending element of the top-level element.
+     *
+     * @param location a JSON pointer to the offending element, e.g. {@code /subject/id}, or {@code null} if not known.
+     */
+    static ValidationResult of(ValidatorInfo validatorInfo,
+                               ValidationLevel level,
+                               String category,
+                               String message,
+                               String location) {
+        return new ValidationResultDefault(validatorInfo, level, category, location, message, null);
     }
 
     /**
@@ -53,4 +114,12 @@ public interface ValidationResult {
      */
     String message();
 
+    /**
+     * @return a JSON pointer (RFC 6901) to the offending element of the top-level element, e.g. {@code /subject/id},
+     * or an empty {@link Optional} if the location is not known.
+     */
+    default Optional<String> location() {
+        return Optional.empty();
+    }
+
 }
@@ -1,17 +1,100 @@
 package org.phenopackets.phenopackettools.validator.core;
 
+import java.util.Objects;
+import java.util.Optional;
+
 /**
- * {@link ValidationResult} backed by a record.
+ * The default {@link ValidationResult}. The message is rendered from a template and arguments when requested
+ * for the first time, and the rendered message is cached.
+ * <p>
+ * Two results are equal if they have the same validator info, level, category, location, and the rendered message.
  *
- * @param validatorInfo  Information about the validator used to create the error message
- * @param level          Error or Warning?
- * @param category       An error category
- * @param message        Specific error message
  * @author Peter N Robinson
  */
-record ValidationResultDefault(ValidatorInfo validatorInfo,
-                               ValidationLevel level,
-                               String category,
-                               String message) implements ValidationResult {
+final class ValidationResultDefault implements ValidationResult {
+
+    private final ValidatorInfo validatorInfo;
+    private final ValidationLevel level;
+    private final String category;
+    // JSON pointer to the offending element or `null` if not known.
+    private final String pointer;
+    private final String template;
+    // `null` if the template is the message.
+    private final Object[] arguments;
+    private volatile String message;
+
+    ValidationResultDefault(ValidatorInfo validatorInfo,
+                            ValidationLevel level,
+                            String category,
+                            String pointer,
+                            String template,
+                            Object[] arguments) {
+        this.validatorInfo = validatorInfo;
+        this.level = level;
+        this.category = category;
+        this.pointer = pointer;
+        this.template = template;
+        this.arguments = arguments;
+        if (arguments == null)
+            this.message = template;
+    }
+
+    @Override
+    public ValidatorInfo validatorInfo() {
+        return validatorInfo;
+    }
+
+    @Override
+    public ValidationLevel level() {
+        return level;
+    }
+
+    @Override
+    public String category() {
+        return category;
+    }
+
+    @Override
+    public String message() {
+        String rendered = message;
+        if (rendered == null) {
+            // Rendering is idempotent, we do not mind rendering the message twice in case of a race.
+            rendered = template.formatted(arguments);
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    @Override
+    public Optional<String> location() {
+        return Optional.ofNullable(pointer);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValidationResultDefault that = (ValidationResultDefault) o;
+        return Objects.equals(validatorInfo, that.validatorInfo)
+                && level == that.level
+                && Objects.equals(category, that.category)
+                && Objects.equals(pointer, that.pointer)
+                && Objects.equals(message(), that.message());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(validatorInfo, level, category, pointer, message());
+    }
 
+    @Override
+    public String toString() {
+        return "ValidationResultDefault[" +
+                "validatorInfo=" + validatorInfo +
+                ", level=" + level +
+                ", category=" + category +
+                ", message=" + message() +
+                ", location=" + pointer +
+                ']';
+    }
 }
@@ -15,9 +15,22 @@ public interface ValidationResults {
 
     static ValidationResults of(List<ValidatorInfo> validators,
                                 List<ValidationResult> validationResults) {
-        if (validators.isEmpty() && validationResults.isEmpty())
+        return of(validators, validationResults, List.of());
+    }
+
+    static ValidationResults of(List<ValidatorInfo> validators,
+                                List<ValidationResult> validationResults,
+                                List<ValidatorInfo> skippedValidators) {
+        return of(validators, validationResults, skippedValidators, List.of());
+    }
+
+    static ValidationResults of(List<ValidatorInfo> validators,
+                                List<ValidationResult> validationResults,
+                                List<ValidatorInfo> skippedValidators,
+                                List<ValidatorTiming> timings) {
+        if (validators.isEmpty() && validationResults.isEmpty() && skippedValidators.isEmpty() && timings.isEmpty())
             return empty();
-        return new ValidationResultsDefault(validators, validationResults);
+        return new ValidationResultsDefault(validators, validationResults, skippedValidators, timings);
     }
 
     static ValidationResults empty() {
@@ -38,6 +51,22 @@ public interface ValidationResults {
      */
     List<ValidationResult> validationResults();
 
+    /**
+     * @return a list of {@link ValidatorInfo} representing validators that were <em>not</em> applied
+     * to the top-level element, e.g. because the {@link ValidationPolicy} allowed the validation to stop early.
+     */
+    default List<ValidatorInfo> skippedValidators() {
+        return List.of();
+    }
+
+    /**
+     * @return a list of {@link ValidatorTiming}s of the validators applied to the top-level element
+     * or an empty list if the timings were not recorded.
+     */
+    default List<ValidatorTiming> timings() {
+        return List.of();
+    }
+
     /**
      * @return {@code true} if no issues have been found and the validated item is valid.
      */
@@ -52,6 +81,8 @@ public interface ValidationResults {
 
         private final List<ValidatorInfo> validators = new ArrayList<>();
         private final List<ValidationResult> validationResults = new ArrayList<>();
+        private final List<ValidatorInfo> skippedValidators = new ArrayList<>();
+        private final List<ValidatorTiming> timings = new ArrayList<>();
 
         private Builder(){
             // private no-op
@@ -69,8 +100,18 @@ public interface ValidationResults {
             return this;
         }
 
+        public Builder addSkippedValidator(ValidatorInfo info) {
+            this.skippedValidators.add(info);
+            return this;
+        }
+
+        public Builder addTiming(ValidatorTiming timing) {
+            this.timings.add(timing);
+            return this;
+        }
+
         public ValidationResults build() {
-            return ValidationResults.of(validators, validationResults);
+            return ValidationResults.of(validators, validationResults, skippedValidators, timings);
         }
 
     }
@@ -3,7 +3,9 @@ package org.phenopackets.phenopackettools.validator.core;
 import java.util.List;
 
 record ValidationResultsDefault(List<ValidatorInfo> validators,
-                                List<ValidationResult> validationResults) implements ValidationResults {
-    static ValidationResultsDefault EMPTY = new ValidationResultsDefault(List.of(), List.of());
+                                List<ValidationResult> validationResults,
+                                List<ValidatorInfo> skippedValidators,
+                                List<ValidatorTiming> timings) implements ValidationResults {
+    static ValidationResultsDefault EMPTY = new ValidationResultsDefault(List.of(), List.of(), List.of(), List.of());
 
 }
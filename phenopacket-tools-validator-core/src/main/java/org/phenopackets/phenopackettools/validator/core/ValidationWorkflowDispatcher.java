@@ -1,12 +1,21 @@
 package org.phenopackets.phenopackettools.validator.core;
 
+import com.google.protobuf.Message;
 import org.phenopackets.schema.v2.Cohort;
 import org.phenopackets.schema.v2.Family;
 import org.phenopackets.schema.v2.Phenopacket;
 
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
 /**
  * {@link ValidationWorkflowDispatcher} exposes endpoints for validating top-level elements of Phenopacket Schema
  * and dispatches the data into the appropriate {@link ValidationWorkflowRunner}.
+ * <p>
+ * The {@code validateAll*} methods validate a batch of mixed top-level elements in parallel
+ * with the same semantics as {@link ValidationWorkflowRunner#validateAll(Iterable, int)}.
  */
 public interface ValidationWorkflowDispatcher {
 
@@ -97,4 +106,75 @@ public interface ValidationWorkflowDispatcher {
      */
     ValidationResults validateCohort(Cohort cohort);
 
+    /**
+     * Validate a batch of {@link Phenopacket}s, {@link Family}s, and {@link Cohort}s in parallel
+     * on the {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * An {@link IllegalArgumentException} is thrown when consuming the result of a message
+     * that is not a top-level element.
+     *
+     * @param items       the top-level elements to validate.
+     * @param concurrency the maximum number of items being validated at the same time.
+     * @return a stream of the validation results in the order of the {@code items}.
+     */
+    default Stream<ValidationResults> validateAll(Iterable<? extends Message> items, int concurrency) {
+        return validateAll(items, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate a batch of {@link Phenopacket}s, {@link Family}s, and {@link Cohort}s in parallel on the {@code executor}.
+     *
+     * @see #validateAll(Iterable, int)
+     */
+    default Stream<ValidationResults> validateAll(Iterable<? extends Message> items, int concurrency, Executor executor) {
+        return BatchValidation.<Message>validate(items.iterator(), item -> BatchValidation.dispatch(this, item), concurrency, executor);
+    }
+
+    /**
+     * Validate a batch of payloads with any top-level element in parallel on the {@link ForkJoinPool#commonPool()}.
+     * The top-level element of each payload is sniffed, and an error is reported
+     * if the element cannot be determined.
+     *
+     * @param payloads    top-level elements in any of the {@link org.phenopackets.phenopackettools.core.PhenopacketFormat}s.
+     * @param concurrency the maximum number of payloads being validated at the same time.
+     * @return a stream of the validation results in the order of the {@code payloads}.
+     */
+    default Stream<ValidationResults> validateAllPayloads(Stream<byte[]> payloads, int concurrency) {
+        return validateAllPayloads(payloads, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate a batch of payloads with any top-level element in parallel on the {@code executor}.
+     *
+     * @see #validateAllPayloads(Stream, int)
+     */
+    default Stream<ValidationResults> validateAllPayloads(Stream<byte[]> payloads, int concurrency, Executor executor) {
+        return BatchValidation.<byte[]>validate(payloads.iterator(), payload -> BatchValidation.dispatch(this, payload), concurrency, executor)
+                .onClose(payloads::close);
+    }
+
+    /**
+     * Validate a batch of files with any top-level element in parallel on the {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * An {@link java.io.UncheckedIOException} is thrown when consuming the result of a file that cannot be read.
+     *
+     * @see #validateAllPayloads(Stream, int)
+     */
+    default Stream<ValidationResults> validateAllPaths(Stream<Path> paths, int concurrency) {
+        return validateAllPaths(paths, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate a batch of files with any top-level element in parallel on the {@code executor}.
+     *
+     * @see #validateAllPaths(Stream, int)
+     */
+    default Stream<ValidationResults> validateAllPaths(Stream<Path> paths, int concurrency, Executor executor) {
+        return BatchValidation.<Path>validate(paths.iterator(),
+                        path -> BatchValidation.dispatch(this, BatchValidation.readAllBytes(path)),
+                        concurrency,
+                        executor)
+                .onClose(paths::close);
+    }
+
 }
@@ -6,6 +6,9 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * {@link ValidationWorkflowRunner} validates selected top-level element of the Phenopacket Schema.
@@ -26,6 +29,10 @@ import java.util.List;
  * The <em>semantic</em> validation checks for presence of errors in the context of the entire top-level element
  * (e.g. a phenopacket contains an HPO term but an HPO {@link org.phenopackets.schema.v2.core.Resource} is missing
  * in {@link org.phenopackets.schema.v2.core.MetaData}).
+ * <p>
+ * The {@code validateAll*} methods validate a batch of inputs in parallel, with at most {@code concurrency} inputs
+ * being validated at the same time. The results are returned as a lazy {@link Stream} in the order of the inputs.
+ * The inputs are consumed only as the results are consumed. Closing the stream cancels the pending validations.
  *
  * @param <T> type of the top-level element of the Phenopacket Schema.
  */
@@ -37,6 +44,13 @@ public interface ValidationWorkflowRunner<T extends MessageOrBuilder> {
      */
     List<ValidatorInfo> validators();
 
+    /**
+     * @return the policy for stopping the validation early. The runners run all validators by default.
+     */
+    default ValidationPolicy policy() {
+        return ValidationPolicy.exhaustive();
+    }
+
     /**
      * Validate a top-level element starting from a pile of bytes.
      *
@@ -52,7 +66,6 @@ public interface ValidationWorkflowRunner<T extends MessageOrBuilder> {
      *              or {@link org.phenopackets.phenopackettools.core.PhenopacketFormat#YAML}.
      * @return the validation results.
      */
-    // TODO - include YAML validation.
     ValidationResults validate(String value);
 
     /**
@@ -72,4 +85,93 @@ public interface ValidationWorkflowRunner<T extends MessageOrBuilder> {
             return validate(is);
         }
     }
+
+    /**
+     * Validate the {@code items} in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param items       the top-level elements to validate.
+     * @param concurrency the maximum number of items being validated at the same time.
+     * @return a stream of the validation results in the order of the {@code items}.
+     */
+    default Stream<ValidationResults> validateAll(Iterable<? extends T> items, int concurrency) {
+        return validateAll(items, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate the {@code items} in parallel on the {@code executor}.
+     *
+     * @param items       the top-level elements to validate.
+     * @param concurrency the maximum number of items being validated at the same time.
+     * @param executor    the executor for running the validations.
+     * @return a stream of the validation results in the order of the {@code items}.
+     */
+    default Stream<ValidationResults> validateAll(Iterable<? extends T> items, int concurrency, Executor executor) {
+        return BatchValidation.<T>validate(items.iterator(), this::validate, concurrency, executor);
+    }
+
+    /**
+     * Validate the {@code items} in parallel on the {@link ForkJoinPool#commonPool()}.
+     * The {@code items} stream is closed when the returned stream is closed.
+     *
+     * @see #validateAll(Iterable, int)
+     */
+    default Stream<ValidationResults> validateAll(Stream<? extends T> items, int concurrency) {
+        return validateAll(items, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate the {@code items} in parallel on the {@code executor}.
+     * The {@code items} stream is closed when the returned stream is closed.
+     *
+     * @see #validateAll(Iterable, int, Executor)
+     */
+    default Stream<ValidationResults> validateAll(Stream<? extends T> items, int concurrency, Executor executor) {
+        return BatchValidation.<T>validate(items.iterator(), this::validate, concurrency, executor)
+                .onClose(items::close);
+    }
+
+    /**
+     * Validate the {@code payloads} in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param payloads    top-level elements in any of the {@link org.phenopackets.phenopackettools.core.PhenopacketFormat}s.
+     * @param concurrency the maximum number of payloads being validated at the same time.
+     * @return a stream of the validation results in the order of the {@code payloads}.
+     */
+    default Stream<ValidationResults> validateAllPayloads(Stream<byte[]> payloads, int concurrency) {
+        return validateAllPayloads(payloads, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate the {@code payloads} in parallel on the {@code executor}.
+     *
+     * @see #validateAllPayloads(Stream, int)
+     */
+    default Stream<ValidationResults> validateAllPayloads(Stream<byte[]> payloads, int concurrency, Executor executor) {
+        return BatchValidation.<byte[]>validate(payloads.iterator(), this::validate, concurrency, executor)
+                .onClose(payloads::close);
+    }
+
+    /**
+     * Validate the files at {@code paths} in parallel on the {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * An {@link UncheckedIOException} is thrown when consuming the result of a file that cannot be read.
+     *
+     * @param paths       paths to files with top-level elements in any of the
+     *                    {@link org.phenopackets.phenopackettools.core.PhenopacketFormat}s.
+     * @param concurrency the maximum number of files being validated at the same time.
+     * @return a stream of the validation results in the order of the {@code paths}.
+     */
+    default Stream<ValidationResults> validateAllPaths(Stream<Path> paths, int concurrency) {
+        return validateAllPaths(paths, concurrency, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate the files at {@code paths} in parallel on the {@code executor}.
+     *
+     * @see #validateAllPaths(Stream, int)
+     */
+    default Stream<ValidationResults> validateAllPaths(Stream<Path> paths, int concurrency, Executor executor) {
+        return BatchValidation.<Path>validate(paths.iterator(), path -> validate(BatchValidation.readAllBytes(path)), concurrency, executor)
+                .onClose(paths::close);
+    }
 }
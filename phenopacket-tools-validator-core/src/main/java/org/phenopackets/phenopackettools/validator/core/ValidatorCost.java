@@ -0,0 +1,26 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+/**
+ * {@code ValidatorCost} is a coarse estimate of the computational cost of running a {@link PhenopacketValidator}.
+ * <p>
+ * The {@link ValidationWorkflowRunner}s can use the cost to run the cheap validators first when the validation
+ * is allowed to stop early (see {@link ValidationPolicy}).
+ */
+public enum ValidatorCost {
+
+    /**
+     * The validator checks a few fields or does simple lookups (e.g. presence of a term in an ontology).
+     */
+    LOW,
+
+    /**
+     * The validator traverses the entire top-level element (e.g. JSON schema validation).
+     */
+    MEDIUM,
+
+    /**
+     * The validator does expensive computations for the elements (e.g. ontology graph traversals).
+     */
+    HIGH
+
+}
@@ -0,0 +1,34 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+/**
+ * {@code ValidatorTiming} summarizes a single run of a validator on a top-level element.
+ * <p>
+ * The timings are recorded only if requested, e.g. by the builder of the {@link ValidationWorkflowRunner}.
+ */
+public interface ValidatorTiming {
+
+    static ValidatorTiming of(ValidatorInfo validatorInfo, long elapsedNanos, int resultCount, int inputSize) {
+        return new ValidatorTimingDefault(validatorInfo, elapsedNanos, resultCount, inputSize);
+    }
+
+    /**
+     * @return the validator that was run.
+     */
+    ValidatorInfo validatorInfo();
+
+    /**
+     * @return the wall time spent by the validator, in nanoseconds.
+     */
+    long elapsedNanos();
+
+    /**
+     * @return the number of {@link ValidationResult}s reported by the validator.
+     */
+    int resultCount();
+
+    /**
+     * @return the size of the validated input, e.g. the number of characters of the JSON document.
+     */
+    int inputSize();
+
+}
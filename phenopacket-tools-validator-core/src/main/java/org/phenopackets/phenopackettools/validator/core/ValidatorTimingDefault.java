@@ -0,0 +1,7 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+record ValidatorTimingDefault(ValidatorInfo validatorInfo,
+                              long elapsedNanos,
+                              int resultCount,
+                              int inputSize) implements ValidatorTiming {
+}
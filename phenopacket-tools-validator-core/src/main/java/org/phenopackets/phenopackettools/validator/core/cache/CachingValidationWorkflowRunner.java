@@ -0,0 +1,170 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.phenopackettools.validator.core.ValidationPolicy;
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunner;
+import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
+import org.phenopackets.phenopackettools.validator.core.except.PhenopacketValidatorRuntimeException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link ValidationWorkflowRunner} that returns the stored {@link ValidationResults} for the inputs that have been
+ * validated before, without parsing the input or running the validators.
+ * <p>
+ * The results are keyed by a SHA-256 hash of the input and a fingerprint of the runner configuration.
+ * The fingerprint includes the {@link ValidatorInfo}s and the {@link ValidationPolicy} of the runner,
+ * and the {@code configuration} items provided by the caller, such as HPO version or digests of the custom
+ * JSON schemas, which are not reflected in the {@link ValidatorInfo}s.
+ * <p>
+ * The {@code byte[]} and {@link String} inputs are keyed by their bytes, and the protobuf messages are keyed
+ * by their serialized form. Use {@link #validate(byte[], Supplier)} to key the results of a message by the bytes
+ * it is parsed from, e.g. the file content, and to parse the message only if the results are not cached.
+ * <p>
+ * The {@link ValidationResults#timings()} are not stored, hence the results served from the cache have no timings.
+ *
+ * @param <T> type of the top-level element of the Phenopacket Schema.
+ */
+public class CachingValidationWorkflowRunner<T extends MessageOrBuilder> implements ValidationWorkflowRunner<T> {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final ValidationWorkflowRunner<T> runner;
+    private final ValidationResultsCache cache;
+    private final byte[] fingerprint;
+    private final byte[] itemFingerprint;
+
+    /**
+     * @param runner        the runner to delegate to if the results are not present in the {@code cache}.
+     * @param cache         the cache for storing the results.
+     * @param configuration the items that affect the validation results but are not included
+     *                      in the {@link ValidatorInfo}s of the {@code runner}.
+     */
+    public static <T extends MessageOrBuilder> CachingValidationWorkflowRunner<T> of(ValidationWorkflowRunner<T> runner,
+                                                                                     ValidationResultsCache cache,
+                                                                                     Collection<String> configuration) {
+        return new CachingValidationWorkflowRunner<>(runner, cache, configuration);
+    }
+
+    private CachingValidationWorkflowRunner(ValidationWorkflowRunner<T> runner,
+                                            ValidationResultsCache cache,
+                                            Collection<String> configuration) {
+        this.runner = Objects.requireNonNull(runner);
+        this.cache = Objects.requireNonNull(cache);
+        this.fingerprint = fingerprint(runner.validators(), runner.policy(), configuration);
+        MessageDigest digest = newDigest();
+        digest.update(fingerprint);
+        update(digest, "parsed-item");
+        this.itemFingerprint = digest.digest();
+    }
+
+    private static byte[] fingerprint(List<ValidatorInfo> validators, ValidationPolicy policy, Collection<String> configuration) {
+        MessageDigest digest = newDigest();
+        for (ValidatorInfo validator : validators) {
+            update(digest, validator.validatorId());
+            update(digest, validator.validatorName());
+            update(digest, validator.description());
+        }
+        // The policy can truncate the results, hence the results of different policies must not be shared.
+        update(digest, policy.toString());
+        for (String item : configuration) {
+            update(digest, item);
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // Prefix the value with its length to prevent ambiguous concatenations.
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implementation must support SHA-256.
+            throw new PhenopacketValidatorRuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the cache key for the {@code payload} validated by this runner.
+     */
+    public String key(byte[] payload) {
+        return key(fingerprint, payload);
+    }
+
+    private static String key(byte[] fingerprint, byte[] payload) {
+        MessageDigest digest = newDigest();
+        digest.update(fingerprint);
+        digest.update(payload);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public List<ValidatorInfo> validators() {
+        return runner.validators();
+    }
+
+    @Override
+    public ValidationPolicy policy() {
+        return runner.policy();
+    }
+
+    @Override
+    public ValidationResults validate(byte[] payload) {
+        String key = key(payload);
+        return cache.get(key)
+                .orElseGet(() -> store(key, runner.validate(payload)));
+    }
+
+    @Override
+    public ValidationResults validate(String value) {
+        String key = key(value.getBytes(StandardCharsets.UTF_8));
+        return cache.get(key)
+                .orElseGet(() -> store(key, runner.validate(value)));
+    }
+
+    @Override
+    public ValidationResults validate(T item) {
+        Message message = item instanceof Message m
+                ? m
+                : ((Message.Builder) item).buildPartial();
+        String key = key(message.toByteArray());
+        return cache.get(key)
+                .orElseGet(() -> store(key, runner.validate(item)));
+    }
+
+    /**
+     * Validate the item that the {@code parser} parses from the {@code payload}. The results are keyed
+     * by the {@code payload}, and the {@code parser} is called only if the results are not cached.
+     * The results are the same as the results of {@link #validate(MessageOrBuilder)} of the parsed item.
+     */
+    public ValidationResults validate(byte[] payload, Supplier<? extends T> parser) {
+        // The results of the parsed item can differ from the results of the payload validation,
+        // hence the keys must not collide with the keys of `validate(byte[])`.
+        String key = key(itemFingerprint, payload);
+        return cache.get(key)
+                .orElseGet(() -> store(key, runner.validate(parser.get())));
+    }
+
+    private ValidationResults store(String key, ValidationResults results) {
+        // The timings describe a particular run and are not stored.
+        cache.put(key, results.timings().isEmpty()
+                ? results
+                : ValidationResults.of(results.validators(), results.validationResults(), results.skippedValidators()));
+        return results;
+    }
+}
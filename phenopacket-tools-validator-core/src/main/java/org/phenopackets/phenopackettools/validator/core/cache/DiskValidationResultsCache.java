@@ -0,0 +1,80 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+import org.phenopackets.phenopackettools.validator.core.except.PhenopacketValidatorRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ValidationResultsCache} that stores the results in files in a directory.
+ * <p>
+ * The results are written into a temporary file which is then moved to the final location, hence the readers
+ * never see a partially written file. Files that cannot be read are treated as a cache miss.
+ */
+class DiskValidationResultsCache implements ValidationResultsCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskValidationResultsCache.class);
+    private static final String SUFFIX = ".pxvr";
+    private static final Pattern HEX = Pattern.compile("[0-9a-f]+");
+
+    private final Path directory;
+
+    DiskValidationResultsCache(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new PhenopacketValidatorRuntimeException("Unable to create cache directory at " + directory.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public Optional<ValidationResults> get(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path))
+            return Optional.empty();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return Optional.of(ValidationResultsCodec.read(in));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read cached results from {}: {}", path.toAbsolutePath(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, ValidationResults results) {
+        Path path = resolve(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(path.getParent());
+            tmp = Files.createTempFile(path.getParent(), key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                ValidationResultsCodec.write(results, out);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The cache is an optimization, we do not fail the validation.
+            LOGGER.warn("Unable to store results at {}: {}", path.toAbsolutePath(), e.getMessage());
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // Nothing more we can do.
+                }
+            }
+        }
+    }
+
+    private Path resolve(String key) {
+        if (key.length() < 2 || !HEX.matcher(key).matches())
+            throw new IllegalArgumentException("Cache key must be a hexadecimal string but was " + key);
+        // Spread the files into subdirectories to keep the directories small.
+        return directory.resolve(key.substring(0, 2)).resolve(key + SUFFIX);
+    }
+}
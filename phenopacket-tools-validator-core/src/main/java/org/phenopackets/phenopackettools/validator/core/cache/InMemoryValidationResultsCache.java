@@ -0,0 +1,36 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link ValidationResultsCache} that keeps at most {@code maxSize} least recently used results in memory.
+ */
+class InMemoryValidationResultsCache implements ValidationResultsCache {
+
+    private final Map<String, ValidationResults> cache;
+
+    InMemoryValidationResultsCache(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Cache size must be positive but was " + maxSize);
+        this.cache = new LinkedHashMap<>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ValidationResults> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<ValidationResults> get(String key) {
+        return Optional.ofNullable(cache.get(key));
+    }
+
+    @Override
+    public synchronized void put(String key, ValidationResults results) {
+        cache.put(key, results);
+    }
+}
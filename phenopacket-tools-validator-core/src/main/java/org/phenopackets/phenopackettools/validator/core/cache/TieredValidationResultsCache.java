@@ -0,0 +1,38 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link ValidationResultsCache} that looks up the results in the {@link #first} cache and then
+ * in the {@link #second} cache. The results are stored in both caches.
+ */
+class TieredValidationResultsCache implements ValidationResultsCache {
+
+    private final ValidationResultsCache first;
+    private final ValidationResultsCache second;
+
+    TieredValidationResultsCache(ValidationResultsCache first, ValidationResultsCache second) {
+        this.first = Objects.requireNonNull(first);
+        this.second = Objects.requireNonNull(second);
+    }
+
+    @Override
+    public Optional<ValidationResults> get(String key) {
+        Optional<ValidationResults> results = first.get(key);
+        if (results.isPresent())
+            return results;
+
+        results = second.get(key);
+        results.ifPresent(r -> first.put(key, r));
+        return results;
+    }
+
+    @Override
+    public void put(String key, ValidationResults results) {
+        first.put(key, results);
+        second.put(key, results);
+    }
+}
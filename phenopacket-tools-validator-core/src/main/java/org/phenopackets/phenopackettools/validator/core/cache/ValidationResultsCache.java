@@ -0,0 +1,50 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * A store of {@link ValidationResults} keyed by a content hash.
+ * <p>
+ * The implementations must be thread-safe.
+ */
+public interface ValidationResultsCache {
+
+    /**
+     * @param maxSize the maximum number of results to keep in memory.
+     * @return a cache that keeps at most {@code maxSize} least recently used results in memory.
+     */
+    static ValidationResultsCache inMemory(int maxSize) {
+        return new InMemoryValidationResultsCache(maxSize);
+    }
+
+    /**
+     * @param directory the directory for storing the results. The directory is created if it does not exist.
+     * @return a cache that stores the results in files in the {@code directory}.
+     */
+    static ValidationResultsCache onDisk(Path directory) {
+        return new DiskValidationResultsCache(directory);
+    }
+
+    /**
+     * @return a cache that looks up the results in the {@code first} cache and then in the {@code second} cache.
+     * The results found in the {@code second} cache are added into the {@code first} cache.
+     */
+    static ValidationResultsCache tiered(ValidationResultsCache first, ValidationResultsCache second) {
+        return new TieredValidationResultsCache(first, second);
+    }
+
+    /**
+     * @param key the content hash.
+     * @return the stored results or an empty {@link Optional} if the {@code key} is not present in the cache.
+     */
+    Optional<ValidationResults> get(String key);
+
+    /**
+     * Store the {@code results} under the {@code key}.
+     */
+    void put(String key, ValidationResults results);
+
+}
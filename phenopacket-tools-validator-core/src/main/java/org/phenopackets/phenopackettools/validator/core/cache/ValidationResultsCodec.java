@@ -0,0 +1,118 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import org.phenopackets.phenopackettools.validator.core.ValidationLevel;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary serialization of {@link ValidationResults} for {@link DiskValidationResultsCache}.
+ * <p>
+ * The {@link ValidatorInfo}s are written once, the {@link ValidationResult}s refer to them by index.
+ */
+class ValidationResultsCodec {
+
+    // `PXVR` in ASCII.
+    private static final int MAGIC = 0x50585652;
+    private static final int VERSION = 3;
+
+    private ValidationResultsCodec() {
+        // static utility class
+    }
+
+    static void write(ValidationResults results, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        // The validator infos of the results are usually present in `validators()`, but we do not rely on that.
+        List<ValidatorInfo> infos = new ArrayList<>(results.validators());
+        Map<ValidatorInfo, Integer> indices = new HashMap<>();
+        for (ValidationResult result : results.validationResults()) {
+            if (!infos.contains(result.validatorInfo()))
+                infos.add(result.validatorInfo());
+        }
+        for (ValidatorInfo skipped : results.skippedValidators()) {
+            if (!infos.contains(skipped))
+                infos.add(skipped);
+        }
+        for (int i = 0; i < infos.size(); i++)
+            indices.putIfAbsent(infos.get(i), i);
+
+        out.writeInt(results.validators().size());
+        out.writeInt(infos.size());
+        for (ValidatorInfo info : infos) {
+            writeString(info.validatorId(), out);
+            writeString(info.validatorName(), out);
+            writeString(info.description(), out);
+        }
+
+        out.writeInt(results.validationResults().size());
+        for (ValidationResult result : results.validationResults()) {
+            out.writeInt(indices.get(result.validatorInfo()));
+            out.writeByte(result.level().ordinal());
+            writeString(result.category(), out);
+            writeString(result.message(), out);
+            writeString(result.location().orElse(null), out);
+        }
+
+        out.writeInt(results.skippedValidators().size());
+        for (ValidatorInfo skipped : results.skippedValidators())
+            out.writeInt(indices.get(skipped));
+    }
+
+    static ValidationResults read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a validation results file");
+        int version = in.readInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported validation results version " + version);
+
+        int nValidators = in.readInt();
+        int nInfos = in.readInt();
+        List<ValidatorInfo> infos = new ArrayList<>(nInfos);
+        for (int i = 0; i < nInfos; i++)
+            infos.add(ValidatorInfo.of(readString(in), readString(in), readString(in)));
+
+        int nResults = in.readInt();
+        ValidationLevel[] levels = ValidationLevel.values();
+        List<ValidationResult> results = new ArrayList<>(nResults);
+        for (int i = 0; i < nResults; i++) {
+            ValidatorInfo info = infos.get(in.readInt());
+            ValidationLevel level = levels[in.readByte()];
+            results.add(ValidationResult.of(info, level, readString(in), readString(in), readString(in)));
+        }
+
+        int nSkipped = in.readInt();
+        List<ValidatorInfo> skipped = new ArrayList<>(nSkipped);
+        for (int i = 0; i < nSkipped; i++)
+            skipped.add(infos.get(in.readInt()));
+
+        return ValidationResults.of(List.copyOf(infos.subList(0, nValidators)), List.copyOf(results), List.copyOf(skipped));
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0)
+            return null;
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
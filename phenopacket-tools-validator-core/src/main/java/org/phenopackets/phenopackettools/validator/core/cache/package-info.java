@@ -0,0 +1,8 @@
+/**
+ * A package with a content-addressed cache of {@link org.phenopackets.phenopackettools.validator.core.ValidationResults}.
+ * <p>
+ * {@link org.phenopackets.phenopackettools.validator.core.cache.CachingValidationWorkflowRunner} returns
+ * the stored results for the inputs that have been validated before by a runner with the same configuration.
+ * The results are stored in a {@link org.phenopackets.phenopackettools.validator.core.cache.ValidationResultsCache}.
+ */
+package org.phenopackets.phenopackettools.validator.core.cache;
@@ -3,6 +3,7 @@ package org.phenopackets.phenopackettools.validator.core.metadata;
 import com.google.protobuf.MessageOrBuilder;
 import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
 import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidatorCost;
 import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
 import org.phenopackets.schema.v2.CohortOrBuilder;
 import org.phenopackets.schema.v2.FamilyOrBuilder;
@@ -30,6 +31,11 @@ abstract class MetaDataValidator<T extends MessageOrBuilder> implements Phenopac
         return VALIDATOR_INFO;
     }
 
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.LOW;
+    }
+
     @Override
     public List<ValidationResult> validate(T component) {
         // Validate that these fields use ontology prefixes that are represented in the MetaData section.
@@ -49,7 +55,7 @@ abstract class MetaDataValidator<T extends MessageOrBuilder> implements Phenopac
                     if (fields.length != 2) {
                         return Stream.of(ValidationResult.error(VALIDATOR_INFO,
                                 "Ontology class ID syntax",
-                                "Malformed ontology class ID '%s'".formatted(curie)
+                                "Malformed ontology class ID '%s'", curie
                         ));
                     }
 
@@ -57,7 +63,7 @@ abstract class MetaDataValidator<T extends MessageOrBuilder> implements Phenopac
                     if (!validOntologyPrefixes.contains(prefix)) {
                         return Stream.of(ValidationResult.error(VALIDATOR_INFO,
                                 "Ontology Not In MetaData",
-                                "No ontology corresponding to ID '%s' found in MetaData".formatted(curie)
+                                "No ontology corresponding to ID '%s' found in MetaData", curie
                         ));
                     }
                     return Stream.empty();
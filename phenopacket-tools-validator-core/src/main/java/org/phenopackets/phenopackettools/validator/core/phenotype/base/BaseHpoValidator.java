@@ -3,36 +3,64 @@ package org.phenopackets.phenopackettools.validator.core.phenotype.base;
 import com.google.protobuf.MessageOrBuilder;
 import org.monarchinitiative.phenol.ontology.data.Ontology;
 import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.phenopackettools.validator.core.ValidationContext;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.TermIndex;
 import org.phenopackets.schema.v2.PhenopacketOrBuilder;
 
+import java.util.List;
 import java.util.Objects;
 
 public abstract class BaseHpoValidator<T extends MessageOrBuilder> implements PhenopacketValidator<T> {
 
     protected final Ontology hpo;
     protected final String hpoVersion;
+    // Shared by the validators configured with the same ontology.
+    protected final TermIndex termIndex;
 
     protected BaseHpoValidator(Ontology hpo) {
         this.hpo = Objects.requireNonNull(hpo);
         this.hpoVersion = hpo.version().orElse("UNKNOWN");
+        this.termIndex = TermIndex.of(hpo);
     }
 
-    protected static String summarizePhenopacketAndIndividualId(PhenopacketOrBuilder phenopacket) {
-        // Build a string like <phenopacket-id>/<subject-id> but only if one/other are present.
-        StringBuilder builder = new StringBuilder();
-        String phenopacketId = phenopacket.getId();
-        String individualId = phenopacket.getSubject().getId();
-        if (!phenopacketId.isBlank() || !individualId.isBlank()) {
-            builder.append(" in ");
-            if (!phenopacketId.isBlank())
-                builder.append(phenopacketId);
-
-            if (!individualId.isBlank()) {
+    @Override
+    public List<ValidationResult> validate(T component) {
+        return validate(ValidationContext.of(component));
+    }
+
+    /**
+     * The HPO validators use the phenotypic features parsed and cached in the {@code context}.
+     */
+    @Override
+    public abstract List<ValidationResult> validate(ValidationContext<T> context);
+
+    /**
+     * @return a message argument that is rendered like {@code  in <phenopacket-id>/<subject-id>},
+     * or as an empty string if both IDs are blank. The argument is rendered only when the message is rendered.
+     */
+    protected static Object phenopacketAndIndividualId(PhenopacketOrBuilder phenopacket) {
+        return new IdSummary(phenopacket.getId(), phenopacket.getSubject().getId());
+    }
+
+    private record IdSummary(String phenopacketId, String individualId) {
+
+        @Override
+        public String toString() {
+            // Build a string like <phenopacket-id>/<subject-id> but only if one/other are present.
+            StringBuilder builder = new StringBuilder();
+            if (!phenopacketId.isBlank() || !individualId.isBlank()) {
+                builder.append(" in ");
                 if (!phenopacketId.isBlank())
-                    builder.append("/");
-                builder.append(individualId);
+                    builder.append(phenopacketId);
+
+                if (!individualId.isBlank()) {
+                    if (!phenopacketId.isBlank())
+                        builder.append("/");
+                    builder.append(individualId);
+                }
             }
+            return builder.toString();
         }
-        return builder.toString();
     }
 }
@@ -1,17 +1,18 @@
 package org.phenopackets.phenopackettools.validator.core.phenotype.orgsys;
 
 import com.google.protobuf.MessageOrBuilder;
-import org.monarchinitiative.phenol.ontology.algo.OntologyAlgorithm;
 import org.monarchinitiative.phenol.ontology.data.Ontology;
-import org.monarchinitiative.phenol.ontology.data.Term;
 import org.monarchinitiative.phenol.ontology.data.TermId;
+import org.phenopackets.phenopackettools.validator.core.ValidationContext;
 import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidatorCost;
 import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
 import org.phenopackets.phenopackettools.validator.core.phenotype.base.BaseHpoValidator;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.MemberView;
 import org.phenopackets.phenopackettools.validator.core.phenotype.util.PhenotypicFeaturesByExclusionStatus;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.TermIdSet;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.TermName;
 import org.phenopackets.phenopackettools.validator.core.phenotype.util.Util;
-import org.phenopackets.schema.v2.PhenopacketOrBuilder;
-import org.phenopackets.schema.v2.core.PhenotypicFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +41,8 @@ public abstract class AbstractOrganSystemValidator<T extends MessageOrBuilder> e
     private static final String MISSING_ORGAN_SYSTEM_CATEGORY = "Missing organ system annotation";
 
     protected final List<TermId> organSystemTermIds;
+    // Indices of the `organSystemTermIds` in the `termIndex`.
+    private final int[] organSystemIndices;
 
     protected AbstractOrganSystemValidator(Ontology hpo,
                                            Collection<TermId> organSystemTermIds) {
@@ -49,6 +52,9 @@ public abstract class AbstractOrganSystemValidator<T extends MessageOrBuilder> e
                 .filter(organSystemTermIdIsInOntology(hpo))
                 .sorted()
                 .toList();
+        this.organSystemIndices = this.organSystemTermIds.stream()
+                .mapToInt(termIndex::indexOf)
+                .toArray();
     }
 
     private static Predicate<TermId> organSystemTermIdIsInOntology(Ontology hpo) {
@@ -68,39 +74,46 @@ public abstract class AbstractOrganSystemValidator<T extends MessageOrBuilder> e
     }
 
     @Override
-    public List<ValidationResult> validate(T component) {
-        return getPhenopackets(component)
-                .flatMap(p -> checkPhenotypicFeatures(p, p.getPhenotypicFeaturesList()))
-                .toList();
+    public ValidatorCost cost() {
+        return ValidatorCost.HIGH;
     }
 
-    protected abstract Stream<? extends PhenopacketOrBuilder> getPhenopackets(T component);
+    @Override
+    public List<ValidationResult> validate(ValidationContext<T> context) {
+        return Util.memberViews(context).stream()
+                .flatMap(this::checkPhenotypicFeatures)
+                .toList();
+    }
 
-    private Stream<ValidationResult> checkPhenotypicFeatures(PhenopacketOrBuilder phenopacket, List<PhenotypicFeature> features) {
-        PhenotypicFeaturesByExclusionStatus featuresByExclusion = Util.partitionByExclusionStatus(features);
+    private Stream<ValidationResult> checkPhenotypicFeatures(MemberView member) {
+        PhenotypicFeaturesByExclusionStatus featuresByExclusion = member.featuresByExclusionStatus(termIndex);
+        TermIdSet observed = featuresByExclusion.observedPhenotypicFeatures();
+        TermIdSet excluded = featuresByExclusion.excludedPhenotypicFeatures();
 
         Stream.Builder<ValidationResult> results = Stream.builder();
         // Check we have at least one phenotypeFeature (pf) that is a descendant of given organSystemId
         // and report otherwise.
         organSystemLoop:
-        for (TermId organSystemId : organSystemTermIds) {
-            // Check if the organ system abnormality has been specifically excluded.
-            if (featuresByExclusion.excludedPhenotypicFeatures().contains(organSystemId))
-                continue; // Yes, it was. Let's check the next organ system
-
-            // Check if we have at least one observed annotation for the organ system.
-            for (TermId pf : featuresByExclusion.observedPhenotypicFeatures()) {
-                if (OntologyAlgorithm.existsPath(hpo, pf, organSystemId)) {
-                    continue organSystemLoop; // It only takes one termId to annotate an organ system.
+        for (int i = 0; i < organSystemIndices.length; i++) {
+            int organSystemIndex = organSystemIndices[i];
+            if (organSystemIndex >= 0) {
+                // Check if the organ system abnormality has been specifically excluded.
+                if (excluded.contains(organSystemIndex))
+                    continue; // Yes, it was. Let's check the next organ system
+
+                // Check if we have at least one observed annotation for the organ system.
+                for (int j = 0; j < observed.size(); j++) {
+                    if (termIndex.isStrictAncestor(organSystemIndex, observed.get(j)))
+                        continue organSystemLoop; // It only takes one termId to annotate an organ system.
                 }
             }
 
             // The organSystemId is neither annotated nor excluded. We report a validation error.
-            Term organSystem = hpo.getTermMap().get(organSystemId);
+            TermId organSystemId = organSystemTermIds.get(i);
             ValidationResult result = ValidationResult.error(VALIDATOR_INFO,
                     MISSING_ORGAN_SYSTEM_CATEGORY,
-                    "Missing annotation for %s [%s]%s"
-                            .formatted(organSystem.getName(), organSystem.id().getValue(), summarizePhenopacketAndIndividualId(phenopacket)));
+                    "Missing annotation for %s [%s]%s",
+                    new TermName(hpo, organSystemId), organSystemId.getValue(), phenopacketAndIndividualId(member.phenopacket()));
             results.add(result);
         }
 
@@ -5,7 +5,6 @@ import org.monarchinitiative.phenol.ontology.data.TermId;
 import org.phenopackets.schema.v2.PhenopacketOrBuilder;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
 public class PhenopacketHpoOrganSystemValidator extends AbstractOrganSystemValidator<PhenopacketOrBuilder> {
 
@@ -13,9 +12,4 @@ public class PhenopacketHpoOrganSystemValidator extends AbstractOrganSystemValid
                                               Collection<TermId> organSystemTerms) {
         super(hpo, organSystemTerms);
     }
-
-    @Override
-    protected Stream<? extends PhenopacketOrBuilder> getPhenopackets(PhenopacketOrBuilder component) {
-        return Stream.of(component);
-    }
 }
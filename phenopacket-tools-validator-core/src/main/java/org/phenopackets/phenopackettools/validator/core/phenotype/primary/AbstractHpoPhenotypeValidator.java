@@ -1,14 +1,17 @@
 package org.phenopackets.phenopackettools.validator.core.phenotype.primary;
 
 import com.google.protobuf.MessageOrBuilder;
-import org.monarchinitiative.phenol.base.PhenolRuntimeException;
 import org.monarchinitiative.phenol.ontology.data.Ontology;
 import org.monarchinitiative.phenol.ontology.data.TermId;
 import org.phenopackets.phenopackettools.validator.core.*;
 import org.phenopackets.phenopackettools.validator.core.phenotype.base.BaseHpoValidator;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.MemberView;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.ParsedPhenotypicFeature;
+import org.phenopackets.phenopackettools.validator.core.phenotype.util.Util;
 import org.phenopackets.schema.v2.PhenopacketOrBuilder;
-import org.phenopackets.schema.v2.core.PhenotypicFeature;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 public abstract class AbstractHpoPhenotypeValidator<T extends MessageOrBuilder> extends BaseHpoValidator<T> {
@@ -29,36 +32,53 @@ public abstract class AbstractHpoPhenotypeValidator<T extends MessageOrBuilder>
         return VALIDATOR_INFO;
     }
 
-    protected Stream<? extends ValidationResult> checkPhenotypeFeature(PhenopacketOrBuilder phenopacket, PhenotypicFeature feature) {
-        TermId termId;
-        try {
-            termId = TermId.of(feature.getType().getId());
-        } catch (PhenolRuntimeException e) {
-            String idSummary = summarizePhenopacketAndIndividualId(phenopacket);
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.LOW;
+    }
+
+    @Override
+    public List<ValidationResult> validate(ValidationContext<T> context) {
+        List<ValidationResult> results = new ArrayList<>();
+
+        for (MemberView member : Util.memberViews(context)) {
+            for (ParsedPhenotypicFeature feature : member.phenotypicFeatures()) {
+                checkPhenotypeFeature(member.phenopacket(), feature)
+                        .forEach(results::add);
+            }
+        }
+
+        return results;
+    }
+
+    protected Stream<? extends ValidationResult> checkPhenotypeFeature(PhenopacketOrBuilder phenopacket, ParsedPhenotypicFeature feature) {
+        TermId termId = feature.termId();
+        if (termId == null) {
             // Should not really happen if JsonSchema validators are run upstream, but let's stay safe.
-            String msg = "The %s found%s is not a valid term ID".formatted(feature.getType().getId(), idSummary);
             return Stream.of(
-                    ValidationResult.error(VALIDATOR_INFO, INVALID_TERM_ID, msg)
+                    ValidationResult.error(VALIDATOR_INFO, INVALID_TERM_ID, "The %s found%s is not a valid term ID",
+                            feature.feature().getType().getId(), phenopacketAndIndividualId(phenopacket))
             );
         }
+        if (termIndex.indexOf(termId) >= 0)
+            // A primary non-obsolete term ID, nothing to report.
+            return Stream.empty();
+
         if (termId.getPrefix().equals("HP")) {
             // Check if the HPO contains the term.
             if (!hpo.containsTerm(termId)) {
-                String idSummary = summarizePhenopacketAndIndividualId(phenopacket);
-                String msg = "%s%s not found in %s".formatted(termId.getValue(), idSummary, hpoVersion);
                 return Stream.of(
-                        ValidationResult.error(VALIDATOR_INFO, INVALID_TERM_ID, msg)
+                        ValidationResult.error(VALIDATOR_INFO, INVALID_TERM_ID, "%s%s not found in %s",
+                                termId.getValue(), phenopacketAndIndividualId(phenopacket), hpoVersion)
                 );
             }
 
             // Check if the `termId` is a primary ID. // If not, this is a warning.
             TermId primaryId = hpo.getPrimaryTermId(termId);
             if (!primaryId.equals(termId)) {
-                String idSummary = summarizePhenopacketAndIndividualId(phenopacket);
-                String msg = "Using obsolete id (%s) instead of current primary id (%s)%s".formatted(
-                        termId.getValue(), primaryId.getValue(), idSummary);
                 return Stream.of(
-                        ValidationResult.warning(VALIDATOR_INFO, OBSOLETED_TERM_ID, msg)
+                        ValidationResult.warning(VALIDATOR_INFO, OBSOLETED_TERM_ID, "Using obsolete id (%s) instead of current primary id (%s)%s",
+                                termId.getValue(), primaryId.getValue(), phenopacketAndIndividualId(phenopacket))
                 );
             }
         }
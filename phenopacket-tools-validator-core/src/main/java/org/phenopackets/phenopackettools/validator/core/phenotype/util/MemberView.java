@@ -0,0 +1,48 @@
+package org.phenopackets.phenopackettools.validator.core.phenotype.util;
+
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A view of a phenopacket, a family member, or a cohort member that caches the data needed by the phenotype validators.
+ * The data are computed on first access.
+ */
+public class MemberView {
+
+    private final PhenopacketOrBuilder phenopacket;
+    private List<ParsedPhenotypicFeature> phenotypicFeatures;
+    // The partition is cached for a single index, the validators with the same ontology share the index.
+    private TermIndex termIndex;
+    private PhenotypicFeaturesByExclusionStatus featuresByExclusionStatus;
+
+    MemberView(PhenopacketOrBuilder phenopacket) {
+        this.phenopacket = Objects.requireNonNull(phenopacket);
+    }
+
+    public PhenopacketOrBuilder phenopacket() {
+        return phenopacket;
+    }
+
+    /**
+     * @return the phenotypic features of the member with the parsed term IDs.
+     */
+    public List<ParsedPhenotypicFeature> phenotypicFeatures() {
+        if (phenotypicFeatures == null)
+            phenotypicFeatures = Util.parse(phenopacket.getPhenotypicFeaturesList());
+        return phenotypicFeatures;
+    }
+
+    /**
+     * @return the indices of the phenotypic features in the {@code termIndex} partitioned by the exclusion status.
+     * The features that are not present in the index are ignored.
+     */
+    public PhenotypicFeaturesByExclusionStatus featuresByExclusionStatus(TermIndex termIndex) {
+        if (this.termIndex != termIndex) {
+            featuresByExclusionStatus = Util.partitionByExclusionStatus(phenotypicFeatures(), termIndex);
+            this.termIndex = termIndex;
+        }
+        return featuresByExclusionStatus;
+    }
+}
@@ -0,0 +1,33 @@
+package org.phenopackets.phenopackettools.validator.core.phenotype.util;
+
+import org.monarchinitiative.phenol.base.PhenolRuntimeException;
+import org.monarchinitiative.phenol.ontology.data.TermId;
+import org.phenopackets.schema.v2.core.PhenotypicFeature;
+
+import java.util.Optional;
+
+/**
+ * A {@link PhenotypicFeature} along with its {@link TermId} parsed from the feature type.
+ *
+ * @param termId the parsed term ID or {@code null} if the feature type ID is malformed.
+ */
+public record ParsedPhenotypicFeature(PhenotypicFeature feature, TermId termId) {
+
+    static ParsedPhenotypicFeature parse(PhenotypicFeature feature) {
+        TermId termId;
+        try {
+            termId = TermId.of(feature.getType().getId());
+        } catch (PhenolRuntimeException e) {
+            termId = null;
+        }
+        return new ParsedPhenotypicFeature(feature, termId);
+    }
+
+    public Optional<TermId> maybeTermId() {
+        return Optional.ofNullable(termId);
+    }
+
+    public boolean isExcluded() {
+        return feature.getExcluded();
+    }
+}
@@ -1,9 +1,8 @@
 package org.phenopackets.phenopackettools.validator.core.phenotype.util;
 
-import org.monarchinitiative.phenol.ontology.data.TermId;
-
-import java.util.Set;
-
-public record PhenotypicFeaturesByExclusionStatus(Set<TermId> observedPhenotypicFeatures,
-                                                  Set<TermId> excludedPhenotypicFeatures) {
+/**
+ * The indices of the observed and excluded phenotypic features in a {@link TermIndex}.
+ */
+public record PhenotypicFeaturesByExclusionStatus(TermIdSet observedPhenotypicFeatures,
+                                                  TermIdSet excludedPhenotypicFeatures) {
 }
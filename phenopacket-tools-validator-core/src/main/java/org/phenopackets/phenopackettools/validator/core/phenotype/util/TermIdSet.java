@@ -0,0 +1,76 @@
+package org.phenopackets.phenopackettools.validator.core.phenotype.util;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of term indices of a {@link TermIndex}, backed by a sorted {@code int} array.
+ * <p>
+ * The phenotypic features of a phenopacket are usually few, so the binary search over a small array
+ * is cheaper than hashing of the boxed {@link org.monarchinitiative.phenol.ontology.data.TermId}s.
+ */
+public class TermIdSet {
+
+    private static final TermIdSet EMPTY = new TermIdSet(new int[0]);
+
+    private final int[] indices;
+
+    /**
+     * Create the set from the first {@code length} {@code values}. The values are copied.
+     */
+    static TermIdSet of(int[] values, int length) {
+        if (length == 0)
+            return EMPTY;
+        int[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1])
+                sorted[n++] = sorted[i];
+        }
+        return new TermIdSet(n == sorted.length ? sorted : Arrays.copyOf(sorted, n));
+    }
+
+    public static TermIdSet empty() {
+        return EMPTY;
+    }
+
+    private TermIdSet(int[] indices) {
+        this.indices = indices;
+    }
+
+    public int size() {
+        return indices.length;
+    }
+
+    public boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    /**
+     * @return the {@code i}-th smallest term index of the set.
+     */
+    public int get(int i) {
+        return indices[i];
+    }
+
+    public boolean contains(int index) {
+        return Arrays.binarySearch(indices, index) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(indices, ((TermIdSet) o).indices);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(indices);
+    }
+
+    @Override
+    public String toString() {
+        return "TermIdSet" + Arrays.toString(indices);
+    }
+}
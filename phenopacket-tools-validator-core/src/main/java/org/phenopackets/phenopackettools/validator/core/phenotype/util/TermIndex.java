@@ -0,0 +1,129 @@
+package org.phenopackets.phenopackettools.validator.core.phenotype.util;
+
+import org.monarchinitiative.phenol.ontology.algo.OntologyAlgorithm;
+import org.monarchinitiative.phenol.ontology.data.Ontology;
+import org.monarchinitiative.phenol.ontology.data.TermId;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Maps the primary non-obsolete term IDs of an ontology to dense {@code int}s, starting at {@code 0}.
+ * The indices follow the natural order of the {@link TermId}s.
+ * <p>
+ * The strict ancestors and descendants of a term are computed on first access and cached as sorted {@code int} arrays.
+ * The index is thread-safe.
+ * <p>
+ * The validators configured with the same ontology share the index. The shared indices are held weakly,
+ * hence an index and its ontology are released once no validator uses them, e.g. after the HPO is reloaded.
+ */
+public class TermIndex {
+
+    // The keys are held weakly by the map and the values are held strongly only by the validators.
+    // The values must not be held strongly by the map, because the index references its ontology.
+    private static final Map<Ontology, WeakReference<TermIndex>> INDICES = new WeakHashMap<>();
+
+    private final Ontology ontology;
+    private final TermId[] termIds;
+    private final Map<TermId, Integer> indices;
+    private final AtomicReferenceArray<int[]> ancestors;
+    private final AtomicReferenceArray<int[]> descendants;
+
+    /**
+     * Get the index of the non-obsolete terms of the {@code ontology}. The index is built once per ontology
+     * and shared for as long as it is in use.
+     */
+    public static TermIndex of(Ontology ontology) {
+        synchronized (INDICES) {
+            WeakReference<TermIndex> reference = INDICES.get(ontology);
+            TermIndex index = reference == null ? null : reference.get();
+            if (index == null) {
+                index = new TermIndex(ontology);
+                INDICES.put(ontology, new WeakReference<>(index));
+            }
+            return index;
+        }
+    }
+
+    private TermIndex(Ontology ontology) {
+        this.ontology = Objects.requireNonNull(ontology);
+        this.termIds = ontology.getNonObsoleteTermIds().stream()
+                .sorted()
+                .toArray(TermId[]::new);
+        this.indices = new HashMap<>(termIds.length * 4 / 3 + 1);
+        for (int i = 0; i < termIds.length; i++)
+            indices.put(termIds[i], i);
+        this.ancestors = new AtomicReferenceArray<>(termIds.length);
+        this.descendants = new AtomicReferenceArray<>(termIds.length);
+    }
+
+    /**
+     * @return the number of the indexed terms.
+     */
+    public int size() {
+        return termIds.length;
+    }
+
+    /**
+     * @return the index of the {@code termId} or {@code -1} if the term ID is not a primary non-obsolete ID
+     * of the ontology.
+     */
+    public int indexOf(TermId termId) {
+        Integer index = indices.get(termId);
+        return index == null ? -1 : index;
+    }
+
+    public TermId termId(int index) {
+        return termIds[index];
+    }
+
+    /**
+     * @return sorted indices of the ancestors of the term at {@code index}, excluding the term itself.
+     */
+    public int[] strictAncestors(int index) {
+        int[] result = ancestors.get(index);
+        if (result == null) {
+            result = toIndices(OntologyAlgorithm.getAncestorTerms(ontology, termIds[index], false), index);
+            ancestors.set(index, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return sorted indices of the descendants of the term at {@code index}, excluding the term itself.
+     */
+    public int[] strictDescendants(int index) {
+        int[] result = descendants.get(index);
+        if (result == null) {
+            result = toIndices(OntologyAlgorithm.getDescendents(ontology, termIds[index]), index);
+            descendants.set(index, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the term at {@code ancestor} is a strict ancestor of the term at {@code index}.
+     */
+    public boolean isStrictAncestor(int ancestor, int index) {
+        return Arrays.binarySearch(strictAncestors(index), ancestor) >= 0;
+    }
+
+    private int[] toIndices(Set<TermId> termIds, int self) {
+        int[] result = new int[termIds.size()];
+        int n = 0;
+        for (TermId termId : termIds) {
+            int index = indexOf(termId);
+            if (index >= 0 && index != self)
+                result[n++] = index;
+        }
+        result = Arrays.copyOf(result, n);
+        Arrays.sort(result);
+        return result;
+    }
+}
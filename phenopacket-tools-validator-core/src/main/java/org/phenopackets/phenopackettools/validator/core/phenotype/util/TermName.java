@@ -0,0 +1,19 @@
+package org.phenopackets.phenopackettools.validator.core.phenotype.util;
+
+import org.monarchinitiative.phenol.ontology.data.Ontology;
+import org.monarchinitiative.phenol.ontology.data.Term;
+import org.monarchinitiative.phenol.ontology.data.TermId;
+
+/**
+ * A message argument that looks up the name of the term in the ontology only when the message is rendered.
+ */
+public record TermName(Ontology ontology, TermId termId) {
+
+    private static final String UNKNOWN = "UNKNOWN_NAME";
+
+    @Override
+    public String toString() {
+        Term term = ontology.getTermMap().get(termId);
+        return term == null ? UNKNOWN : term.getName();
+    }
+}
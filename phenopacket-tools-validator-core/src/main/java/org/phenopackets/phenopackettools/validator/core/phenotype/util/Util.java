@@ -1,42 +1,67 @@
 package org.phenopackets.phenopackettools.validator.core.phenotype.util;
 
-import org.monarchinitiative.phenol.ontology.data.TermId;
+import org.phenopackets.phenopackettools.validator.core.ValidationContext;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
 import org.phenopackets.schema.v2.core.PhenotypicFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.*;
 
 public class Util {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Util.class);
 
+    private static final ValidationContext.Key<List<MemberView>> MEMBER_VIEWS = ValidationContext.Key.of("phenotype-member-views");
+
     private Util() {
         // static utility class
     }
 
-    public static PhenotypicFeaturesByExclusionStatus partitionByExclusionStatus(Collection<PhenotypicFeature> phenotypicFeatures) {
-        Map<Boolean, Set<TermId>> byExclusion = phenotypicFeatures.stream()
-                .map(toMaybeObservedTermId())
-                .flatMap(Optional::stream)
-                // Use `partitioningBy` instead of `groupingBy` to ensure the map contains keys
-                // for both `true` and `false`. Then extract `TermId` and collect in a `Set`.
-                .collect(Collectors.partitioningBy(MaybeExcludedTermId::excluded,
-                        Collectors.mapping(MaybeExcludedTermId::termId, Collectors.toSet())));
-        return new PhenotypicFeaturesByExclusionStatus(byExclusion.get(false), byExclusion.get(true));
+    /**
+     * Get the {@link MemberView}s of the phenopackets of the validated component.
+     * The views are shared by all validators that run within the {@code context}.
+     */
+    public static List<MemberView> memberViews(ValidationContext<?> context) {
+        return context.computeIfAbsent(MEMBER_VIEWS, Util::createMemberViews);
+    }
+
+    private static List<MemberView> createMemberViews(ValidationContext<?> context) {
+        List<? extends PhenopacketOrBuilder> phenopackets = context.phenopackets();
+        List<MemberView> views = new ArrayList<>(phenopackets.size());
+        for (PhenopacketOrBuilder phenopacket : phenopackets)
+            views.add(new MemberView(phenopacket));
+        return Collections.unmodifiableList(views);
+    }
+
+    static List<ParsedPhenotypicFeature> parse(Collection<PhenotypicFeature> phenotypicFeatures) {
+        List<ParsedPhenotypicFeature> parsed = new ArrayList<>(phenotypicFeatures.size());
+        for (PhenotypicFeature feature : phenotypicFeatures)
+            parsed.add(ParsedPhenotypicFeature.parse(feature));
+        return Collections.unmodifiableList(parsed);
     }
 
-    private static Function<PhenotypicFeature, Optional<MaybeExcludedTermId>> toMaybeObservedTermId() {
-        return pf -> MaybeExcludedTermId.fromPhenotypicFeature(pf)
-                .or(() -> {
-                    // Let's log the malformed term.
-                    LOGGER.warn("Skipping validation of malformed term ID {}", pf.getType().getId());
-                    return Optional.empty();
-                });
+    static PhenotypicFeaturesByExclusionStatus partitionByExclusionStatus(List<ParsedPhenotypicFeature> phenotypicFeatures,
+                                                                          TermIndex termIndex) {
+        int[] observed = new int[phenotypicFeatures.size()];
+        int[] excluded = new int[phenotypicFeatures.size()];
+        int nObserved = 0, nExcluded = 0;
+        for (ParsedPhenotypicFeature feature : phenotypicFeatures) {
+            if (feature.termId() == null) {
+                // Let's log the malformed term.
+                LOGGER.warn("Skipping validation of malformed term ID {}", feature.feature().getType().getId());
+                continue;
+            }
+            int index = termIndex.indexOf(feature.termId());
+            if (index < 0) {
+                LOGGER.debug("Ignoring unknown/obsolete term ID {}", feature.termId().getValue());
+                continue;
+            }
+            if (feature.isExcluded())
+                excluded[nExcluded++] = index;
+            else
+                observed[nObserved++] = index;
+        }
+        return new PhenotypicFeaturesByExclusionStatus(TermIdSet.of(observed, nObserved), TermIdSet.of(excluded, nExcluded));
     }
 }
@@ -0,0 +1,123 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BatchValidationTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resultsFollowTheOrderOfItems() {
+        EchoRunner runner = new EchoRunner(10);
+        List<Phenopacket> items = IntStream.range(0, 50)
+                .mapToObj(i -> Phenopacket.newBuilder().setId(String.valueOf(i)).build())
+                .toList();
+
+        List<String> ids = runner.validateAll(items, 4, executor)
+                .map(results -> results.validators().get(0).validatorId())
+                .toList();
+
+        assertThat(ids, equalTo(IntStream.range(0, 50).mapToObj(String::valueOf).toList()));
+        assertThat(runner.maxInFlight.get(), is(lessThanOrEqualTo(4)));
+    }
+
+    @Test
+    public void itemsAreConsumedLazily() {
+        EchoRunner runner = new EchoRunner(10);
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<Phenopacket> items = IntStream.range(0, 1_000)
+                .peek(i -> consumed.incrementAndGet())
+                .mapToObj(i -> Phenopacket.newBuilder().setId(String.valueOf(i)).build());
+
+        try (Stream<ValidationResults> results = runner.validateAll(items, 2, executor)) {
+            assertThat(consumed.get(), equalTo(0));
+
+            assertThat(results.limit(3).count(), equalTo(3L));
+        }
+        // At most `concurrency` items are read ahead.
+        assertThat(consumed.get(), is(lessThanOrEqualTo(5)));
+    }
+
+    @Test
+    public void dispatcherValidatesMixedElements() {
+        ValidationWorkflowDispatcher dispatcher = ValidationWorkflowDispatcher.of(
+                new ElementRunner<>("phenopacket"), new ElementRunner<>("family"), new ElementRunner<>("cohort"));
+
+        List<String> ids = dispatcher.validateAll(List.of(Cohort.getDefaultInstance(), Phenopacket.getDefaultInstance(), Family.getDefaultInstance()), 2, executor)
+                .map(results -> results.validators().get(0).validatorId())
+                .toList();
+
+        assertThat(ids, contains("cohort", "phenopacket", "family"));
+    }
+
+    @Test
+    public void dispatcherSniffsTheElementOfPayloads() {
+        ValidationWorkflowDispatcher dispatcher = ValidationWorkflowDispatcher.of(
+                new ElementRunner<>("phenopacket"), new ElementRunner<>("family"), new ElementRunner<>("cohort"));
+        Stream<byte[]> payloads = Stream.of("{\"proband\": {}}", "{\"subject\": {}}", "{\"subject\": {}, \"members\": []}")
+                .map(s -> s.getBytes(StandardCharsets.UTF_8));
+
+        List<ValidationResults> results = dispatcher.validateAllPayloads(payloads, 2, executor).toList();
+
+        assertThat(results.get(0).validators().get(0).validatorId(), equalTo("family"));
+        assertThat(results.get(1).validators().get(0).validatorId(), equalTo("phenopacket"));
+        assertThat(results.get(2).validators(), contains(ValidatorInfo.inputValidator()));
+        assertThat(results.get(2).validationResults().get(0).level(), equalTo(ValidationLevel.ERROR));
+    }
+
+    private static class ElementRunner<T extends com.google.protobuf.MessageOrBuilder> implements ValidationWorkflowRunner<T> {
+
+        private final List<ValidatorInfo> validators;
+
+        private ElementRunner(String id) {
+            this.validators = List.of(ValidatorInfo.of(id, id, id));
+        }
+
+        @Override
+        public List<ValidatorInfo> validators() {
+            return validators;
+        }
+
+        @Override
+        public ValidationResults validate(byte[] payload) {
+            return ValidationResults.of(validators, List.of());
+        }
+
+        @Override
+        public ValidationResults validate(String value) {
+            return ValidationResults.of(validators, List.of());
+        }
+
+        @Override
+        public ValidationResults validate(T item) {
+            return ValidationResults.of(validators, List.of());
+        }
+    }
+}
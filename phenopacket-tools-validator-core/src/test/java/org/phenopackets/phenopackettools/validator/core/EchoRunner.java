@@ -0,0 +1,53 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A test runner that reports the phenopacket ID as the validator ID and tracks the number of concurrent validations.
+ * The phenopacket IDs must be numbers, the items with lower IDs take longer to validate.
+ */
+class EchoRunner implements ValidationWorkflowRunner<PhenopacketOrBuilder> {
+
+    private final int maxDelayMillis;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    /**
+     * @param maxDelayMillis the validation of the item with ID {@code 0} takes this many milliseconds
+     */
+    EchoRunner(int maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Override
+    public List<ValidatorInfo> validators() {
+        return List.of();
+    }
+
+    @Override
+    public ValidationResults validate(byte[] payload) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ValidationResults validate(String value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ValidationResults validate(PhenopacketOrBuilder item) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(Math.max(0, maxDelayMillis - Integer.parseInt(item.getId()) % maxDelayMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        ValidatorInfo info = ValidatorInfo.of(item.getId(), item.getId(), item.getId());
+        return ValidationResults.of(List.of(info), List.of());
+    }
+}
@@ -0,0 +1,70 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import org.junit.jupiter.api.Test;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReloadableValidationWorkflowRunnerTest {
+
+    @Test
+    public void reloadSwapsTheRunner() {
+        ReloadableValidationWorkflowRunner<PhenopacketOrBuilder> runner = ReloadableValidationWorkflowRunner.of(new ConstantRunner("old"));
+        assertThat(runner.validators().get(0).validatorId(), equalTo("old"));
+
+        ValidationWorkflowRunner<PhenopacketOrBuilder> fresh = new ConstantRunner("new");
+        CompletableFuture<ValidationWorkflowRunner<PhenopacketOrBuilder>> future = runner.reload(() -> fresh, Runnable::run);
+
+        assertThat(future.join(), is(sameInstance(fresh)));
+        assertThat(runner.current(), is(sameInstance(fresh)));
+        assertThat(runner.validate(new byte[0]).validators().get(0).validatorId(), equalTo("new"));
+    }
+
+    @Test
+    public void failedReloadKeepsTheCurrentRunner() {
+        ConstantRunner old = new ConstantRunner("old");
+        ReloadableValidationWorkflowRunner<PhenopacketOrBuilder> runner = ReloadableValidationWorkflowRunner.of(old);
+
+        CompletableFuture<ValidationWorkflowRunner<PhenopacketOrBuilder>> future = runner.reload(() -> {
+            throw new RuntimeException("Unable to read HPO");
+        }, Runnable::run);
+
+        assertThrows(CompletionException.class, future::join);
+        assertThat(runner.current(), is(sameInstance(old)));
+    }
+
+    private static class ConstantRunner implements ValidationWorkflowRunner<PhenopacketOrBuilder> {
+
+        private final List<ValidatorInfo> validators;
+
+        private ConstantRunner(String id) {
+            this.validators = List.of(ValidatorInfo.of(id, id, id));
+        }
+
+        @Override
+        public List<ValidatorInfo> validators() {
+            return validators;
+        }
+
+        @Override
+        public ValidationResults validate(byte[] payload) {
+            return ValidationResults.of(validators, List.of());
+        }
+
+        @Override
+        public ValidationResults validate(String value) {
+            return ValidationResults.of(validators, List.of());
+        }
+
+        @Override
+        public ValidationResults validate(PhenopacketOrBuilder item) {
+            return ValidationResults.of(validators, List.of());
+        }
+    }
+}
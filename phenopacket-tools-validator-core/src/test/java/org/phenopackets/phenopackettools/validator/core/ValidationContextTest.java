@@ -0,0 +1,57 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import org.junit.jupiter.api.Test;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ValidationContextTest {
+
+    private static final ValidationContext.Key<String> KEY = ValidationContext.Key.of("test");
+
+    @Test
+    public void phenopacketsOfFamilyStartWithProband() {
+        Family family = Family.newBuilder()
+                .setProband(Phenopacket.newBuilder().setId("proband"))
+                .addRelatives(Phenopacket.newBuilder().setId("mother"))
+                .addRelatives(Phenopacket.newBuilder().setId("father"))
+                .build();
+
+        ValidationContext<Family> context = ValidationContext.of(family);
+
+        assertThat(context.phenopackets().stream().map(PhenopacketOrBuilder::getId).toList(),
+                contains("proband", "mother", "father"));
+    }
+
+    @Test
+    public void phenopacketsOfCohortAreMembers() {
+        Cohort cohort = Cohort.newBuilder()
+                .addMembers(Phenopacket.newBuilder().setId("a"))
+                .addMembers(Phenopacket.newBuilder().setId("b"))
+                .build();
+
+        ValidationContext<Cohort> context = ValidationContext.of(cohort);
+
+        assertThat(context.phenopackets().stream().map(PhenopacketOrBuilder::getId).toList(),
+                contains("a", "b"));
+    }
+
+    @Test
+    public void valueIsComputedOnlyOnce() {
+        ValidationContext<Phenopacket> context = ValidationContext.of(Phenopacket.newBuilder().setId("a").build());
+        AtomicInteger counter = new AtomicInteger();
+
+        String first = context.computeIfAbsent(KEY, c -> c.component().getId() + counter.incrementAndGet());
+        String second = context.computeIfAbsent(KEY, c -> c.component().getId() + counter.incrementAndGet());
+
+        assertThat(first, equalTo("a1"));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(counter.get(), equalTo(1));
+    }
+}
@@ -0,0 +1,186 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ValidationProcessorTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resultsArePublishedInOrder() throws Exception {
+        EchoRunner runner = new EchoRunner(5);
+        ValidationProcessor<PhenopacketOrBuilder> processor = ValidationProcessor.forItems(runner, 4, executor);
+        RangePublisher publisher = new RangePublisher(100);
+        CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.done.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(subscriber.error, is(nullValue()));
+        assertThat(subscriber.ids, equalTo(IntStream.range(0, 100).mapToObj(String::valueOf).toList()));
+        assertThat(runner.maxInFlight.get(), is(lessThanOrEqualTo(4)));
+    }
+
+    @Test
+    public void asynchronousPublisherDoesNotExceedMaxInFlight() throws Exception {
+        EchoRunner runner = new EchoRunner(5);
+        ValidationProcessor<PhenopacketOrBuilder> processor = ValidationProcessor.forItems(runner, 3, executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        // The items arrive on the publisher threads, concurrently with the processor requesting more.
+        try (SubmissionPublisher<PhenopacketOrBuilder> publisher = new SubmissionPublisher<>(executor, 16)) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+            for (int i = 0; i < 200; i++)
+                publisher.submit(Phenopacket.newBuilder().setId(String.valueOf(i)).build());
+        }
+
+        assertThat(subscriber.done.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(subscriber.ids, equalTo(IntStream.range(0, 200).mapToObj(String::valueOf).toList()));
+        assertThat(runner.maxInFlight.get(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    public void itemsAreRequestedOnlyOnDemand() throws Exception {
+        EchoRunner runner = new EchoRunner(5);
+        ValidationProcessor<PhenopacketOrBuilder> processor = ValidationProcessor.forItems(runner, 8, executor);
+        RangePublisher publisher = new RangePublisher(100);
+        CollectingSubscriber subscriber = new CollectingSubscriber(0);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertThat(publisher.requested.get(), equalTo(0L));
+
+        subscriber.subscription.request(3);
+        subscriber.received.acquire(3);
+
+        assertThat(publisher.requested.get(), equalTo(3L));
+        assertThat(subscriber.ids, contains("0", "1", "2"));
+
+        subscriber.subscription.cancel();
+        assertThat(publisher.cancelled, is(true));
+    }
+
+    @Test
+    public void validationFailureIsSignalledDownstream() throws Exception {
+        ValidationWorkflowRunner<PhenopacketOrBuilder> failing = new EchoRunner(5) {
+            @Override
+            public ValidationResults validate(PhenopacketOrBuilder item) {
+                throw new IllegalStateException("Boom");
+            }
+        };
+        ValidationProcessor<PhenopacketOrBuilder> processor = ValidationProcessor.forItems(failing, 2, executor);
+        RangePublisher publisher = new RangePublisher(10);
+        CollectingSubscriber subscriber = new CollectingSubscriber(10);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.done.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+        assertThat(publisher.cancelled, is(true));
+    }
+
+    /**
+     * Emits phenopackets with IDs {@code 0..count-1} synchronously on request.
+     */
+    private static class RangePublisher implements Flow.Publisher<PhenopacketOrBuilder> {
+
+        private final int count;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled = false;
+
+        private RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super PhenopacketOrBuilder> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next = 0;
+
+                @Override
+                public synchronized void request(long n) {
+                    requested.addAndGet(n);
+                    for (long i = 0; i < n && next < count && !cancelled; i++)
+                        subscriber.onNext(Phenopacket.newBuilder().setId(String.valueOf(next++)).build());
+                    if (next == count && !cancelled) {
+                        next++;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<ValidationResults> {
+
+        private final long batch;
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final Semaphore received = new Semaphore(0);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        /**
+         * @param batch number of results to request initially and after each result, or {@code 0} for manual requests.
+         */
+        private CollectingSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0)
+                subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(ValidationResults item) {
+            ids.add(item.validators().get(0).validatorId());
+            received.release();
+            if (batch > 0)
+                subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.phenopackets.phenopackettools.validator.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ValidationResultTest {
+
+    private static final ValidatorInfo INFO = ValidatorInfo.of("test", "Test validator", "A validator for testing");
+
+    @Test
+    public void templatedMessageIsRenderedOnceOnDemand() {
+        AtomicInteger renderings = new AtomicInteger();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                renderings.incrementAndGet();
+                return "HP:0001250";
+            }
+        };
+
+        ValidationResult result = ValidationResult.error(INFO, "category", "Term %s is obsolete", argument);
+
+        assertThat(renderings.get(), equalTo(0));
+        assertThat(result.message(), equalTo("Term HP:0001250 is obsolete"));
+        assertThat(result.message(), equalTo("Term HP:0001250 is obsolete"));
+        assertThat(renderings.get(), equalTo(1));
+    }
+
+    @Test
+    public void templatedResultEqualsResultWithRenderedMessage() {
+        ValidationResult templated = ValidationResult.templated(INFO, ValidationLevel.WARNING, "category", "/id", "'%s' is %d", "id", 1);
+        ValidationResult rendered = ValidationResult.of(INFO, ValidationLevel.WARNING, "category", "'id' is 1", "/id");
+
+        assertThat(templated, equalTo(rendered));
+        assertThat(templated.hashCode(), equalTo(rendered.hashCode()));
+        assertThat(templated.location().orElseThrow(), equalTo("/id"));
+    }
+}
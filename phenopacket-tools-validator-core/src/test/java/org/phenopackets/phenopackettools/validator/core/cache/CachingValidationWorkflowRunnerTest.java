@@ -0,0 +1,150 @@
+package org.phenopackets.phenopackettools.validator.core.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phenopackets.phenopackettools.validator.core.*;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CachingValidationWorkflowRunnerTest {
+
+    private static final ValidatorInfo INFO = ValidatorInfo.of("CountingValidator", "Counting validator", "Counts the validations");
+    private static final ValidationResults RESULTS = ValidationResults.of(List.of(INFO),
+            List.of(ValidationResult.error(INFO, "required", "'id' is missing but it is required")));
+
+    @Test
+    public void secondValidationIsServedFromCache() {
+        CountingRunner delegate = new CountingRunner();
+        CachingValidationWorkflowRunner<PhenopacketOrBuilder> runner = CachingValidationWorkflowRunner.of(delegate, ValidationResultsCache.inMemory(10), List.of());
+        byte[] payload = "{\"subject\": {}}".getBytes(StandardCharsets.UTF_8);
+
+        ValidationResults first = runner.validate(payload);
+        ValidationResults second = runner.validate(payload);
+
+        assertThat(delegate.count, equalTo(1));
+        assertThat(second, equalTo(first));
+    }
+
+    @Test
+    public void messageIsKeyedBySerializedForm() {
+        CountingRunner delegate = new CountingRunner();
+        CachingValidationWorkflowRunner<PhenopacketOrBuilder> runner = CachingValidationWorkflowRunner.of(delegate, ValidationResultsCache.inMemory(10), List.of());
+
+        runner.validate(Phenopacket.newBuilder().setId("A").build());
+        runner.validate(Phenopacket.newBuilder().setId("A"));
+        runner.validate(Phenopacket.newBuilder().setId("B").build());
+
+        assertThat(delegate.count, equalTo(2));
+    }
+
+    @Test
+    public void parsedItemIsKeyedByPayload() {
+        CountingRunner delegate = new CountingRunner();
+        CachingValidationWorkflowRunner<PhenopacketOrBuilder> runner = CachingValidationWorkflowRunner.of(delegate, ValidationResultsCache.inMemory(10), List.of());
+        byte[] payload = "{\"id\": \"A\"}".getBytes(StandardCharsets.UTF_8);
+        int[] parsed = {0};
+        Supplier<Phenopacket> parser = () -> {
+            parsed[0]++;
+            return Phenopacket.newBuilder().setId("A").build();
+        };
+
+        runner.validate(payload, parser);
+        runner.validate(payload, parser);
+        runner.validate(payload);
+
+        assertThat(parsed[0], equalTo(1));
+        // The payload validation does not share the results of the parsed item.
+        assertThat(delegate.count, equalTo(2));
+    }
+
+    @Test
+    public void configurationChangesTheKey() {
+        CountingRunner delegate = new CountingRunner();
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        String a = CachingValidationWorkflowRunner.of(delegate, ValidationResultsCache.inMemory(10), List.of("hp.json=2023-01-27")).key(payload);
+        String b = CachingValidationWorkflowRunner.of(delegate, ValidationResultsCache.inMemory(10), List.of("hp.json=2023-04-05")).key(payload);
+
+        assertThat(a, not(equalTo(b)));
+    }
+
+    @Test
+    public void policyChangesTheKey() {
+        CountingRunner exhaustive = new CountingRunner();
+        CountingRunner failFast = new CountingRunner() {
+            @Override
+            public ValidationPolicy policy() {
+                return ValidationPolicy.failFast();
+            }
+        };
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        String a = CachingValidationWorkflowRunner.of(exhaustive, ValidationResultsCache.inMemory(10), List.of()).key(payload);
+        String b = CachingValidationWorkflowRunner.of(failFast, ValidationResultsCache.inMemory(10), List.of()).key(payload);
+
+        assertThat(a, not(equalTo(b)));
+    }
+
+    @Test
+    public void inMemoryCacheEvictsLeastRecentlyUsed() {
+        ValidationResultsCache cache = ValidationResultsCache.inMemory(2);
+        cache.put("a", RESULTS);
+        cache.put("b", RESULTS);
+        cache.get("a");
+        cache.put("c", RESULTS);
+
+        assertThat(cache.get("a").isPresent(), equalTo(true));
+        assertThat(cache.get("b").isPresent(), equalTo(false));
+        assertThat(cache.get("c").isPresent(), equalTo(true));
+    }
+
+    @Test
+    public void diskCacheRoundTrip(@TempDir Path dir) {
+        ValidationResultsCache cache = ValidationResultsCache.onDisk(dir);
+        cache.put("abcdef", RESULTS);
+
+        Optional<ValidationResults> results = ValidationResultsCache.onDisk(dir).get("abcdef");
+
+        assertThat(results.isPresent(), equalTo(true));
+        assertThat(results.get().validators(), equalTo(RESULTS.validators()));
+        assertThat(results.get().validationResults(), equalTo(RESULTS.validationResults()));
+        assertThat(cache.get("012345").isPresent(), equalTo(false));
+    }
+
+    private static class CountingRunner implements ValidationWorkflowRunner<PhenopacketOrBuilder> {
+
+        private int count = 0;
+
+        @Override
+        public List<ValidatorInfo> validators() {
+            return List.of(INFO);
+        }
+
+        @Override
+        public ValidationResults validate(byte[] payload) {
+            count++;
+            return RESULTS;
+        }
+
+        @Override
+        public ValidationResults validate(String value) {
+            count++;
+            return RESULTS;
+        }
+
+        @Override
+        public ValidationResults validate(PhenopacketOrBuilder item) {
+            count++;
+            return RESULTS;
+        }
+    }
+}
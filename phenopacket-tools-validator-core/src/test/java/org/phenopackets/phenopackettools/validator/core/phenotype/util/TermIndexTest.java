@@ -0,0 +1,65 @@
+package org.phenopackets.phenopackettools.validator.core.phenotype.util;
+
+import org.junit.jupiter.api.Test;
+import org.monarchinitiative.phenol.ontology.algo.OntologyAlgorithm;
+import org.monarchinitiative.phenol.ontology.data.TermId;
+import org.phenopackets.phenopackettools.validator.core.TestData;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TermIndexTest {
+
+    private static final TermId ARACHNODACTYLY = TermId.of("HP:0001166");
+    private static final TermId ABNORMALITY_OF_LIMBS = TermId.of("HP:0040064");
+
+    @Test
+    public void indexIsSharedForTheSameOntology() {
+        assertThat(TermIndex.of(TestData.HPO), is(sameInstance(TermIndex.of(TestData.HPO))));
+    }
+
+    @Test
+    public void indexCoversNonObsoleteTerms() {
+        TermIndex index = TermIndex.of(TestData.HPO);
+
+        assertThat(index.size(), equalTo(TestData.HPO.getNonObsoleteTermIds().size()));
+    }
+
+    @Test
+    public void unknownTermIsNotIndexed() {
+        TermIndex index = TermIndex.of(TestData.HPO);
+
+        assertThat(index.indexOf(TermId.of("HP:9999999")), equalTo(-1));
+        assertThat(index.termId(index.indexOf(ARACHNODACTYLY)), equalTo(ARACHNODACTYLY));
+    }
+
+    @Test
+    public void strictAncestorsMatchTheOntology() {
+        TermIndex index = TermIndex.of(TestData.HPO);
+        int arachnodactyly = index.indexOf(ARACHNODACTYLY);
+
+        Set<TermId> ancestors = Arrays.stream(index.strictAncestors(arachnodactyly))
+                .mapToObj(index::termId)
+                .collect(Collectors.toSet());
+
+        assertThat(ancestors, equalTo(OntologyAlgorithm.getAncestorTerms(TestData.HPO, ARACHNODACTYLY, false)));
+        assertThat(index.isStrictAncestor(index.indexOf(ABNORMALITY_OF_LIMBS), arachnodactyly), is(true));
+        assertThat(index.isStrictAncestor(arachnodactyly, arachnodactyly), is(false));
+    }
+
+    @Test
+    public void termIdSetIsSortedAndDistinct() {
+        TermIdSet set = TermIdSet.of(new int[]{5, 1, 5, 3, 1, 99}, 5);
+
+        assertThat(set.size(), equalTo(3));
+        assertThat(set.get(0), equalTo(1));
+        assertThat(set.get(2), equalTo(5));
+        assertThat(set.contains(3), is(true));
+        assertThat(set.contains(99), is(false));
+        assertThat(TermIdSet.of(new int[3], 0), is(sameInstance(TermIdSet.empty())));
+    }
+}
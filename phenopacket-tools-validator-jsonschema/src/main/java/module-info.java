@@ -10,13 +10,18 @@
  */
 module org.phenopackets.phenopackettools.validator.jsonschema {
     requires org.phenopackets.phenopackettools.util;
+    requires org.phenopackets.phenopackettools.io;
+    requires com.google.protobuf;
     requires transitive org.phenopackets.phenopackettools.validator.core;
     requires org.phenopackets.schema;
     requires com.fasterxml.jackson.databind;
+    requires com.fasterxml.jackson.dataformat.yaml;
     requires json.schema.validator;
     requires org.slf4j;
+    requires jdk.jfr;
 
     exports org.phenopackets.phenopackettools.validator.jsonschema;
+    exports org.phenopackets.phenopackettools.validator.jsonschema.structural;
 
     opens org.phenopackets.phenopackettools.validator.jsonschema;
     opens org.phenopackets.phenopackettools.validator.jsonschema.v2;
@@ -1,6 +1,7 @@
 package org.phenopackets.phenopackettools.validator.jsonschema;
 
 import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
 import org.phenopackets.phenopackettools.validator.core.PhenopacketFormatConverter;
 import org.phenopackets.phenopackettools.validator.core.PhenopacketFormatConverters;
 import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
@@ -14,10 +15,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * A utility class that provides {@link JsonSchemaValidationWorkflowRunnerBuilder} implementations for top-level
@@ -32,36 +35,71 @@ abstract class BaseValidationWorkflowRunnerBuilder<T extends MessageOrBuilder> e
     @Override
     public JsonSchemaValidationWorkflowRunner<T> build() {
         List<JsonSchemaValidator> requirementValidators = readRequirementValidators(jsonSchemaUrls);
-        return new JsonSchemaValidationWorkflowRunner<>(getFormatConverter(),
+        return new JsonSchemaValidationWorkflowRunner<>(getElement(),
+                getFormatConverter(),
                 getBaseRequirementsValidator(),
                 getMetadataValidator(),
                 requirementValidators,
-                validators);
+                validators,
+                policy,
+                recordTimings);
     }
 
 
+    protected abstract PhenopacketElement getElement();
     protected abstract PhenopacketFormatConverter<T> getFormatConverter();
     protected abstract JsonSchemaValidator getBaseRequirementsValidator();
     protected abstract PhenopacketValidator<T> getMetadataValidator();
 
 
+    /**
+     * Read the requirement validators concurrently on the {@link #schemaLoadingExecutor}, while preserving the order
+     * of the {@code schemaUrls}. The schemas that cannot be read are skipped.
+     */
     private List<JsonSchemaValidator> readRequirementValidators(List<URL> schemaUrls) {
-        List<JsonSchemaValidator> requirementValidators = new ArrayList<>();
-        for (URL schemaUrl : schemaUrls) {
-            LOGGER.debug("Opening JSON schema at '{}'", schemaUrl);
-            try (InputStream is = schemaUrl.openStream()) {
-                JsonSchemaValidator validator = JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(is);
-                requirementValidators.add(validator);
-            } catch (IOException e) {
-                LOGGER.warn("Error when configuring requirement validator based on schema at {}: {}. See debug for more info", schemaUrl, e.getMessage());
-                LOGGER.debug("Error when configuring requirement validator based on schema at {}: {}", schemaUrl, e.getMessage(), e);
+        if (schemaUrls.isEmpty())
+            return List.of();
+        if (schemaUrls.size() == 1)
+            return readRequirementValidator(schemaUrls.get(0)).stream().toList();
+
+        List<CompletableFuture<Optional<JsonSchemaValidator>>> futures = new ArrayList<>(schemaUrls.size());
+        for (URL schemaUrl : schemaUrls)
+            futures.add(CompletableFuture.supplyAsync(() -> readRequirementValidator(schemaUrl), schemaLoadingExecutor));
+
+        List<JsonSchemaValidator> requirementValidators = new ArrayList<>(schemaUrls.size());
+        for (CompletableFuture<Optional<JsonSchemaValidator>> future : futures) {
+            try {
+                future.join().ifPresent(requirementValidators::add);
+            } catch (CompletionException e) {
+                // Rethrow the failure of the validator construction as if it happened on the calling thread.
+                if (e.getCause() instanceof RuntimeException re)
+                    throw re;
+                if (e.getCause() instanceof Error err)
+                    throw err;
+                throw e;
             }
         }
         return requirementValidators;
     }
 
+    private static Optional<JsonSchemaValidator> readRequirementValidator(URL schemaUrl) {
+        LOGGER.debug("Opening JSON schema at '{}'", schemaUrl);
+        try {
+            return Optional.of(JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(schemaUrl));
+        } catch (IOException e) {
+            LOGGER.warn("Error when configuring requirement validator based on schema at {}: {}. See debug for more info", schemaUrl, e.getMessage());
+            LOGGER.debug("Error when configuring requirement validator based on schema at {}: {}", schemaUrl, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
     static class PhenopacketWorkflowRunnerBuilder extends BaseValidationWorkflowRunnerBuilder<PhenopacketOrBuilder> {
 
+        @Override
+        protected PhenopacketElement getElement() {
+            return PhenopacketElement.PHENOPACKET;
+        }
+
         @Override
         protected PhenopacketFormatConverter<PhenopacketOrBuilder> getFormatConverter() {
             return PhenopacketFormatConverters.phenopacketConverter();
@@ -79,6 +117,12 @@ abstract class BaseValidationWorkflowRunnerBuilder<T extends MessageOrBuilder> e
     }
 
     static class FamilyWorkflowRunnerBuilder extends BaseValidationWorkflowRunnerBuilder<FamilyOrBuilder> {
+
+        @Override
+        protected PhenopacketElement getElement() {
+            return PhenopacketElement.FAMILY;
+        }
+
         @Override
         protected PhenopacketFormatConverter<FamilyOrBuilder> getFormatConverter() {
             return PhenopacketFormatConverters.familyConverter();
@@ -97,6 +141,12 @@ abstract class BaseValidationWorkflowRunnerBuilder<T extends MessageOrBuilder> e
 
 
     static class CohortWorkflowRunnerBuilder extends BaseValidationWorkflowRunnerBuilder<CohortOrBuilder> {
+
+        @Override
+        protected PhenopacketElement getElement() {
+            return PhenopacketElement.COHORT;
+        }
+
         @Override
         protected PhenopacketFormatConverter<CohortOrBuilder> getFormatConverter() {
             return PhenopacketFormatConverters.cohortConverter();
@@ -3,19 +3,25 @@ package org.phenopackets.phenopackettools.validator.jsonschema;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.google.protobuf.MessageOrBuilder;
 import org.phenopackets.phenopackettools.util.format.FormatSniffer;
+import org.phenopackets.phenopackettools.core.PhenopacketElement;
 import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.core.metrics.MetricNames;
+import org.phenopackets.phenopackettools.core.metrics.Metrics;
+import org.phenopackets.phenopackettools.core.metrics.MetricsRegistry;
 import org.phenopackets.phenopackettools.validator.core.*;
 import org.phenopackets.phenopackettools.validator.jsonschema.impl.JsonSchemaValidator;
 import org.phenopackets.schema.v2.CohortOrBuilder;
 import org.phenopackets.schema.v2.FamilyOrBuilder;
 import org.phenopackets.schema.v2.PhenopacketOrBuilder;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Validates if given top-level element satisfies the following criteria:
@@ -31,6 +37,13 @@ import java.util.Objects;
  * The validation is performed in the order as outlined above. Note that the data format validation must
  * pass in order for the latter steps to run.
  * <p>
+ * The {@link ValidationPolicy} decides if the validation can stop early, e.g. at the first {@link ValidationLevel#ERROR}.
+ * If so, the base validation is run first, followed by the remaining validators ordered by {@link ValidatorCost}.
+ * The validators that were not run are reported in {@link ValidationResults#skippedValidators()}.
+ * <p>
+ * If requested, the runner records the wall time, the number of results, and the input size for each validator
+ * and reports them in {@link ValidationResults#timings()}.
+ * <p>
  * Use one of {@link JsonSchemaValidationWorkflowRunnerBuilder}s provided via static constructors (e.g. {@link #phenopacketBuilder()}) to build
  * the validation workflow.
  *
@@ -40,12 +53,17 @@ import java.util.Objects;
  */
 public class JsonSchemaValidationWorkflowRunner<T extends MessageOrBuilder> implements ValidationWorkflowRunner<T> {
 
+    // The number of the leading characters used for sniffing the format of a `String` input.
+    private static final int SNIFF_LENGTH = 32;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper yamlMapper = new YAMLMapper();
+    private final PhenopacketElement element;
     private final PhenopacketFormatConverter<T> converter;
     private final JsonSchemaValidator baseValidator;
-    private final PhenopacketValidator<T> metadataValidator;
-    private final Collection<JsonSchemaValidator> requirementValidators;
-    private final Collection<PhenopacketValidator<T>> validators;
+    private final ValidationPolicy policy;
+    private final boolean recordTimings;
+    private final List<Step<T>> steps;
     private final List<ValidatorInfo> validatorInfos;
 
     /**
@@ -72,19 +90,48 @@ public class JsonSchemaValidationWorkflowRunner<T extends MessageOrBuilder> impl
         return new BaseValidationWorkflowRunnerBuilder.CohortWorkflowRunnerBuilder();
     }
 
-    JsonSchemaValidationWorkflowRunner(PhenopacketFormatConverter<T> converter,
+    JsonSchemaValidationWorkflowRunner(PhenopacketElement element,
+                                       PhenopacketFormatConverter<T> converter,
                                        JsonSchemaValidator baseValidator,
                                        PhenopacketValidator<T> metadataValidator,
                                        Collection<JsonSchemaValidator> requirementValidators,
-                                       Collection<PhenopacketValidator<T>> validators) {
+                                       Collection<PhenopacketValidator<T>> validators,
+                                       ValidationPolicy policy,
+                                       boolean recordTimings) {
+        this.element = Objects.requireNonNull(element);
         this.converter = Objects.requireNonNull(converter);
         this.baseValidator = Objects.requireNonNull(baseValidator);
-        this.metadataValidator = Objects.requireNonNull(metadataValidator);
-        this.requirementValidators = Objects.requireNonNull(requirementValidators);
-        this.validators = Objects.requireNonNull(validators);
+        this.policy = Objects.requireNonNull(policy);
+        this.recordTimings = recordTimings;
+        this.steps = prepareSteps(Objects.requireNonNull(metadataValidator),
+                Objects.requireNonNull(requirementValidators),
+                Objects.requireNonNull(validators),
+                policy);
         this.validatorInfos = summarizeValidatorInfos(baseValidator, metadataValidator, requirementValidators, validators);
     }
 
+    /**
+     * Prepare the validation steps that follow the base validation. The steps are run in the order of addition
+     * unless the {@code policy} allows stopping early. In that case, the cheap steps are run first.
+     */
+    private static <T extends MessageOrBuilder> List<Step<T>> prepareSteps(PhenopacketValidator<T> metadataValidator,
+                                                                         Collection<JsonSchemaValidator> requirements,
+                                                                         Collection<PhenopacketValidator<T>> validators,
+                                                                         ValidationPolicy policy) {
+        List<Step<T>> steps = new ArrayList<>();
+        steps.add(Step.of(metadataValidator, false));
+        for (JsonSchemaValidator validator : requirements)
+            steps.add(new Step<>(validator.validatorInfo(), ValidatorCost.MEDIUM, false, (node, context) -> validator.validate(node)));
+        for (PhenopacketValidator<T> validator : validators)
+            steps.add(Step.of(validator, true));
+
+        if (!policy.isExhaustive())
+            // The sort is stable, the steps with the same cost keep the order of addition.
+            steps.sort(Comparator.comparing(Step::cost));
+
+        return List.copyOf(steps);
+    }
+
     private static <T extends MessageOrBuilder> List<ValidatorInfo> summarizeValidatorInfos(JsonSchemaValidator base,
                                                                                             PhenopacketValidator<T> metadataValidator,
                                                                                             Collection<JsonSchemaValidator> requirements,
@@ -109,97 +156,285 @@ public class JsonSchemaValidationWorkflowRunner<T extends MessageOrBuilder> impl
         return validatorInfos;
     }
 
+    @Override
+    public ValidationPolicy policy() {
+        return policy;
+    }
+
     @Override
     public ValidationResults validate(byte[] payload) {
-        ValidationResults.Builder builder = ValidationResults.builder();
+        PhenopacketFormat format = FormatSniffer.sniff(payload);
+        return switch (format) {
+            case JSON -> validateJson(new String(payload, StandardCharsets.UTF_8));
+            case YAML -> validateYaml(new String(payload, StandardCharsets.UTF_8), payload.length);
+            case PROTOBUF -> {
+                String json;
+                try {
+                    json = converter.toJson(payload);
+                } catch (ConversionException e) {
+                    // data format validation failed - we cannot proceed without a valid JSON string.
+                    yield wrapUpValidation(e, new Run(payload.length));
+                }
+                yield validateJson(json);
+            }
+        };
+    }
 
-        String json;
+    @Override
+    public ValidationResults validate(String value) {
+        return looksLikeYaml(value)
+                ? validateYaml(value, value.length())
+                : validateJson(value);
+    }
+
+    private ValidationResults validateJson(String json) {
+        Run run = new Run(json.length());
+
+        T component;
+        JsonNode jsonNode;
         try {
-            json = parseToString(payload);
+            component = converter.toItem(json);
+            jsonNode = readTree(json);
         } catch (ConversionException e) {
-            // data format validation failed - we cannot proceed without a valid JSON string.
-            return wrapUpValidation(e, builder);
+            // We must not proceed with validation of an item that does not meet the data format requirements.
+            return wrapUpValidation(e, run);
         }
 
-        return validate(json);
+        return runValidation(jsonNode, component, run);
     }
 
     @Override
-    public ValidationResults validate(String json) {
-        ValidationResults.Builder builder = ValidationResults.builder();
+    public ValidationResults validate(T item) {
+        String json = converter.toJson(item);
+        Run run = new Run(json.length());
+        JsonNode jsonNode;
+        try {
+            jsonNode = readTree(json);
+        } catch (ConversionException e) {
+            return wrapUpValidation(e, run);
+        }
+
+        return runValidation(jsonNode, item, run);
+    }
+
+    /**
+     * Validate a {@code jsonNode} that has already been read, e.g. a member of a streamed cohort.
+     * The {@code onItem} receives the component decoded from the node if the decoding succeeds.
+     */
+    ValidationResults validate(JsonNode jsonNode, Consumer<? super T> onItem) {
+        String json = jsonNode.toString();
+        Run run = new Run(json.length());
 
         T component;
         try {
             component = converter.toItem(json);
-            validateRequirements(json, component, builder);
         } catch (ConversionException e) {
-            // We must not proceed with semantic validation with item that does not meet the requirements.
-            return wrapUpValidation(e, builder);
+            return wrapUpValidation(e, run);
         }
+        onItem.accept(component);
 
-        return runValidation(component, builder);
+        return runValidation(jsonNode, component, run);
     }
 
-    @Override
-    public ValidationResults validate(T item) {
-        ValidationResults.Builder builder = ValidationResults.builder();
-
-        String json = converter.toJson(item);
+    /**
+     * Validate a YAML document that is parsed only once, into the {@link JsonNode} used by the schema validators.
+     * The protobuf message is decoded from the node.
+     */
+    private ValidationResults validateYaml(String yaml, int inputSize) {
+        Run run = new Run(inputSize);
 
+        JsonNode jsonNode;
+        T component;
         try {
-            validateRequirements(json, item, builder);
+            jsonNode = readYamlTree(yaml);
+            // The protobuf JSON parser reads only text, the compact rendering of the node is much cheaper than parsing YAML.
+            component = converter.toItem(jsonNode.toString());
         } catch (ConversionException e) {
-            // We must not proceed with semantic validation with item that does not meet the requirements.
-            return wrapUpValidation(e, builder);
+            return wrapUpValidation(e, run);
         }
 
-        // No conversion necessary, hence no need to guard against the `ConversionException`.
-        return runValidation(item, builder);
+        return runValidation(jsonNode, component, run);
     }
 
-    private String parseToString(byte[] payload) throws ConversionException {
-        PhenopacketFormat format = FormatSniffer.sniff(payload);
-        return switch (format) {
-            case JSON, YAML -> new String(payload);
-            case PROTOBUF -> converter.toJson(payload);
-        };
+    private static boolean looksLikeYaml(String value) {
+        // The sniffer needs only the first few characters.
+        String head = value.length() > SNIFF_LENGTH ? value.substring(0, SNIFF_LENGTH) : value;
+        return FormatSniffer.sniff(head.getBytes(StandardCharsets.UTF_8)) == PhenopacketFormat.YAML;
+    }
+
+    /**
+     * @throws ConversionException if {@code yaml} is not a YAML document with a mapping
+     */
+    private JsonNode readYamlTree(String yaml) throws ConversionException {
+        JsonNode node;
+        try {
+            node = yamlMapper.readTree(yaml);
+        } catch (JsonProcessingException e) {
+            // data format validation failed - the `String` cannot be parsed into a `JsonNode`.
+            throw new ConversionException(e);
+        }
+        if (node == null || !node.isObject())
+            throw new ConversionException(new IllegalArgumentException("Expected a YAML mapping but got " + node));
+        return node;
     }
 
     /**
-     * Validate the requirements using {@link #baseValidator} and all {@link #requirementValidators}.
-     *
      * @throws ConversionException if {@code json} cannot be mapped into {@link JsonNode}
      */
-    private void validateRequirements(String json, T component, ValidationResults.Builder builder) throws ConversionException {
-        JsonNode jsonNode;
+    private JsonNode readTree(String json) throws ConversionException {
         try {
-            jsonNode = objectMapper.readTree(json);
+            return objectMapper.readTree(json);
         } catch (JsonProcessingException e) {
             // data format validation failed - the `String` cannot be parsed into a `JsonNode`.
             throw new ConversionException(e);
         }
+    }
 
-        builder.addResults(baseValidator.validatorInfo(), baseValidator.validate(jsonNode));
-        builder.addResults(metadataValidator.validatorInfo(), metadataValidator.validate(component));
+    /**
+     * Run the base validation followed by the {@link #steps}, as long as the {@link #policy} allows.
+     */
+    private ValidationResults runValidation(JsonNode jsonNode, T component, Run run) {
+        // The context is shared by all steps to avoid deriving the same data from the component repeatedly.
+        ValidationContext<T> context = ValidationContext.of(component);
+        boolean proceed = run.run(baseValidator.validatorInfo(), () -> baseValidator.validate(jsonNode));
+        boolean skipSemantic = policy.skipSemanticOnBaseErrors() && run.hasErrors();
 
-        for (JsonSchemaValidator validator : requirementValidators) {
-            builder.addResults(validator.validatorInfo(), validator.validate(jsonNode));
+        for (Step<T> step : steps) {
+            if (!proceed || (step.semantic() && skipSemantic)) {
+                run.skip(step.info());
+                continue;
+            }
+            proceed = run.run(step.info(), () -> step.validator().apply(jsonNode, context));
         }
+
+        return run.build();
+    }
+
+    private ValidationResults wrapUpValidation(ConversionException e, Run run) {
+        Metrics.registry().counter(MetricNames.CONVERSION_FAILURES, MetricNames.VALIDATOR, e.validatorInfo().validatorId())
+                .increment();
+        run.add(e.validatorInfo(), List.of(e));
+        // None of the validators could run.
+        run.skip(baseValidator.validatorInfo());
+        for (Step<T> step : steps)
+            run.skip(step.info());
+        return run.build();
     }
 
     /**
-     * Validate the requirements by applying {@link #validators}.
+     * A validation step that follows the base validation.
+     *
+     * @param semantic {@code true} if the step was added by the user as a {@link PhenopacketValidator}.
      */
-    private ValidationResults runValidation(T component, ValidationResults.Builder builder) {
-        for (PhenopacketValidator<T> validator : validators)
-            builder.addResults(validator.validatorInfo(), validator.validate(component));
+    private record Step<T extends MessageOrBuilder>(ValidatorInfo info,
+                                                   ValidatorCost cost,
+                                                   boolean semantic,
+                                                   BiFunction<JsonNode, ValidationContext<T>, List<ValidationResult>> validator) {
 
-        return builder.build();
+        private static <T extends MessageOrBuilder> Step<T> of(PhenopacketValidator<T> validator, boolean semantic) {
+            return new Step<>(validator.validatorInfo(), validator.cost(), semantic, (node, context) -> validator.validate(context));
+        }
     }
 
-    private static ValidationResults wrapUpValidation(ConversionException e, ValidationResults.Builder builder) {
-        return builder.addResult(e.validatorInfo(), e)
-                .build();
+    /**
+     * Accumulates the results of a single validation and keeps track of the {@link #policy}.
+     */
+    private class Run {
+
+        private final ValidationResults.Builder builder = ValidationResults.builder();
+        // Checked once per run to skip the registry lookups when the metrics are not reported.
+        private final boolean metricsEnabled = Metrics.isEnabled();
+        private final MetricsRegistry metrics = Metrics.registry();
+        private final int inputSize;
+        private int nResults = 0;
+        private boolean hasErrors = false;
+
+        private Run(int inputSize) {
+            this.inputSize = inputSize;
+        }
+
+        /**
+         * Run the {@code validator} and add the results, recording the timing if requested.
+         *
+         * @return {@code true} if the validation can continue.
+         */
+        private boolean run(ValidatorInfo info, Supplier<List<ValidationResult>> validator) {
+            ValidatorRunEvent event = new ValidatorRunEvent();
+            if (!recordTimings && !metricsEnabled && !event.isEnabled())
+                // Nobody is interested in the timing.
+                return add(info, validator.get());
+
+            event.begin();
+            long start = System.nanoTime();
+            List<ValidationResult> results = validator.get();
+            long elapsed = System.nanoTime() - start;
+            event.end();
+
+            int before = nResults;
+            boolean proceed = add(info, results);
+            int added = nResults - before;
+
+            if (recordTimings)
+                builder.addTiming(ValidatorTiming.of(info, elapsed, added, inputSize));
+            if (metricsEnabled)
+                metrics.timer(MetricNames.VALIDATOR_DURATION, MetricNames.VALIDATOR, info.validatorId())
+                        .record(elapsed);
+            if (event.shouldCommit()) {
+                event.element = element.name();
+                event.validatorId = info.validatorId();
+                event.results = added;
+                event.size = inputSize;
+                event.commit();
+            }
+            return proceed;
+        }
+
+        /**
+         * Add the {@code results}, possibly truncated due to the {@link #policy}.
+         *
+         * @return {@code true} if the validation can continue.
+         */
+        private boolean add(ValidatorInfo info, List<ValidationResult> results) {
+            boolean stop = false;
+
+            int budget = policy.maxResults() - nResults;
+            if (results.size() >= budget) {
+                results = results.subList(0, budget);
+                stop = true;
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).level().isError()) {
+                    hasErrors = true;
+                    if (policy.stopAtFirstError()) {
+                        results = results.subList(0, i + 1);
+                        stop = true;
+                        break;
+                    }
+                }
+            }
+
+            builder.addResults(info, results);
+            nResults += results.size();
+            if (metricsEnabled) {
+                for (ValidationResult result : results)
+                    metrics.counter(MetricNames.VALIDATION_RESULTS, MetricNames.LEVEL, result.level().name(), MetricNames.VALIDATOR, info.validatorId())
+                            .increment();
+            }
+            return !stop;
+        }
+
+        private void skip(ValidatorInfo info) {
+            builder.addSkippedValidator(info);
+        }
+
+        private boolean hasErrors() {
+            return hasErrors;
+        }
+
+        private ValidationResults build() {
+            return builder.build();
+        }
     }
 
 }
@@ -2,6 +2,8 @@ package org.phenopackets.phenopackettools.validator.jsonschema;
 
 import com.google.protobuf.MessageOrBuilder;
 import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.phenopackettools.validator.core.ValidationPolicy;
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
 import org.phenopackets.phenopackettools.validator.core.ValidationWorkflowRunnerBuilder;
 
 import java.net.MalformedURLException;
@@ -9,6 +11,9 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A builder for {@link JsonSchemaValidationWorkflowRunner}.
@@ -22,6 +27,9 @@ import java.util.List;
 public abstract class JsonSchemaValidationWorkflowRunnerBuilder<T extends MessageOrBuilder> extends ValidationWorkflowRunnerBuilder<T> {
 
     protected final List<URL> jsonSchemaUrls = new ArrayList<>();
+    protected ValidationPolicy policy = ValidationPolicy.exhaustive();
+    protected boolean recordTimings = false;
+    protected Executor schemaLoadingExecutor = ForkJoinPool.commonPool();
 
     protected JsonSchemaValidationWorkflowRunnerBuilder() {
         // private no-op
@@ -76,6 +84,43 @@ public abstract class JsonSchemaValidationWorkflowRunnerBuilder<T extends Messag
         return this;
     }
 
+    /**
+     * Set the policy for stopping the validation early. All validators are run by default.
+     *
+     * @param policy the validation policy
+     * @return the builder
+     * @see ValidationPolicy#exhaustive()
+     */
+    public JsonSchemaValidationWorkflowRunnerBuilder<T> validationPolicy(ValidationPolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
+        return this;
+    }
+
+    /**
+     * Record wall time, the number of results, and the input size for each validator run.
+     * The timings are not recorded by default.
+     *
+     * @param recordTimings {@code true} if the timings should be recorded
+     * @return the builder
+     * @see ValidationResults#timings()
+     */
+    public JsonSchemaValidationWorkflowRunnerBuilder<T> recordTimings(boolean recordTimings) {
+        this.recordTimings = recordTimings;
+        return this;
+    }
+
+    /**
+     * Set the executor for reading the JSON schema documents concurrently.
+     * The {@link ForkJoinPool#commonPool()} is used by default. The executor is not shut down by the builder.
+     *
+     * @param executor the executor for reading the JSON schemas
+     * @return the builder
+     */
+    public JsonSchemaValidationWorkflowRunnerBuilder<T> schemaLoadingExecutor(Executor executor) {
+        this.schemaLoadingExecutor = Objects.requireNonNull(executor);
+        return this;
+    }
+
     /**
      * Finish building the {@link JsonSchemaValidationWorkflowRunner}.
      *
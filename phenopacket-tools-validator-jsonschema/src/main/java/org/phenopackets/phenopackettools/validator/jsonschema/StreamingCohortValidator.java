@@ -0,0 +1,162 @@
+package org.phenopackets.phenopackettools.validator.jsonschema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.io.StreamingCohortReader;
+import org.phenopackets.phenopackettools.validator.core.*;
+import org.phenopackets.phenopackettools.validator.core.metadata.MetaDataValidators;
+import org.phenopackets.phenopackettools.validator.jsonschema.impl.JsonSchemaValidator;
+import org.phenopackets.phenopackettools.validator.jsonschema.v2.JsonSchemaValidatorConfigurer;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.CohortOrBuilder;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+import org.phenopackets.schema.v2.core.OntologyClass;
+import org.phenopackets.schema.v2.core.PhenotypicFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Validates a {@link Cohort} member by member while reading the cohort document, without materializing
+ * the entire cohort in memory.
+ * <p>
+ * Each member is validated by a {@link JsonSchemaValidationWorkflowRunner} for phenopackets as soon as it is read,
+ * and the results are passed to a {@link MemberResultsHandler}. Therefore, the memory needed for the validation
+ * is proportional to the size of the largest member rather than to the size of the cohort.
+ * <p>
+ * The cohort-level checks are run after reading the entire document and their results are returned
+ * by {@link #validate(InputStream, PhenopacketFormat, MemberResultsHandler)}:
+ * <ul>
+ *     <li>the base requirements of the cohort, such as presence of the {@code id}, the {@code metaData},
+ *     and at least one member,</li>
+ *     <li>the check that the cohort {@code metaData} describes the ontologies used by the members.
+ *     Unlike {@link MetaDataValidators#cohortValidator()}, each offending ontology class ID is reported once.</li>
+ * </ul>
+ * The custom requirements and validators of a cohort workflow are not applied, use the phenopacket workflow
+ * of the members to check the custom requirements.
+ */
+public class StreamingCohortValidator {
+
+    private final JsonSchemaValidationWorkflowRunner<PhenopacketOrBuilder> memberRunner;
+    private final JsonSchemaValidator headerValidator;
+    private final PhenopacketValidator<CohortOrBuilder> metaDataValidator;
+
+    /**
+     * @param memberRunner the runner for validating the cohort members
+     */
+    public static StreamingCohortValidator of(JsonSchemaValidationWorkflowRunner<PhenopacketOrBuilder> memberRunner) {
+        return new StreamingCohortValidator(memberRunner);
+    }
+
+    private StreamingCohortValidator(JsonSchemaValidationWorkflowRunner<PhenopacketOrBuilder> memberRunner) {
+        this.memberRunner = Objects.requireNonNull(memberRunner);
+        this.headerValidator = JsonSchemaValidatorConfigurer.getBaseCohortHeaderValidator();
+        this.metaDataValidator = MetaDataValidators.cohortValidator();
+    }
+
+    /**
+     * Validate the cohort document from the input stream.
+     *
+     * @param is the input stream with the cohort document. The stream is not closed.
+     * @param format the format of the document, either {@link PhenopacketFormat#JSON} or {@link PhenopacketFormat#YAML}
+     * @param handler the handler of the member validation results
+     * @return the results of the cohort-level validation
+     * @throws IOException if the document cannot be read
+     */
+    public ValidationResults validate(InputStream is,
+                                      PhenopacketFormat format,
+                                      MemberResultsHandler handler) throws IOException {
+        ValidationResults.Builder builder = ValidationResults.builder();
+        // The distinct IDs are retained for the deferred check, as the cohort `metaData` can follow the members.
+        Set<String> ontologyClassIds = new LinkedHashSet<>();
+
+        StreamingCohortReader.CohortHeader header;
+        try {
+            header = StreamingCohortReader.of(format).readNodes(is, (index, member) -> {
+                ValidationResults results = memberRunner.validate(member, phenopacket -> collectOntologyClassIds(phenopacket, ontologyClassIds));
+                handler.handle(index, member.path("id").asText(""), results);
+            });
+        } catch (JsonProcessingException e) {
+            // The document is malformed, none of the cohort-level validators can run.
+            ConversionException ce = new ConversionException(e);
+            return builder.addResult(ce.validatorInfo(), ce)
+                    .addSkippedValidator(headerValidator.validatorInfo())
+                    .addSkippedValidator(metaDataValidator.validatorInfo())
+                    .build();
+        }
+
+        builder.addResults(headerValidator.validatorInfo(), headerValidator.validate(withMembersPlaceholder(header)));
+
+        CohortOrBuilder cohort;
+        try {
+            cohort = PhenopacketFormatConverters.cohortConverter().toItem(header.fields().toString());
+        } catch (ConversionException e) {
+            return builder.addResult(e.validatorInfo(), e)
+                    .addSkippedValidator(metaDataValidator.validatorInfo())
+                    .build();
+        }
+        builder.addResults(metaDataValidator.validatorInfo(), metaDataValidator.validate(withOntologyClasses(cohort, ontologyClassIds)));
+
+        return builder.build();
+    }
+
+    /**
+     * The header validator checks the number of the members but not the members themselves,
+     * hence a single placeholder is enough to represent a non-empty {@code members} array.
+     */
+    private static ObjectNode withMembersPlaceholder(StreamingCohortReader.CohortHeader header) {
+        ObjectNode node = header.fields().deepCopy();
+        if (header.hasMembers()) {
+            ArrayNode members = node.putArray("members");
+            if (header.memberCount() > 0)
+                members.addObject();
+        }
+        return node;
+    }
+
+    /**
+     * Represent the ontology classes used by the members with a single synthetic member of a cohort
+     * with the original {@code metaData} to check them with the cohort {@link MetaDataValidators#cohortValidator()}.
+     */
+    private static Cohort withOntologyClasses(CohortOrBuilder cohort, Set<String> ontologyClassIds) {
+        Phenopacket.Builder member = Phenopacket.newBuilder();
+        for (String id : ontologyClassIds)
+            member.addPhenotypicFeatures(PhenotypicFeature.newBuilder()
+                    .setType(OntologyClass.newBuilder().setId(id)));
+        return Cohort.newBuilder()
+                .setMetaData(cohort.getMetaData())
+                .addMembers(member)
+                .build();
+    }
+
+    private static void collectOntologyClassIds(Object o, Set<String> ids) {
+        if (o instanceof OntologyClass oc) {
+            ids.add(oc.getId());
+        } else if (o instanceof MessageOrBuilder message) {
+            for (Object value : message.getAllFields().values())
+                collectOntologyClassIds(value, ids);
+        } else if (o instanceof Collection<?> collection) {
+            for (Object value : collection)
+                collectOntologyClassIds(value, ids);
+        }
+    }
+
+    /**
+     * Handler of the validation results of the cohort members.
+     */
+    @FunctionalInterface
+    public interface MemberResultsHandler {
+
+        /**
+         * @param index 0-based index of the member in the {@code members} array
+         * @param memberId the member {@code id} or an empty string if the {@code id} is missing
+         * @param results the validation results of the member
+         */
+        void handle(int index, String memberId, ValidationResults results);
+    }
+}
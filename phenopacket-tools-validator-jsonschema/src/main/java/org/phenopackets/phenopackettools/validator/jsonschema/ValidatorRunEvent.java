@@ -0,0 +1,30 @@
+package org.phenopackets.phenopackettools.validator.jsonschema;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event emitted by {@link JsonSchemaValidationWorkflowRunner} for each validator run.
+ */
+@Name("org.phenopackets.phenopackettools.ValidatorRun")
+@Label("Validator Run")
+@Description("Running a validator on a top-level element of the Phenopacket schema")
+@Category({"Phenopacket Tools", "Validation"})
+@StackTrace(false)
+class ValidatorRunEvent extends Event {
+
+    @Label("Element")
+    String element;
+
+    @Label("Validator ID")
+    String validatorId;
+
+    @Label("Results")
+    @Description("The number of reported validation results")
+    int results;
+
+    @Label("Size")
+    @Description("The size of the validated input, e.g. the number of characters of the JSON document")
+    @DataAmount
+    long size;
+
+}
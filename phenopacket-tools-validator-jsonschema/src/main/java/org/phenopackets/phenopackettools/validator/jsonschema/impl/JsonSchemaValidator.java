@@ -3,17 +3,16 @@ package org.phenopackets.phenopackettools.validator.jsonschema.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
+import org.phenopackets.phenopackettools.validator.core.ValidationLevel;
 import org.phenopackets.phenopackettools.validator.core.ValidationResult;
 import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.util.Set;
 
 /**
  * {@link JsonSchemaValidator} applies a single {@link JsonSchema}
@@ -23,7 +22,9 @@ import java.util.stream.Stream;
 public class JsonSchemaValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonSchemaValidator.class);
-    private static final Pattern VALIDATION_MSG_PT = Pattern.compile("^\\$\\.(?<location>[\\w\\[\\].]+):(?<msg>.*)$");
+    private static final String ROOT = "$";
+    // The keywords whose path points to the parent of the offending property, the property is the first argument.
+    private static final Set<String> PROPERTY_KEYWORDS = Set.of("required", "additionalProperties", "dependencies", "dependentRequired");
 
     private final JsonSchema jsonSchema;
     private final ValidatorInfo validatorInfo;
@@ -38,22 +39,78 @@ public class JsonSchemaValidator {
     }
 
     public List<ValidationResult> validate(JsonNode node) {
-        return jsonSchema.validate(node).stream()
-                .flatMap(validationMessageIntoValidationResult())
-                .toList();
+        Set<ValidationMessage> messages = jsonSchema.validate(node);
+        List<ValidationResult> results = new ArrayList<>(messages.size());
+        for (ValidationMessage message : messages)
+            results.add(toValidationResult(message));
+        return results;
     }
 
-    private Function<ValidationMessage, Stream<ValidationResult>> validationMessageIntoValidationResult() {
-        return res -> {
-            Matcher matcher = VALIDATION_MSG_PT.matcher(res.getMessage());
-            if (matcher.matches()) {
-                String msg = "'%s'%s".formatted(matcher.group("location"), matcher.group("msg"));
-                return Stream.of(ValidationResult.error(validatorInfo, res.getType(), msg));
-            } else {
-                LOGGER.warn("Non-matching validation message: {}", res.getMessage());
-                return Stream.empty();
+    /**
+     * Map the {@code message} using the path, type, and arguments reported by the library.
+     * <p>
+     * The message text starts with the location of the offending element, e.g. {@code $.subject.id: is missing...}.
+     * The location is the path of the element, or the path of the parent element followed by the property name
+     * for the keywords that report the missing or the unexpected properties.
+     */
+    private ValidationResult toValidationResult(ValidationMessage message) {
+        String location = location(message);
+        String text = message.getMessage();
+        if (text.length() > location.length() && text.startsWith(location) && text.charAt(location.length()) == ':') {
+            int detailStart = location.length() + 1;
+            if (ROOT.equals(location)) {
+                while (detailStart < text.length() && Character.isWhitespace(text.charAt(detailStart)))
+                    detailStart++;
+                return ValidationResult.templated(validatorInfo, ValidationLevel.ERROR, message.getType(), toJsonPointer(location),
+                        "%s", new Substring(text, detailStart));
             }
-        };
+            return ValidationResult.templated(validatorInfo, ValidationLevel.ERROR, message.getType(), toJsonPointer(location),
+                    "'%s'%s", new Substring(location, ROOT.length() + 1), new Substring(text, detailStart));
+        } else {
+            // Keep the message as is rather than dropping it, and point to the reported path.
+            LOGGER.debug("Unexpected validation message format: {}", text);
+            return ValidationResult.of(validatorInfo, ValidationLevel.ERROR, message.getType(), text, toJsonPointer(message.getPath()));
+        }
+    }
+
+    private static String location(ValidationMessage message) {
+        String path = message.getPath();
+        String[] arguments = message.getArguments();
+        if (PROPERTY_KEYWORDS.contains(message.getType()) && arguments != null && arguments.length > 0)
+            return path + '.' + arguments[0];
+        return path;
+    }
+
+    /**
+     * Convert the location, such as {@code $.phenotypicFeatures[0].type}, into JSON pointer,
+     * such as {@code /phenotypicFeatures/0/type}.
+     */
+    static String toJsonPointer(String location) {
+        StringBuilder pointer = new StringBuilder(location.length());
+        // Skip the `$` root.
+        for (int i = ROOT.length(); i < location.length(); i++) {
+            char c = location.charAt(i);
+            switch (c) {
+                case '.', '[' -> pointer.append('/');
+                case ']' -> {
+                    // The end of an array index.
+                }
+                case '~' -> pointer.append("~0");
+                case '/' -> pointer.append("~1");
+                default -> pointer.append(c);
+            }
+        }
+        return pointer.toString();
+    }
+
+    /**
+     * The tail of the {@code text} that is extracted only when the message is rendered.
+     */
+    private record Substring(String text, int start) {
+        @Override
+        public String toString() {
+            return text.substring(start);
+        }
     }
 
 }
@@ -0,0 +1,180 @@
+package org.phenopackets.phenopackettools.validator.jsonschema.structural;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.phenopackettools.validator.core.ValidationLevel;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
+
+import java.util.*;
+
+/**
+ * The checks of a JSON schema object compiled for a protobuf message {@link Descriptors.Descriptor}.
+ * <p>
+ * The checks follow the semantics of the JSON produced by
+ * {@link org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil#getPrinter()}: a field is present
+ * if it is set to a non-default value, or if it is an enum or boolean field that is always printed.
+ */
+class MessageRules {
+
+    private final Descriptors.Descriptor descriptor;
+    private final List<Descriptors.FieldDescriptor> required = new ArrayList<>();
+    private final List<List<Descriptors.FieldDescriptor>> oneOfs = new ArrayList<>();
+    private final List<FieldRule> fieldRules = new ArrayList<>();
+
+    MessageRules(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    Descriptors.Descriptor descriptor() {
+        return descriptor;
+    }
+
+    void addRequired(Descriptors.FieldDescriptor field) {
+        required.add(field);
+    }
+
+    void addOneOf(List<Descriptors.FieldDescriptor> fields) {
+        oneOfs.add(List.copyOf(fields));
+    }
+
+    void addFieldRule(FieldRule rule) {
+        fieldRules.add(rule);
+    }
+
+    void validate(MessageOrBuilder message, String path, ValidatorInfo info, List<ValidationResult> results) {
+        for (Descriptors.FieldDescriptor field : required) {
+            if (!isPresent(message, field))
+                results.add(missing(info, path, field));
+        }
+
+        for (List<Descriptors.FieldDescriptor> oneOf : oneOfs) {
+            int present = 0;
+            for (Descriptors.FieldDescriptor field : oneOf) {
+                if (isPresent(message, field))
+                    present++;
+            }
+            if (present == 0) {
+                // Each failing alternative is reported, same as by the JSON schema validator.
+                for (Descriptors.FieldDescriptor field : oneOf)
+                    results.add(missing(info, path, field));
+            } else if (present > 1) {
+                results.add(error(info, "oneOf", path,
+                        "'%s' should be valid to one and only one of schema, but more than one are valid", path));
+            }
+        }
+
+        for (FieldRule rule : fieldRules) {
+            rule.validate(message, path, info, results);
+        }
+    }
+
+    private static ValidationResult missing(ValidatorInfo info, String path, Descriptors.FieldDescriptor field) {
+        String child = child(path, field);
+        return error(info, "required", child, "'%s' is missing but it is required", child);
+    }
+
+    private static ValidationResult error(ValidatorInfo info, String category, String path, String template, Object... arguments) {
+        return ValidationResult.templated(info, ValidationLevel.ERROR, category, toJsonPointer(path), template, arguments);
+    }
+
+    /**
+     * Convert the {@code path}, such as {@code phenotypicFeatures[0].type}, into JSON pointer,
+     * such as {@code /phenotypicFeatures/0/type}. The JSON names of the fields need no escaping.
+     */
+    private static String toJsonPointer(String path) {
+        if (path.isEmpty())
+            return path;
+        StringBuilder pointer = new StringBuilder(path.length() + 1).append('/');
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            switch (c) {
+                case '.', '[' -> pointer.append('/');
+                case ']' -> {
+                    // The end of an array index.
+                }
+                default -> pointer.append(c);
+            }
+        }
+        return pointer.toString();
+    }
+
+    static String child(String path, Descriptors.FieldDescriptor field) {
+        return path.isEmpty()
+                ? field.getJsonName()
+                : path + '.' + field.getJsonName();
+    }
+
+    static boolean isPresent(MessageOrBuilder message, Descriptors.FieldDescriptor field) {
+        if (isAlwaysPrinted(field))
+            return true;
+        return field.isRepeated()
+                ? message.getRepeatedFieldCount(field) > 0
+                : message.hasField(field);
+    }
+
+    private static boolean isAlwaysPrinted(Descriptors.FieldDescriptor field) {
+        return switch (field.getJavaType()) {
+            case ENUM, BOOLEAN -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * The checks of a single field.
+     *
+     * @param allowedValues names of the allowed enum values or {@code null} if the values are not restricted
+     * @param minimum       the minimum numeric value or {@code null} if the value is not restricted
+     * @param nested        the checks of the message value or {@code null} if the value is not checked
+     */
+    record FieldRule(Descriptors.FieldDescriptor field,
+                     List<String> allowedValues,
+                     Number minimum,
+                     int minItems,
+                     boolean uniqueItems,
+                     MessageRules nested) {
+
+        private void validate(MessageOrBuilder message, String parent, ValidatorInfo info, List<ValidationResult> results) {
+            if (!isPresent(message, field))
+                return;
+
+            String path = child(parent, field);
+            if (field.isRepeated()) {
+                int count = message.getRepeatedFieldCount(field);
+                if (count < minItems)
+                    results.add(error(info, "minItems", path,
+                            "'%s' there must be a minimum of %d items in the array", path, minItems));
+
+                List<Object> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++)
+                    values.add(message.getRepeatedField(field, i));
+
+                if (uniqueItems && new HashSet<>(values).size() < count)
+                    results.add(error(info, "uniqueItems", path,
+                            "'%s' the items in the array must be unique", path));
+
+                for (int i = 0; i < count; i++)
+                    validateValue(values.get(i), path + '[' + i + ']', info, results);
+            } else {
+                validateValue(message.getField(field), path, info, results);
+            }
+        }
+
+        private void validateValue(Object value, String path, ValidatorInfo info, List<ValidationResult> results) {
+            if (allowedValues != null
+                    && value instanceof Descriptors.EnumValueDescriptor enumValue
+                    && !allowedValues.contains(enumValue.getName()))
+                results.add(error(info, "enum", path,
+                        "'%s' does not have a value in the enumeration %s", path, allowedValues));
+
+            if (minimum != null
+                    && value instanceof Number number
+                    && number.doubleValue() < minimum.doubleValue())
+                results.add(error(info, "minimum", path,
+                        "'%s' must have a minimum value of %s", path, minimum));
+
+            if (nested != null && value instanceof MessageOrBuilder nestedMessage)
+                nested.validate(nestedMessage, path, info, results);
+        }
+    }
+}
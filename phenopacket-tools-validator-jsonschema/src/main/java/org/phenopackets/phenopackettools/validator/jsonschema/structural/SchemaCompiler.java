@@ -0,0 +1,187 @@
+package org.phenopackets.phenopackettools.validator.jsonschema.structural;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Descriptors;
+import org.phenopackets.phenopackettools.validator.core.except.PhenopacketValidatorRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Compile a JSON schema document into {@link MessageRules} for a protobuf message {@link Descriptors.Descriptor}.
+ * <p>
+ * The JSON schema properties are paired with the protobuf fields by the JSON name. The compiler supports
+ * the keywords that can be violated by a valid protobuf message: {@code required}, {@code oneOf} with
+ * {@code required} alternatives, {@code allOf}, {@code enum}, {@code minimum}, {@code minItems}, and {@code uniqueItems}.
+ * The other keywords, such as {@code type} or {@code additionalProperties}, are always satisfied
+ * by a protobuf message and are ignored.
+ * <p>
+ * The {@code $ref}s are resolved relative to the current document or against the classpath
+ * if the {@code classpath:} scheme is used.
+ */
+class SchemaCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaCompiler.class);
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, JsonNode> documents = new HashMap<>();
+    // The same schema node can be compiled for the same descriptor several times, e.g. in case of recursion.
+    private final Map<Descriptors.Descriptor, Map<JsonNode, MessageRules>> compiled = new HashMap<>();
+
+    /**
+     * Compile the JSON schema document at given classpath {@code location} for the message {@code descriptor}.
+     */
+    MessageRules compile(String location, Descriptors.Descriptor descriptor) {
+        return compile(new Schema(location, document(location)), descriptor);
+    }
+
+    private MessageRules compile(Schema schema, Descriptors.Descriptor descriptor) {
+        schema = resolve(schema);
+
+        Map<JsonNode, MessageRules> forDescriptor = compiled.computeIfAbsent(descriptor, d -> new IdentityHashMap<>());
+        MessageRules rules = forDescriptor.get(schema.node());
+        if (rules == null) {
+            rules = new MessageRules(descriptor);
+            // Register before compiling the properties to support recursive schemas.
+            forDescriptor.put(schema.node(), rules);
+            apply(schema, rules);
+        }
+        return rules;
+    }
+
+    private void apply(Schema schema, MessageRules rules) {
+        Descriptors.Descriptor descriptor = rules.descriptor();
+        JsonNode node = schema.node();
+
+        for (JsonNode name : node.path("required")) {
+            Descriptors.FieldDescriptor field = findField(descriptor, name.asText());
+            if (field != null)
+                rules.addRequired(field);
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> properties = node.path("properties").fields(); properties.hasNext(); ) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            Descriptors.FieldDescriptor field = findField(descriptor, property.getKey());
+            if (field != null && !field.isMapField())
+                compileField(field, schema.child(property.getValue()), rules);
+        }
+
+        if (node.has("oneOf")) {
+            List<Descriptors.FieldDescriptor> fields = new ArrayList<>();
+            for (JsonNode alternative : node.get("oneOf")) {
+                if (isRequiredAlternative(alternative)) {
+                    Descriptors.FieldDescriptor field = findField(descriptor, alternative.get("required").get(0).asText());
+                    if (field != null)
+                        fields.add(field);
+                } else {
+                    LOGGER.debug("Skipping unsupported `oneOf` alternative {}", alternative);
+                }
+            }
+            if (!fields.isEmpty())
+                rules.addOneOf(fields);
+        }
+
+        for (JsonNode part : node.path("allOf"))
+            apply(resolve(schema.child(part)), rules);
+    }
+
+    private void compileField(Descriptors.FieldDescriptor field, Schema property, MessageRules rules) {
+        property = resolve(property);
+        JsonNode node = property.node();
+
+        int minItems = 0;
+        boolean uniqueItems = false;
+        Schema value = property;
+        if (field.isRepeated()) {
+            minItems = node.path("minItems").asInt(0);
+            uniqueItems = node.path("uniqueItems").asBoolean(false);
+            if (node.has("items"))
+                value = resolve(property.child(node.get("items")));
+        }
+        JsonNode valueNode = value.node();
+
+        List<String> allowedValues = null;
+        if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.ENUM && valueNode.has("enum")) {
+            allowedValues = new ArrayList<>();
+            for (JsonNode allowed : valueNode.get("enum"))
+                allowedValues.add(allowed.asText());
+            allowedValues = List.copyOf(allowedValues);
+        }
+
+        Number minimum = valueNode.has("minimum")
+                ? valueNode.get("minimum").numberValue()
+                : null;
+
+        MessageRules nested = field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE
+                ? compile(value, field.getMessageType())
+                : null;
+
+        if (allowedValues != null || minimum != null || minItems > 0 || uniqueItems || nested != null)
+            rules.addFieldRule(new MessageRules.FieldRule(field, allowedValues, minimum, minItems, uniqueItems, nested));
+    }
+
+    private static boolean isRequiredAlternative(JsonNode alternative) {
+        return alternative.size() == 1 && alternative.path("required").size() == 1;
+    }
+
+    private static Descriptors.FieldDescriptor findField(Descriptors.Descriptor descriptor, String jsonName) {
+        for (Descriptors.FieldDescriptor field : descriptor.getFields()) {
+            if (field.getJsonName().equals(jsonName))
+                return field;
+        }
+        LOGGER.debug("No field for JSON property {} in {}", jsonName, descriptor.getFullName());
+        return null;
+    }
+
+    /**
+     * Follow the {@code $ref}s until reaching a schema without a reference.
+     */
+    private Schema resolve(Schema schema) {
+        while (schema.node().has("$ref")) {
+            String ref = schema.node().get("$ref").asText();
+            int hash = ref.indexOf('#');
+            String location = hash < 0 ? ref : ref.substring(0, hash);
+            String pointer = hash < 0 ? "" : ref.substring(hash + 1);
+
+            String document = location.isEmpty()
+                    ? schema.document()
+                    : location.substring(CLASSPATH_PREFIX.length());
+            JsonNode target = document(document).at(pointer);
+            if (target.isMissingNode())
+                throw new PhenopacketValidatorRuntimeException("Unable to resolve JSON schema reference " + ref);
+            schema = new Schema(document, target);
+        }
+        return schema;
+    }
+
+    private JsonNode document(String location) {
+        return documents.computeIfAbsent(location, this::readDocument);
+    }
+
+    private JsonNode readDocument(String location) {
+        if (!location.startsWith("/"))
+            throw new PhenopacketValidatorRuntimeException("Unsupported JSON schema location " + location);
+        try (InputStream is = SchemaCompiler.class.getResourceAsStream(location)) {
+            if (is == null)
+                throw new PhenopacketValidatorRuntimeException("Missing JSON schema document " + location);
+            return objectMapper.readTree(is);
+        } catch (IOException e) {
+            throw new PhenopacketValidatorRuntimeException("Invalid JSON schema specification: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A schema {@code node} located in a {@code document}.
+     */
+    private record Schema(String document, JsonNode node) {
+
+        private Schema child(JsonNode node) {
+            return new Schema(document, node);
+        }
+    }
+}
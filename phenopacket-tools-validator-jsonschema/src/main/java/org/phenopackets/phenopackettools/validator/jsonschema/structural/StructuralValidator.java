@@ -0,0 +1,41 @@
+package org.phenopackets.phenopackettools.validator.jsonschema.structural;
+
+import com.google.protobuf.MessageOrBuilder;
+import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidatorCost;
+import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link PhenopacketValidator} that checks the base requirements of the Phenopacket schema by applying
+ * the {@link MessageRules} compiled from the bundled JSON schema directly to the protobuf message.
+ */
+class StructuralValidator<T extends MessageOrBuilder> implements PhenopacketValidator<T> {
+
+    private final MessageRules rules;
+
+    StructuralValidator(MessageRules rules) {
+        this.rules = Objects.requireNonNull(rules);
+    }
+
+    @Override
+    public ValidatorInfo validatorInfo() {
+        return ValidatorInfo.baseSyntaxValidation();
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.LOW;
+    }
+
+    @Override
+    public List<ValidationResult> validate(T component) {
+        List<ValidationResult> results = new ArrayList<>();
+        rules.validate(component, "", validatorInfo(), results);
+        return results;
+    }
+}
@@ -0,0 +1,86 @@
+package org.phenopackets.phenopackettools.validator.jsonschema.structural;
+
+import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.CohortOrBuilder;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.FamilyOrBuilder;
+import org.phenopackets.schema.v2.Phenopacket;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+/**
+ * Static factory class for providing {@link PhenopacketValidator}s for checking the base requirements
+ * of the Phenopacket schema directly on the protobuf messages, without converting the messages to JSON.
+ * <p>
+ * The validators are compiled from the same JSON schema documents that are used by the base validation
+ * of {@link org.phenopackets.phenopackettools.validator.jsonschema.JsonSchemaValidationWorkflowRunner},
+ * and they report the same {@link org.phenopackets.phenopackettools.validator.core.ValidationResult} categories
+ * and messages. The schemas are compiled once, when a validator is requested for the first time.
+ */
+public class StructuralValidators {
+
+    private static final String SCHEMA_DIR = "/org/phenopackets/phenopackettools/validator/jsonschema/v2/";
+
+    private static volatile SchemaCompiler COMPILER = null;
+    private static volatile PhenopacketValidator<PhenopacketOrBuilder> PHENOPACKET_VALIDATOR = null;
+    private static volatile PhenopacketValidator<FamilyOrBuilder> FAMILY_VALIDATOR = null;
+    private static volatile PhenopacketValidator<CohortOrBuilder> COHORT_VALIDATOR = null;
+
+    private StructuralValidators() {
+    }
+
+    /**
+     * Get {@link PhenopacketValidator} for checking the base requirements of {@link PhenopacketOrBuilder}.
+     *
+     * @return the validator
+     */
+    public static PhenopacketValidator<PhenopacketOrBuilder> phenopacketValidator() {
+        if (PHENOPACKET_VALIDATOR == null) {
+            synchronized (StructuralValidators.class) {
+                if (PHENOPACKET_VALIDATOR == null)
+                    PHENOPACKET_VALIDATOR = new StructuralValidator<>(compiler().compile(SCHEMA_DIR + "phenopacket-schema.json", Phenopacket.getDescriptor()));
+            }
+        }
+        return PHENOPACKET_VALIDATOR;
+    }
+
+    /**
+     * Get {@link PhenopacketValidator} for checking the base requirements of {@link FamilyOrBuilder}.
+     *
+     * @return the validator
+     */
+    public static PhenopacketValidator<FamilyOrBuilder> familyValidator() {
+        if (FAMILY_VALIDATOR == null) {
+            synchronized (StructuralValidators.class) {
+                if (FAMILY_VALIDATOR == null)
+                    FAMILY_VALIDATOR = new StructuralValidator<>(compiler().compile(SCHEMA_DIR + "family-schema.json", Family.getDescriptor()));
+            }
+        }
+        return FAMILY_VALIDATOR;
+    }
+
+    /**
+     * Get {@link PhenopacketValidator} for checking the base requirements of {@link CohortOrBuilder}.
+     *
+     * @return the validator
+     */
+    public static PhenopacketValidator<CohortOrBuilder> cohortValidator() {
+        if (COHORT_VALIDATOR == null) {
+            synchronized (StructuralValidators.class) {
+                if (COHORT_VALIDATOR == null)
+                    COHORT_VALIDATOR = new StructuralValidator<>(compiler().compile(SCHEMA_DIR + "cohort-schema.json", Cohort.getDescriptor()));
+            }
+        }
+        return COHORT_VALIDATOR;
+    }
+
+    /**
+     * The compiler is shared to compile the schemas referenced by several top-level elements only once.
+     * Must be called while holding the lock.
+     */
+    private static SchemaCompiler compiler() {
+        if (COMPILER == null)
+            COMPILER = new SchemaCompiler();
+        return COMPILER;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * A package with {@link org.phenopackets.phenopackettools.validator.jsonschema.structural.StructuralValidators},
+ * the validators for checking the base requirements of the Phenopacket schema directly on the protobuf messages.
+ */
+package org.phenopackets.phenopackettools.validator.jsonschema.structural;
@@ -2,6 +2,7 @@ package org.phenopackets.phenopackettools.validator.jsonschema.v2;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
@@ -9,8 +10,15 @@ import org.phenopackets.phenopackettools.validator.core.ValidatorInfo;
 import org.phenopackets.phenopackettools.validator.core.except.PhenopacketValidatorRuntimeException;
 import org.phenopackets.phenopackettools.validator.jsonschema.impl.JsonSchemaValidator;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Static utility class that contains logic for configuring a {@link JsonSchemaValidator} from an {@link InputStream}
@@ -21,12 +29,25 @@ public class JsonSchemaValidatorConfigurer {
     private static final String PHENOPACKET_SCHEMA_PATH = "phenopacket-schema.json";
     private static final String FAMILY_SCHEMA_PATH = "family-schema.json";
     private static final String COHORT_SCHEMA_PATH = "cohort-schema.json";
+    private static final String COHORT_HEADER_SCHEMA_ID = "https://www.ga4gh.org/phenopackets/cohort-header";
 
     /**
      * The latest version of the spec that is supported by our JSON SCHEMA library is 2019/09.
      */
     private static final SpecVersion.VersionFlag VERSION_FLAG = SpecVersion.VersionFlag.V201909;
 
+    /**
+     * The maximum number of validators compiled from custom JSON schema documents that are kept in the cache.
+     */
+    private static final int SCHEMA_CACHE_SIZE = 64;
+    // Access-ordered map evicting the least recently used validator. Guarded by the map's monitor.
+    private static final Map<String, JsonSchemaValidator> SCHEMA_CACHE = new LinkedHashMap<>(16, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JsonSchemaValidator> eldest) {
+            return size() > SCHEMA_CACHE_SIZE;
+        }
+    };
+
     private static volatile ObjectMapper OBJECT_MAPPER = null;
     private static volatile JsonSchemaFactory SCHEMA_FACTORY = null;
 
@@ -34,6 +55,7 @@ public class JsonSchemaValidatorConfigurer {
     private static volatile JsonSchemaValidator BASE_PHENOPACKET_VALIDATOR = null;
     private static volatile JsonSchemaValidator BASE_FAMILY_VALIDATOR = null;
     private static volatile JsonSchemaValidator BASE_COHORT_VALIDATOR = null;
+    private static volatile JsonSchemaValidator BASE_COHORT_HEADER_VALIDATOR = null;
 
     private JsonSchemaValidatorConfigurer() {
         // static utility class
@@ -44,6 +66,49 @@ public class JsonSchemaValidatorConfigurer {
         return configureSingletonSchemaValidator(jsonSchemaAndInfo);
     }
 
+    /**
+     * Configure {@link JsonSchemaValidator} from the JSON schema document available at given {@code url}.
+     * <p>
+     * The compiled validators are cached process-wide, keyed by the URL and by the digest of the document content.
+     * Therefore, the document is compiled again only if its content has changed.
+     * The cache holds at most {@value #SCHEMA_CACHE_SIZE} validators and evicts the least recently used ones.
+     *
+     * @param url URL of the JSON schema document
+     * @return the validator
+     * @throws IOException if the document cannot be read or if it is not a valid JSON
+     */
+    public static JsonSchemaValidator configureJsonSchemaValidator(URL url) throws IOException {
+        byte[] content;
+        try (InputStream is = url.openStream()) {
+            content = is.readAllBytes();
+        }
+        String key = url + "#" + digest(content);
+
+        JsonSchemaValidator validator;
+        synchronized (SCHEMA_CACHE) {
+            validator = SCHEMA_CACHE.get(key);
+        }
+        if (validator == null) {
+            // Compile outside the lock to allow compiling several documents concurrently.
+            validator = configureJsonSchemaValidator(new ByteArrayInputStream(content));
+            synchronized (SCHEMA_CACHE) {
+                JsonSchemaValidator present = SCHEMA_CACHE.putIfAbsent(key, validator);
+                if (present != null)
+                    validator = present;
+            }
+        }
+        return validator;
+    }
+
+    /**
+     * Remove all validators compiled from custom JSON schema documents from the cache.
+     */
+    public static void clearSchemaCache() {
+        synchronized (SCHEMA_CACHE) {
+            SCHEMA_CACHE.clear();
+        }
+    }
+
     public static JsonSchemaValidator getBasePhenopacketValidator() {
         if (BASE_PHENOPACKET_VALIDATOR == null) { // double-check locking
             synchronized (JsonSchemaValidatorConfigurer.class) {
@@ -80,11 +145,37 @@ public class JsonSchemaValidatorConfigurer {
         return BASE_COHORT_VALIDATOR;
     }
 
+    /**
+     * Get a validator for the base requirements of a cohort whose {@code members} are validated separately,
+     * e.g. one by one while streaming a large cohort. The validator checks the presence and the size
+     * of the {@code members} array but not the members themselves.
+     */
+    public static JsonSchemaValidator getBaseCohortHeaderValidator() {
+        if (BASE_COHORT_HEADER_VALIDATOR == null) {
+            synchronized (JsonSchemaValidatorConfigurer.class) {
+                if (BASE_COHORT_HEADER_VALIDATOR == null) {
+                    BASE_COHORT_HEADER_VALIDATOR = configureSingletonSchemaValidator(cohortHeaderJsonSchemaAndInfo());
+                }
+            }
+        }
+
+        return BASE_COHORT_HEADER_VALIDATOR;
+    }
+
     private static JsonSchemaValidator configureSingletonSchemaValidator(JsonSchemaNodeAndInfo schemaAndInfo) {
         JsonSchema schema = getJsonSchemaFactory().getSchema(schemaAndInfo.node());
         return new JsonSchemaValidator(schema, schemaAndInfo.info());
     }
 
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 must be supported by every Java platform.
+            throw new PhenopacketValidatorRuntimeException(e);
+        }
+    }
+
     private static JsonSchemaFactory getJsonSchemaFactory() {
         if (SCHEMA_FACTORY == null) { // double-check locking
             synchronized (JsonSchemaValidatorConfigurer.class) {
@@ -143,6 +234,18 @@ public class JsonSchemaValidatorConfigurer {
         }
     }
 
+    /**
+     * @return {@link JsonSchemaNodeAndInfo} for validating basic requirements of Phenopacket schema on
+     * {@link org.phenopackets.schema.v2.CohortOrBuilder} without validating the members.
+     */
+    private static JsonSchemaNodeAndInfo cohortHeaderJsonSchemaAndInfo() {
+        JsonSchemaNodeAndInfo cohort = cohortJsonSchemaAndInfo();
+        ObjectNode schemaNode = (ObjectNode) cohort.node();
+        schemaNode.put("$id", COHORT_HEADER_SCHEMA_ID);
+        ((ObjectNode) schemaNode.get("properties").get("members")).remove("items");
+        return new JsonSchemaNodeAndInfo(schemaNode, cohort.info());
+    }
+
     private static JsonSchemaNodeAndInfo readSchemaAndInfo(InputStream is) throws IOException {
         JsonNode schemaNode = readJsonSchemaNode(is);
         ValidatorInfo validatorInfo = decodeValidatorInfo(schemaNode);
@@ -2,11 +2,13 @@ package org.phenopackets.phenopackettools.validator.jsonschema;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.google.protobuf.MessageOrBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.monarchinitiative.phenol.io.OntologyLoader;
@@ -24,11 +26,16 @@ import org.phenopackets.schema.v2.Phenopacket;
 import org.phenopackets.schema.v2.PhenopacketOrBuilder;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -66,6 +73,174 @@ public class JsonSchemaValidationWorkflowRunnerTest {
             assertThat(actual, hasItems(expected));
             assertThat(actual, hasSize(2));
         }
+
+        @Test
+        public void timingsAreRecordedOnlyIfRequested() {
+            String json = "{}";
+            ValidationResults results = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .build()
+                    .validate(json);
+            assertThat(results.timings(), is(empty()));
+
+            results = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .recordTimings(true)
+                    .build()
+                    .validate(json);
+            List<String> validators = results.timings().stream().map(t -> t.validatorInfo().validatorId()).toList();
+            assertThat(validators, contains("BaseValidator", "MetaDataValidator"));
+            assertThat(results.timings().stream().mapToInt(ValidatorTiming::resultCount).sum(), equalTo(results.validationResults().size()));
+            assertThat(results.timings().get(0).inputSize(), equalTo(json.length()));
+        }
+
+        @Test
+        public void yamlInputYieldsSameResultsAsJson() throws Exception {
+            JsonNode node = TAMPERER.tamper(MAPPER.readTree(TestData.BETHLEM_MYOPATHY_PHENOPACKET_JSON.toFile()), "/subject/id", Action.delete());
+            String json = node.toString();
+            String yaml = new YAMLMapper().writeValueAsString(node);
+            JsonSchemaValidationWorkflowRunner<PhenopacketOrBuilder> runner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .build();
+
+            List<ValidationResult> expected = runner.validate(json).validationResults();
+
+            assertThat(expected, is(not(empty())));
+            assertThat(runner.validate(yaml).validationResults(), equalTo(expected));
+            assertThat(runner.validate(yaml.getBytes(StandardCharsets.UTF_8)).validationResults(), equalTo(expected));
+        }
+
+        @Test
+        public void requirementSchemasAreReadOnTheProvidedExecutorInOrder(@TempDir Path tempDir) throws Exception {
+            List<Path> schemas = new ArrayList<>();
+            for (String id : List.of("first", "second", "third")) {
+                Path schema = tempDir.resolve(id + ".json");
+                Files.writeString(schema, """
+                        {
+                          "$schema": "https://json-schema.org/draft/2019-09/schema",
+                          "$id": "https://example.org/%s.json",
+                          "title": "Custom schema",
+                          "description": "Require the subject",
+                          "type": "object",
+                          "required": ["subject"]
+                        }
+                        """.formatted(id));
+                schemas.add(schema);
+            }
+            AtomicInteger tasks = new AtomicInteger();
+            Executor executor = command -> {
+                tasks.incrementAndGet();
+                command.run();
+            };
+
+            JsonSchemaValidationWorkflowRunner<PhenopacketOrBuilder> runner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .addAllJsonSchemaPaths(schemas)
+                    .schemaLoadingExecutor(executor)
+                    .build();
+
+            assertThat(tasks.get(), equalTo(3));
+            List<String> actual = runner.validators().stream().map(ValidatorInfo::validatorId).toList();
+            assertThat(actual, contains("BaseValidator", "MetaDataValidator",
+                    "https://example.org/first.json", "https://example.org/second.json", "https://example.org/third.json"));
+        }
+
+        @Test
+        public void malformedYamlIsReportedAsInputError() {
+            String yaml = "id: example\nsubject:\n  id: [unclosed\n";
+
+            ValidationResults results = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .build()
+                    .validate(yaml);
+
+            assertThat(results.validationResults(), hasSize(1));
+            assertThat(results.validationResults().get(0).category(), equalTo("input"));
+        }
+    }
+
+    /**
+     * Check that the {@link ValidationPolicy} is respected.
+     */
+    @Nested
+    public class ValidationPolicyTest {
+
+        private static final String EMPTY_PHENOPACKET = "{}";
+
+        private CountingValidator counting;
+
+        @BeforeEach
+        public void setUp() {
+            counting = new CountingValidator();
+        }
+
+        @Test
+        public void exhaustivePolicyRunsAllValidators() {
+            ValidationWorkflowRunner<PhenopacketOrBuilder> runner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .addValidator(counting)
+                    .build();
+
+            ValidationResults results = runner.validate(EMPTY_PHENOPACKET);
+
+            assertThat(counting.count, equalTo(1));
+            assertThat(results.validationResults(), hasSize(greaterThan(1)));
+            assertThat(results.skippedValidators(), is(empty()));
+        }
+
+        @Test
+        public void failFastStopsAtFirstError() {
+            ValidationWorkflowRunner<PhenopacketOrBuilder> runner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .validationPolicy(ValidationPolicy.failFast())
+                    .addValidator(counting)
+                    .build();
+
+            ValidationResults results = runner.validate(EMPTY_PHENOPACKET);
+
+            assertThat(counting.count, equalTo(0));
+            assertThat(results.validationResults(), hasSize(1));
+            assertThat(results.validationResults().get(0).level(), equalTo(ValidationLevel.ERROR));
+            List<String> skipped = results.skippedValidators().stream().map(ValidatorInfo::validatorId).toList();
+            assertThat(skipped, containsInAnyOrder("MetaDataValidator", "CountingValidator"));
+        }
+
+        @Test
+        public void errorBudgetLimitsTheNumberOfResults() {
+            ValidationWorkflowRunner<PhenopacketOrBuilder> runner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .validationPolicy(ValidationPolicy.errorBudget(2))
+                    .addValidator(counting)
+                    .build();
+
+            ValidationResults results = runner.validate(EMPTY_PHENOPACKET);
+
+            assertThat(results.validationResults(), hasSize(2));
+            assertThat(counting.count, equalTo(0));
+        }
+
+        @Test
+        public void semanticValidatorsAreSkippedOnBaseErrors() {
+            ValidationWorkflowRunner<PhenopacketOrBuilder> runner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder()
+                    .validationPolicy(ValidationPolicy.skipSemanticOnSyntaxErrors())
+                    .addValidator(counting)
+                    .build();
+
+            ValidationResults results = runner.validate(EMPTY_PHENOPACKET);
+
+            assertThat(counting.count, equalTo(0));
+            List<String> skipped = results.skippedValidators().stream().map(ValidatorInfo::validatorId).toList();
+            assertThat(skipped, contains("CountingValidator"));
+        }
+
+        private static class CountingValidator implements PhenopacketValidator<PhenopacketOrBuilder> {
+
+            private static final ValidatorInfo INFO = ValidatorInfo.of("CountingValidator", "Counting validator", "Counts the validations");
+            private int count = 0;
+
+            @Override
+            public ValidatorInfo validatorInfo() {
+                return INFO;
+            }
+
+            @Override
+            public List<ValidationResult> validate(PhenopacketOrBuilder component) {
+                count++;
+                return List.of();
+            }
+        }
     }
 
     /**
@@ -640,6 +815,9 @@ public class JsonSchemaValidationWorkflowRunnerTest {
 
             // A message targeted for the user.
             String message = issue.message();
+
+            // A JSON pointer to the offending element, if known, e.g. `/subject/id`.
+            Optional<String> location = issue.location();
         }
 
         @Test
@@ -0,0 +1,119 @@
+package org.phenopackets.phenopackettools.validator.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.phenopackets.phenopackettools.core.PhenopacketFormat;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.core.ValidationResults;
+import org.phenopackets.phenopackettools.validator.jsonschema.v2.JsonSchemaValidatorConfigurer;
+import org.phenopackets.schema.v2.PhenopacketOrBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StreamingCohortValidatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonSchemaValidationWorkflowRunner<PhenopacketOrBuilder> memberRunner;
+    private StreamingCohortValidator validator;
+
+    @BeforeEach
+    public void setUp() {
+        memberRunner = JsonSchemaValidationWorkflowRunner.phenopacketBuilder().build();
+        validator = StreamingCohortValidator.of(memberRunner);
+    }
+
+    @Test
+    public void membersAreValidatedByMemberRunner() throws Exception {
+        ObjectNode cohort = readExampleCohort();
+        // Add a member without `id` to get some member errors.
+        ObjectNode member = ((ObjectNode) cohort.get("members").get(0)).deepCopy();
+        member.remove("id");
+        cohort.withArray("members").add(member);
+
+        Map<Integer, List<ValidationResult>> actual = new TreeMap<>();
+        List<String> memberIds = new ArrayList<>();
+        validator.validate(stream(cohort), PhenopacketFormat.JSON, (index, memberId, results) -> {
+            actual.put(index, results.validationResults());
+            memberIds.add(memberId);
+        });
+
+        assertThat(memberIds, equalTo(List.of(cohort.at("/members/0/id").asText(), "")));
+        assertThat(actual.keySet(), contains(0, 1));
+        for (int i = 0; i < cohort.get("members").size(); i++) {
+            List<ValidationResult> expected = memberRunner.validate(cohort.get("members").get(i).toString()).validationResults();
+            assertThat(actual.get(i), equalTo(expected));
+        }
+        assertThat(actual.get(1).stream().map(ValidationResult::category).toList(), hasItem("required"));
+    }
+
+    @Test
+    public void cohortLevelResultsMatchFullCohortValidation() throws Exception {
+        ObjectNode cohort = readExampleCohort();
+        // Drop HPO from the cohort `metaData` to get the errors for the phenotypic features of the members.
+        Iterator<JsonNode> resources = cohort.withArray("/metaData/resources").elements();
+        while (resources.hasNext()) {
+            if (resources.next().path("namespacePrefix").asText().equals("HP"))
+                resources.remove();
+        }
+
+        ValidationResults actual = validator.validate(stream(cohort), PhenopacketFormat.JSON, (index, memberId, results) -> {});
+
+        ValidationResults full = JsonSchemaValidationWorkflowRunner.cohortBuilder()
+                .build()
+                .validate(cohort.toString());
+        // The streaming validation reports each offending ontology class ID only once.
+        List<ValidationResult> expected = List.copyOf(new LinkedHashSet<>(full.validationResults()));
+        assertThat(actual.validationResults(), is(not(empty())));
+        assertThat(actual.validationResults(), equalTo(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"id", "metaData", "members", "empty-members"})
+    public void headerResultsMatchBaseCohortValidation(String tampered) throws Exception {
+        ObjectNode cohort = readExampleCohort();
+        if (tampered.equals("empty-members"))
+            cohort.putArray("members");
+        else
+            cohort.remove(tampered);
+
+        ValidationResults actual = validator.validate(stream(cohort), PhenopacketFormat.JSON, (index, memberId, results) -> {});
+
+        List<ValidationResult> expected = JsonSchemaValidatorConfigurer.getBaseCohortValidator().validate(cohort);
+        assertThat(expected, is(not(empty())));
+        assertThat(actual.validationResults(), hasItems(expected.toArray(ValidationResult[]::new)));
+    }
+
+    @Test
+    public void malformedDocumentIsReportedAsInputError() throws Exception {
+        String json = "{\"id\": \"cohort\", \"members\": [{\"id\": \"a\"";
+        InputStream is = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+        ValidationResults results = validator.validate(is, PhenopacketFormat.JSON, (index, memberId, r) -> {});
+
+        assertThat(results.validationResults(), hasSize(1));
+        assertThat(results.validationResults().get(0).category(), equalTo("input"));
+        assertThat(results.skippedValidators(), hasSize(2));
+    }
+
+    private static ObjectNode readExampleCohort() throws IOException {
+        return (ObjectNode) MAPPER.readTree(Files.readString(TestData.EXAMPLE_COHORT_JSON));
+    }
+
+    private static InputStream stream(JsonNode node) {
+        return new ByteArrayInputStream(node.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -57,6 +57,7 @@ public class JsonSchemaValidatorTest {
             ValidationResult error = errors.get(0);
             Assertions.assertEquals("required", error.category());
             assertEquals("'id' is missing but it is required", error.message());
+            assertEquals("/id", error.location().orElseThrow());
         }
 
         /**
@@ -131,9 +132,38 @@ public class JsonSchemaValidatorTest {
             ValidationResult error = errors.get(0);
             assertEquals("enum", error.category());
             assertEquals("'subject.sex' does not have a value in the enumeration [UNKNOWN_SEX, FEMALE, MALE, OTHER_SEX]", error.message());
+            assertEquals("/subject/sex", error.location().orElseThrow());
             assertEquals(ValidationLevel.ERROR, error.level());
         }
 
+        @Test
+        public void locationPointsToArrayElementsAndUnexpectedProperties() throws JsonProcessingException {
+            String invalidJson = """
+                {
+                  "id": "id-C",
+                  "phenotypicFeatures": [{"type": {"id": "HP:0001250", "label": "Seizure"}}, {"excluded": true}],
+                  "disney": "donald"
+                }""";
+
+            List<ValidationResult> errors = validator.validate(MAPPER.readTree(invalidJson));
+
+            List<String> locations = errors.stream().map(e -> e.location().orElseThrow()).toList();
+            assertTrue(locations.contains("/phenotypicFeatures/1/type"), locations::toString);
+            assertTrue(locations.contains("/disney"), locations::toString);
+            assertTrue(locations.contains("/metaData"), locations::toString);
+        }
+
+        @Test
+        public void errorOfTheRootElementIsNotDropped() throws JsonProcessingException {
+            List<ValidationResult> errors = validator.validate(MAPPER.readTree("[]"));
+
+            assertEquals(1, errors.size());
+            ValidationResult error = errors.get(0);
+            assertEquals("type", error.category());
+            assertEquals("array found, object expected", error.message());
+            assertEquals("", error.location().orElseThrow());
+        }
+
         @Test
         @Disabled // TODO - we should rework the testing strategy to invalidate a valid phenopacket and check that it raises the expected error
         public void testRareDiseaseBethlemahmInvalidValidPhenopacket() throws IOException {
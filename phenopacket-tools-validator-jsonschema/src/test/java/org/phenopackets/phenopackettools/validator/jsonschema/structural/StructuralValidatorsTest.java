@@ -0,0 +1,137 @@
+package org.phenopackets.phenopackettools.validator.jsonschema.structural;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.phenopackets.phenopackettools.test.synthetic.SyntheticDataGenerator;
+import org.phenopackets.phenopackettools.util.print.PhenopacketPrintUtil;
+import org.phenopackets.phenopackettools.validator.core.PhenopacketValidator;
+import org.phenopackets.phenopackettools.validator.core.ValidationResult;
+import org.phenopackets.phenopackettools.validator.jsonschema.Action;
+import org.phenopackets.phenopackettools.validator.jsonschema.JsonTamperer;
+import org.phenopackets.phenopackettools.validator.jsonschema.TestData;
+import org.phenopackets.phenopackettools.validator.jsonschema.impl.JsonSchemaValidator;
+import org.phenopackets.phenopackettools.validator.jsonschema.v2.JsonSchemaValidatorConfigurer;
+import org.phenopackets.schema.v2.Cohort;
+import org.phenopackets.schema.v2.Family;
+import org.phenopackets.schema.v2.Phenopacket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Check that the structural validators report the same results as the JSON schema base validation.
+ */
+public class StructuralValidatorsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonTamperer TAMPERER = new JsonTamperer();
+
+    @Test
+    public void validExamplesPass() throws Exception {
+        Phenopacket bethlem = read(TestData.BETHLEM_MYOPATHY_PHENOPACKET_JSON, Phenopacket.newBuilder());
+        Phenopacket retinoblastoma = read(TestData.RETINOBLASTOMA_PHENOPACKET_JSON, Phenopacket.newBuilder());
+        Family family = read(TestData.EXAMPLE_FAMILY_JSON, Family.newBuilder());
+        Cohort cohort = read(TestData.EXAMPLE_COHORT_JSON, Cohort.newBuilder());
+
+        assertThat(StructuralValidators.phenopacketValidator().validate(bethlem), is(empty()));
+        assertThat(StructuralValidators.phenopacketValidator().validate(retinoblastoma), is(empty()));
+        assertThat(StructuralValidators.familyValidator().validate(family), is(empty()));
+        assertThat(StructuralValidators.cohortValidator().validate(cohort), is(empty()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/id,                                                                DELETE",
+            "/metaData,                                                          DELETE",
+            "/subject/id,                                                        DELETE",
+            "/phenotypicFeatures[0]/type,                                        DELETE",
+            "/phenotypicFeatures[1]/type/label,                                  DELETE",
+            "/phenotypicFeatures[0]/onset/gestationalAge,                        DELETE",
+            "/phenotypicFeatures[0]/onset/gestationalAge/weeks,                  SET[-1]",
+            "/phenotypicFeatures[2]/onset/ageRange/start,                        DELETE",
+            "/measurements[0]/assay,                                             DELETE",
+            "/biosamples[0]/id,                                                  DELETE",
+            "/interpretations[0]/id,                                             DELETE",
+            "/interpretations[0]/diagnosis/disease,                              DELETE",
+            "/interpretations[0]/diagnosis/genomicInterpretations[0]/subjectOrBiosampleId, DELETE",
+            "/diseases[0]/term,                                                  DELETE",
+            "/phenotypicFeatures[3]/type/id,                                     DELETE",
+            "/metaData/created,                                                  DELETE",
+            "/metaData/resources[0]/namespacePrefix,                             DELETE",
+    })
+    public void tamperedPhenopacketYieldsSameResultsAsJsonSchema(String path, String action) throws Exception {
+        JsonNode node = readNode(TestData.BETHLEM_MYOPATHY_PHENOPACKET_JSON);
+        JsonNode tampered = TAMPERER.tamper(node, path, Action.valueOf(action));
+        Phenopacket phenopacket = parse(tampered.toString(), Phenopacket.newBuilder());
+
+        Set<String> expected = summarize(JsonSchemaValidatorConfigurer.getBasePhenopacketValidator(), phenopacket);
+        Set<String> actual = summarize(StructuralValidators.phenopacketValidator(), phenopacket);
+
+        assertThat(expected, is(not(empty())));
+        assertThat(actual, equalTo(expected));
+    }
+
+    @Test
+    public void syntheticDataYieldsSameResultsAsJsonSchema() throws Exception {
+        SyntheticDataGenerator generator = SyntheticDataGenerator.builder()
+                .seed(11)
+                .biosamples(1)
+                .errorRate(.5)
+                .build();
+
+        List<Phenopacket> phenopackets = generator.phenopackets(100).toList();
+        for (Phenopacket phenopacket : phenopackets) {
+            assertThat(summarize(StructuralValidators.phenopacketValidator(), phenopacket),
+                    equalTo(summarize(JsonSchemaValidatorConfigurer.getBasePhenopacketValidator(), phenopacket)));
+        }
+
+        Cohort cohort = generator.cohort("cohort", 100);
+        assertThat(summarize(StructuralValidators.cohortValidator(), cohort),
+                equalTo(summarize(JsonSchemaValidatorConfigurer.getBaseCohortValidator(), cohort)));
+    }
+
+    private static <T extends MessageOrBuilder> Set<String> summarize(PhenopacketValidator<T> validator, T message) {
+        return summarize(validator.validate(message));
+    }
+
+    private static Set<String> summarize(JsonSchemaValidator validator, MessageOrBuilder message) throws Exception {
+        String json = PhenopacketPrintUtil.getPrinter().print(message);
+        return summarize(validator.validate(MAPPER.readTree(json)));
+    }
+
+    private static Set<String> summarize(List<ValidationResult> results) {
+        return results.stream()
+                .map(r -> "%s|%s|%s|%s|%s".formatted(r.validatorInfo().validatorId(), r.level(), r.category(), r.message(), r.location().orElse(null)))
+                .collect(Collectors.toSet());
+    }
+
+    private static JsonNode readNode(Path path) throws IOException {
+        try (InputStream is = Files.newInputStream(path)) {
+            return MAPPER.readTree(is);
+        }
+    }
+
+    private static <T extends Message> T read(Path path, Message.Builder builder) throws IOException {
+        return parse(Files.readString(path), builder);
+    }
+
+    private static <T extends Message> T parse(String json, Message.Builder builder) throws InvalidProtocolBufferException {
+        PhenopacketPrintUtil.getParser().merge(json, builder);
+        //noinspection unchecked
+        return (T) builder.build();
+    }
+}
@@ -0,0 +1,74 @@
+package org.phenopackets.phenopackettools.validator.jsonschema.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phenopackets.phenopackettools.validator.jsonschema.impl.JsonSchemaValidator;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JsonSchemaValidatorConfigurerTest {
+
+    private static final String SCHEMA = """
+            {
+              "$schema": "https://json-schema.org/draft/2019-09/schema",
+              "$id": "https://example.org/%s.json",
+              "title": "Custom schema",
+              "description": "Require the subject",
+              "type": "object",
+              "required": ["subject"]
+            }
+            """;
+
+    @TempDir
+    public Path tempDir;
+
+    @BeforeEach
+    public void setUp() {
+        JsonSchemaValidatorConfigurer.clearSchemaCache();
+    }
+
+    @Test
+    public void compiledSchemaIsReusedForTheSameUrlAndContent() throws IOException {
+        URL url = writeSchema("custom.json", "custom-schema");
+
+        JsonSchemaValidator first = JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(url);
+        JsonSchemaValidator second = JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(url);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(first.validatorInfo().validatorId(), equalTo("https://example.org/custom-schema.json"));
+    }
+
+    @Test
+    public void schemaIsCompiledAgainWhenTheContentChanges() throws IOException {
+        URL url = writeSchema("custom.json", "custom-schema");
+        JsonSchemaValidator first = JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(url);
+
+        writeSchema("custom.json", "updated-schema");
+        JsonSchemaValidator second = JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(url);
+
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second.validatorInfo().validatorId(), equalTo("https://example.org/updated-schema.json"));
+    }
+
+    @Test
+    public void schemaWithTheSameContentAtDifferentUrlIsCompiledSeparately() throws IOException {
+        URL a = writeSchema("a.json", "custom-schema");
+        URL b = writeSchema("b.json", "custom-schema");
+
+        assertThat(JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(a),
+                is(not(sameInstance(JsonSchemaValidatorConfigurer.configureJsonSchemaValidator(b)))));
+    }
+
+    private URL writeSchema(String name, String id) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.writeString(path, SCHEMA.formatted(id));
+        return path.toUri().toURL();
+    }
+}